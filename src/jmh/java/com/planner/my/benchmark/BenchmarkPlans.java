@@ -0,0 +1,146 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.PlannerApplication;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.MonthlyPlan;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.entity.YearlyPlan;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 벤치마크에서 공통으로 사용하는 테스트 데이터와 애플리케이션 컨텍스트를 만듭니다.
+ */
+final class BenchmarkPlans {
+
+    static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final PlanStatus[] STATUSES = PlanStatus.values();
+
+    private BenchmarkPlans() {
+    }
+
+    /**
+     * 웹 서버 없이 벤치마크마다 독립된 인메모리 H2 데이터베이스로 애플리케이션 컨텍스트를 시작합니다.
+     */
+    static ConfigurableApplicationContext startContext() {
+        return new SpringApplicationBuilder(PlannerApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID(),
+                        "planner.sql-log.enabled=false",
+                        "spring.h2.console.enabled=false",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    /**
+     * 기준일부터 하루에 perDay개씩 days일 동안의 일간 계획을 만듭니다.
+     */
+    static List<DailyPlan> dailyPlans(int days, int perDay) {
+        List<DailyPlan> plans = new ArrayList<>(days * perDay);
+        int order = 0;
+        for (int day = 0; day < days; day++) {
+            for (int i = 0; i < perDay; i++) {
+                plans.add(DailyPlan.builder()
+                        .id((long) order + 1)
+                        .title("Daily plan " + order)
+                        .description("Benchmark description for daily plan " + order)
+                        .planDate(BASE_DATE.plusDays(day))
+                        .priority(PRIORITIES[order % PRIORITIES.length])
+                        .status(STATUSES[order % STATUSES.length])
+                        .displayOrder(order++)
+                        .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                        .build());
+            }
+        }
+        return plans;
+    }
+
+    /**
+     * 기준일이 속한 주부터 weeks주 동안 한 주에 perWeek개씩의 주간 계획을 만듭니다.
+     */
+    static List<WeeklyPlan> weeklyPlans(int weeks, int perWeek) {
+        LocalDate firstMonday = BASE_DATE.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        List<WeeklyPlan> plans = new ArrayList<>(weeks * perWeek);
+        int order = 0;
+        for (int week = 0; week < weeks; week++) {
+            LocalDate start = firstMonday.plusWeeks(week);
+            for (int i = 0; i < perWeek; i++) {
+                plans.add(WeeklyPlan.builder()
+                        .id((long) order + 1)
+                        .title("Weekly plan " + order)
+                        .description("Benchmark description for weekly plan " + order)
+                        .weekStartDate(start)
+                        .weekEndDate(start.plusDays(6))
+                        .priority(PRIORITIES[order % PRIORITIES.length])
+                        .status(STATUSES[order % STATUSES.length])
+                        .displayOrder(order++)
+                        .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                        .build());
+            }
+        }
+        return plans;
+    }
+
+    static MonthlyPlan monthlyPlan() {
+        return MonthlyPlan.builder()
+                .id(1L)
+                .title("Monthly plan")
+                .description("Benchmark description for monthly plan")
+                .year(2025)
+                .month(1)
+                .priority(Priority.MEDIUM)
+                .status(PlanStatus.IN_PROGRESS)
+                .displayOrder(0)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .build();
+    }
+
+    static YearlyPlan yearlyPlan() {
+        return YearlyPlan.builder()
+                .id(1L)
+                .title("Yearly plan")
+                .description("Benchmark description for yearly plan")
+                .year(2025)
+                .priority(Priority.HIGH)
+                .status(PlanStatus.NOT_STARTED)
+                .displayOrder(0)
+                .createdAt(LocalDateTime.of(2025, 1, 1, 9, 0))
+                .build();
+    }
+
+    /**
+     * 저장용으로 ID와 생성 일시를 비운 계획 목록을 만듭니다.
+     */
+    static List<DailyPlan> newDailyPlans(int days, int perDay) {
+        List<DailyPlan> plans = dailyPlans(days, perDay);
+        plans.forEach(plan -> {
+            plan.setId(null);
+            plan.setCreatedAt(null);
+        });
+        return plans;
+    }
+
+    static List<WeeklyPlan> newWeeklyPlans(int weeks, int perWeek) {
+        List<WeeklyPlan> plans = weeklyPlans(weeks, perWeek);
+        plans.forEach(plan -> {
+            plan.setId(null);
+            plan.setCreatedAt(null);
+        });
+        return plans;
+    }
+}
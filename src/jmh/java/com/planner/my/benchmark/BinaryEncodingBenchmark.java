@@ -0,0 +1,111 @@
+package com.planner.my.benchmark;
+
+import com.google.protobuf.CodedOutputStream;
+import com.planner.my.converter.PlanProtobufWriter;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계획 목록 응답을 JSON, CBOR, Smile, Protobuf로 인코딩하는 시간과 본문 크기를 비교합니다.
+ * 본문 크기는 보조 지표 {@code payloadBytes}로 결과 JSON에 함께 기록됩니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinaryEncodingBenchmark {
+
+    public enum Format {
+        JSON,
+        CBOR,
+        SMILE,
+        PROTOBUF
+    }
+
+    @Param({"1000", "10000"})
+    private int size;
+
+    @Param({"JSON", "CBOR", "SMILE", "PROTOBUF"})
+    private Format format;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper mapper;
+    private List<DailyPlanResponse> dailyResponses;
+    private List<WeeklyPlanResponse> weeklyResponses;
+
+    /**
+     * 마지막 인코딩 결과의 크기를 보조 지표로 남깁니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Payload {
+
+        public long payloadBytes;
+    }
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        mapper = switch (format) {
+            case JSON -> context.getBean(JsonMapper.class);
+            case CBOR -> CBORMapper.builder().build();
+            case SMILE -> SmileMapper.builder().build();
+            case PROTOBUF -> null;
+        };
+        dailyResponses = BenchmarkPlans.dailyPlans(size, 1).stream()
+                .map(DailyPlanResponse::from)
+                .toList();
+        weeklyResponses = BenchmarkPlans.weeklyPlans(size, 1).stream()
+                .map(WeeklyPlanResponse::from)
+                .toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] encodeDailyList(Payload payload) throws IOException {
+        return encode(dailyResponses, payload);
+    }
+
+    @Benchmark
+    public byte[] encodeWeeklyList(Payload payload) throws IOException {
+        return encode(weeklyResponses, payload);
+    }
+
+    private byte[] encode(List<?> plans, Payload payload) throws IOException {
+        byte[] body;
+        if (format == Format.PROTOBUF) {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            PlanProtobufWriter.writeList(plans, output);
+            output.flush();
+            body = buffer.toByteArray();
+        } else {
+            body = mapper.writeValueAsBytes(plans);
+        }
+        payload.payloadBytes = body.length;
+        return body;
+    }
+}
\ No newline at end of file
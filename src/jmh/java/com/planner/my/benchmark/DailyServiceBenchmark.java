@@ -0,0 +1,62 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.entity.Priority;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.service.DailyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 일간 계획 생성(표시 순서 최댓값 조회 + INSERT)의 비용을 측정합니다.
+ * 반복마다 테이블을 비워 데이터가 계속 쌓이지 않도록 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DailyServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private DailyService dailyService;
+    private DailyPlanRepository dailyPlanRepository;
+    private DailyPlanRequest request;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        dailyService = context.getBean(DailyService.class);
+        dailyPlanRepository = context.getBean(DailyPlanRepository.class);
+        request = DailyPlanRequest.builder()
+                .title("Benchmark plan")
+                .description("Benchmark description")
+                .planDate(BenchmarkPlans.BASE_DATE)
+                .priority(Priority.MEDIUM)
+                .build();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clear() {
+        dailyPlanRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DailyPlanResponse create() {
+        return dailyService.create(request);
+    }
+}
@@ -0,0 +1,81 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.service.DailyService;
+import com.planner.my.service.WeeklyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 1년치 계획이 저장된 H2에서 날짜/기간 조회의 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DateRangeQueryBenchmark {
+
+    private static final int DAYS = 365;
+    private static final int WEEKS = 52;
+
+    /**
+     * 하루(일간) 또는 한 주(주간)에 저장되는 계획 수
+     */
+    @Param({"5", "50"})
+    private int plansPerPeriod;
+
+    private ConfigurableApplicationContext context;
+    private DailyService dailyService;
+    private WeeklyService weeklyService;
+    private LocalDate midYear;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        dailyService = context.getBean(DailyService.class);
+        weeklyService = context.getBean(WeeklyService.class);
+        context.getBean(DailyPlanRepository.class).saveAll(BenchmarkPlans.newDailyPlans(DAYS, plansPerPeriod));
+        context.getBean(WeeklyPlanRepository.class).saveAll(BenchmarkPlans.newWeeklyPlans(WEEKS, plansPerPeriod));
+        midYear = BenchmarkPlans.BASE_DATE.plusDays(DAYS / 2);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DailyPlanResponse> dailyByDate() {
+        return dailyService.findByDate(midYear);
+    }
+
+    @Benchmark
+    public List<DailyPlanResponse> dailyByWeek() {
+        return dailyService.findByDateRange(midYear, midYear.plusDays(6));
+    }
+
+    @Benchmark
+    public List<DailyPlanResponse> dailyByMonth() {
+        return dailyService.findByDateRange(midYear, midYear.plusMonths(1).minusDays(1));
+    }
+
+    @Benchmark
+    public List<WeeklyPlanResponse> weeklyByQuarter() {
+        return weeklyService.findByDateRange(midYear, midYear.plusMonths(3));
+    }
+}
@@ -0,0 +1,109 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.metrics.StatementCounter;
+import com.planner.my.repository.DailyPlanRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.EntityTransaction;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 많은 일간 계획을 관리 중인 영속성 컨텍스트에서 한 계획의 상태만 바꾸고 커밋(flush)하는 비용을 측정합니다.
+ * 바이트코드 향상의 변경 추적이 켜져 있으면 flush가 관리 중인 엔티티를 스냅샷과 비교하지 않습니다.
+ * <p>
+ * 실행된 UPDATE 문의 길이와 SET 컬럼 수는 보조 지표 {@code updateSqlBytes}, {@code updateColumns}로,
+ * 모든 컬럼을 쓰는 UPDATE의 컬럼 수는 {@code fullUpdateColumns}로 기록됩니다.
+ * 변경 추적이 없는 기준선은 {@code -PnoDirtyTracking}으로 빌드해 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DirtyTrackingBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int managedPlans;
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+    private List<DailyPlan> plans;
+    private int fullUpdateColumns;
+    private int next;
+
+    /**
+     * 마지막 flush에서 실행된 UPDATE 문의 크기를 보조 지표로 남깁니다.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class UpdateSize {
+
+        public long updateSqlBytes;
+        public long updateColumns;
+        public long fullUpdateColumns;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        context.getBean(DailyPlanRepository.class).saveAll(BenchmarkPlans.newDailyPlans(managedPlans, 1));
+        EntityManagerFactory entityManagerFactory = context.getBean(EntityManagerFactory.class);
+        // 트랜잭션이 끝나도 엔티티가 분리되지 않도록 애플리케이션이 관리하는 EntityManager를 사용합니다.
+        entityManager = entityManagerFactory.createEntityManager();
+        plans = entityManager.createQuery("SELECT d FROM DailyPlan d", DailyPlan.class).getResultList();
+        fullUpdateColumns = entityManagerFactory.getMetamodel().entity(DailyPlan.class)
+                .getSingularAttributes().size() - 1;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public void updateStatus(UpdateSize size) {
+        DailyPlan plan = plans.get(next++ % plans.size());
+        EntityTransaction transaction = entityManager.getTransaction();
+        transaction.begin();
+        plan.setStatus(plan.getStatus() == PlanStatus.IN_PROGRESS ? PlanStatus.NOT_STARTED : PlanStatus.IN_PROGRESS);
+        StatementCounter.start(1);
+        transaction.commit();
+        List<String> statements = StatementCounter.stop().getStatements();
+
+        String update = statements.isEmpty() ? "" : withoutBatchSuffix(statements.getFirst());
+        size.updateSqlBytes = update.length();
+        size.updateColumns = setColumns(update);
+        size.fullUpdateColumns = fullUpdateColumns;
+    }
+
+    private static String withoutBatchSuffix(String sql) {
+        int suffix = sql.indexOf(" [batch");
+        return suffix >= 0 ? sql.substring(0, suffix) : sql;
+    }
+
+    private static int setColumns(String update) {
+        String sql = update.toLowerCase(Locale.ROOT);
+        int set = sql.indexOf(" set ");
+        int where = sql.indexOf(" where ");
+        if (set < 0 || where < set) {
+            return 0;
+        }
+        return sql.substring(set + 5, where).split(",").length;
+    }
+}
\ No newline at end of file
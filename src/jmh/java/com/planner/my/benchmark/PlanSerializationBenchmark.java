@@ -0,0 +1,70 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계획 목록 응답을 JSON으로 직렬화하는 비용을 측정합니다.
+ * 애플리케이션과 같은 설정을 쓰도록 컨텍스트에 등록된 JsonMapper를 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PlanSerializationBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private JsonMapper jsonMapper;
+    private List<DailyPlanResponse> dailyResponses;
+    private List<WeeklyPlanResponse> weeklyResponses;
+    private byte[] dailyJson;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        jsonMapper = context.getBean(JsonMapper.class);
+        dailyResponses = BenchmarkPlans.dailyPlans(size, 1).stream()
+                .map(DailyPlanResponse::from)
+                .toList();
+        weeklyResponses = BenchmarkPlans.weeklyPlans(size, 1).stream()
+                .map(WeeklyPlanResponse::from)
+                .toList();
+        dailyJson = jsonMapper.writeValueAsBytes(dailyResponses);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializeDailyList() {
+        return jsonMapper.writeValueAsBytes(dailyResponses);
+    }
+
+    @Benchmark
+    public byte[] serializeWeeklyList() {
+        return jsonMapper.writeValueAsBytes(weeklyResponses);
+    }
+
+    @Benchmark
+    public DailyPlanResponse[] deserializeDailyList() {
+        return jsonMapper.readValue(dailyJson, DailyPlanResponse[].class);
+    }
+}
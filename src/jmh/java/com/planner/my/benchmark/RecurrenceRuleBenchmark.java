@@ -0,0 +1,73 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.util.RecurrenceRule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 반복 시작일로부터 몇 년(1~30년) 뒤의 한 달을 캘린더로 조회할 때 반복 날짜를 펼치는 시간을 측정합니다.
+ * COUNT가 없는 규칙은 조회 기간으로 바로 건너뛰므로 경과 기간과 관계없이 일정해야 하고,
+ * COUNT가 있는 규칙은 시작일부터 세므로 횟수에 비례합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class RecurrenceRuleBenchmark {
+
+    private static final LocalDate START = LocalDate.of(2000, 1, 3);
+
+    @Param({"1", "10", "30"})
+    private int yearsAfterStart;
+
+    private RecurrenceRule weekdays;
+    private RecurrenceRule lastDayOfMonth;
+    private RecurrenceRule everyOtherDay;
+    private RecurrenceRule weekdaysWithCount;
+    private LocalDate from;
+    private LocalDate to;
+
+    @Setup
+    public void setUp() {
+        weekdays = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR");
+        lastDayOfMonth = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-1");
+        everyOtherDay = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=2");
+        weekdaysWithCount = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR;COUNT=100000");
+        from = START.plusYears(yearsAfterStart).withDayOfMonth(1);
+        to = from.plusMonths(1).minusDays(1);
+    }
+
+    @Benchmark
+    public List<LocalDate> weekdaysMonth() {
+        return weekdays.occurrencesBetween(START, from, to);
+    }
+
+    @Benchmark
+    public List<LocalDate> lastDayOfMonthMonth() {
+        return lastDayOfMonth.occurrencesBetween(START, from, to);
+    }
+
+    @Benchmark
+    public List<LocalDate> everyOtherDayMonth() {
+        return everyOtherDay.occurrencesBetween(START, from, to);
+    }
+
+    @Benchmark
+    public List<LocalDate> weekdaysWithCountMonth() {
+        return weekdaysWithCount.occurrencesBetween(START, from, to);
+    }
+
+    @Benchmark
+    public RecurrenceRule parse() {
+        return RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,WE,FR;UNTIL=20301231T235959Z");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,89 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.service.DailyService;
+import com.planner.my.service.WeeklyService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계획 순서 재정렬의 비용을 목록 크기별로 측정합니다.
+ * 호출마다 정방향과 역방향 순서를 번갈아 보내므로 모든 계획의 표시 순서가 실제로 바뀝니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ReorderBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    private int size;
+
+    private ConfigurableApplicationContext context;
+    private DailyService dailyService;
+    private WeeklyService weeklyService;
+    private List<Long> dailyIds;
+    private List<Long> dailyIdsReversed;
+    private List<Long> weeklyIds;
+    private List<Long> weeklyIdsReversed;
+    private boolean reversed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkPlans.startContext();
+        dailyService = context.getBean(DailyService.class);
+        weeklyService = context.getBean(WeeklyService.class);
+
+        dailyIds = context.getBean(DailyPlanRepository.class)
+                .saveAll(BenchmarkPlans.newDailyPlans(size, 1)).stream()
+                .map(DailyPlan::getId)
+                .toList();
+        weeklyIds = context.getBean(WeeklyPlanRepository.class)
+                .saveAll(BenchmarkPlans.newWeeklyPlans(size, 1)).stream()
+                .map(WeeklyPlan::getId)
+                .toList();
+        dailyIdsReversed = reversed(dailyIds);
+        weeklyIdsReversed = reversed(weeklyIds);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<DailyPlanResponse> reorderDaily() {
+        reversed = !reversed;
+        return dailyService.reorder(reversed ? dailyIdsReversed : dailyIds);
+    }
+
+    @Benchmark
+    public List<WeeklyPlanResponse> reorderWeekly() {
+        reversed = !reversed;
+        return weeklyService.reorder(reversed ? weeklyIdsReversed : weeklyIds);
+    }
+
+    private static List<Long> reversed(List<Long> ids) {
+        List<Long> copy = new ArrayList<>(ids);
+        Collections.reverse(copy);
+        return List.copyOf(copy);
+    }
+}
@@ -0,0 +1,87 @@
+package com.planner.my.benchmark;
+
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.MonthlyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import com.planner.my.dto.YearlyPlanResponse;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.MonthlyPlan;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.entity.YearlyPlan;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티를 응답 DTO로 변환하는 from() 팩토리의 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ResponseMappingBenchmark {
+
+    private DailyPlan dailyPlan;
+    private WeeklyPlan weeklyPlan;
+    private MonthlyPlan monthlyPlan;
+    private YearlyPlan yearlyPlan;
+
+    @Setup
+    public void setUp() {
+        dailyPlan = BenchmarkPlans.dailyPlans(1, 1).get(0);
+        weeklyPlan = BenchmarkPlans.weeklyPlans(1, 1).get(0);
+        monthlyPlan = BenchmarkPlans.monthlyPlan();
+        yearlyPlan = BenchmarkPlans.yearlyPlan();
+    }
+
+    @Benchmark
+    public DailyPlanResponse dailyFrom() {
+        return DailyPlanResponse.from(dailyPlan);
+    }
+
+    @Benchmark
+    public WeeklyPlanResponse weeklyFrom() {
+        return WeeklyPlanResponse.from(weeklyPlan);
+    }
+
+    @Benchmark
+    public MonthlyPlanResponse monthlyFrom() {
+        return MonthlyPlanResponse.from(monthlyPlan);
+    }
+
+    @Benchmark
+    public YearlyPlanResponse yearlyFrom() {
+        return YearlyPlanResponse.from(yearlyPlan);
+    }
+
+    /**
+     * 서비스 조회 메서드와 같은 방식으로 목록 전체를 변환합니다.
+     */
+    @Benchmark
+    public List<DailyPlanResponse> dailyListFrom(DailyPlans state) {
+        return state.plans.stream()
+                .map(DailyPlanResponse::from)
+                .toList();
+    }
+
+    @State(Scope.Benchmark)
+    public static class DailyPlans {
+
+        @Param({"10", "100", "1000", "10000"})
+        private int size;
+
+        private List<DailyPlan> plans;
+
+        @Setup
+        public void setUp() {
+            plans = BenchmarkPlans.dailyPlans(size, 1);
+        }
+    }
+}
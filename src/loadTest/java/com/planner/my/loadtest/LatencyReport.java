@@ -0,0 +1,130 @@
+package com.planner.my.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 엔드포인트별 응답 시간을 HdrHistogram으로 기록하고 결과를 출력합니다.
+ * 응답 시간은 마이크로초 단위로 기록하며, 예열이 끝나면 {@link #reset()}으로 그때까지의 기록을 버립니다.
+ */
+final class LatencyReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final Map<LoadEndpoint, Recorder> recorders = new EnumMap<>(LoadEndpoint.class);
+    private final Map<LoadEndpoint, LongAdder> errors = new EnumMap<>(LoadEndpoint.class);
+
+    LatencyReport() {
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            recorders.put(endpoint, new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS));
+            errors.put(endpoint, new LongAdder());
+        }
+    }
+
+    void record(LoadEndpoint endpoint, long elapsedNanos, boolean success) {
+        recorders.get(endpoint).recordValue(
+                Math.min(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            errors.get(endpoint).increment();
+        }
+    }
+
+    /**
+     * 지금까지 기록된 값을 버리고 측정을 새로 시작합니다.
+     */
+    void reset() {
+        recorders.values().forEach(Recorder::reset);
+        errors.values().forEach(LongAdder::reset);
+    }
+
+    /**
+     * 측정 결과를 표로 출력하고, 요약 JSON과 엔드포인트별 백분위 분포(.hgrm) 파일을 저장합니다.
+     */
+    void write(LoadTestConfig config, Duration measured, PrintStream out) throws IOException {
+        Files.createDirectories(config.reportDir());
+        double seconds = measured.toNanos() / 1_000_000_000.0;
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        long totalErrors = 0;
+
+        StringBuilder json = new StringBuilder();
+        json.append("{\n  \"datasetSize\": ").append(config.datasetSize())
+                .append(",\n  \"concurrency\": ").append(config.concurrency())
+                .append(",\n  \"durationSeconds\": ").append(format(seconds))
+                .append(",\n  \"endpoints\": {");
+
+        out.printf(Locale.ROOT, "%n%-18s %9s %7s %10s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms");
+        boolean first = true;
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            Histogram histogram = recorders.get(endpoint).getIntervalHistogram();
+            long errorCount = errors.get(endpoint).sum();
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            total.add(histogram);
+            totalErrors += errorCount;
+            printRow(out, endpoint.name(), histogram, errorCount, seconds);
+            writeDistribution(config.reportDir().resolve(endpoint.name().toLowerCase(Locale.ROOT) + ".hgrm"),
+                    histogram);
+
+            json.append(first ? "\n" : ",\n").append("    \"").append(endpoint.name()).append("\": ");
+            appendStats(json, histogram, errorCount, seconds);
+            first = false;
+        }
+        printRow(out, "TOTAL", total, totalErrors, seconds);
+        writeDistribution(config.reportDir().resolve("total.hgrm"), total);
+
+        json.append("\n  },\n  \"total\": ");
+        appendStats(json, total, totalErrors, seconds);
+        json.append("\n}\n");
+        Path summary = config.reportDir().resolve("summary.json");
+        Files.writeString(summary, json);
+        out.printf("%nReport written to %s%n", summary.toAbsolutePath());
+    }
+
+    private static void printRow(PrintStream out, String name, Histogram histogram, long errors, double seconds) {
+        out.printf(Locale.ROOT, "%-18s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                name, histogram.getTotalCount(), errors, histogram.getTotalCount() / seconds,
+                millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                histogram.getMaxValue() / MICROS_PER_MILLI);
+    }
+
+    private static void appendStats(StringBuilder json, Histogram histogram, long errors, double seconds) {
+        json.append("{\"count\": ").append(histogram.getTotalCount())
+                .append(", \"errors\": ").append(errors)
+                .append(", \"throughput\": ").append(format(histogram.getTotalCount() / seconds))
+                .append(", \"p50Ms\": ").append(format(millis(histogram, 50)))
+                .append(", \"p90Ms\": ").append(format(millis(histogram, 90)))
+                .append(", \"p99Ms\": ").append(format(millis(histogram, 99)))
+                .append(", \"p999Ms\": ").append(format(millis(histogram, 99.9)))
+                .append(", \"maxMs\": ").append(format(histogram.getMaxValue() / MICROS_PER_MILLI))
+                .append('}');
+    }
+
+    private static void writeDistribution(Path file, Histogram histogram) throws IOException {
+        try (PrintStream stream = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(stream, MICROS_PER_MILLI);
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
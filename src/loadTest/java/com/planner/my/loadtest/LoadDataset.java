@@ -0,0 +1,168 @@
+package com.planner.my.loadtest;
+
+import com.planner.my.entity.BaseEntity;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.MonthlyPlan;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.entity.YearlyPlan;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.MonthlyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.repository.YearlyPlanRepository;
+import org.springframework.context.ApplicationContext;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트 시작 전에 저장한 계획 데이터와, 요청 대상을 고르는 난수 생성기입니다.
+ * 저장된 ID 목록은 모든 클라이언트가 공유하고, 난수 생성기는 클라이언트마다 따로 둡니다.
+ */
+final class LoadDataset {
+
+    private static final int DAYS = 365;
+    private static final int WEEKS = 52;
+    private static final int REORDER_WINDOW = 20;
+    private static final Priority[] PRIORITIES = Priority.values();
+
+    private final LocalDate firstDate;
+    private final long[] dailyIds;
+    private final long[] weeklyIds;
+    private final long[] monthlyIds;
+    private final SplittableRandom random;
+
+    private LoadDataset(LocalDate firstDate, long[] dailyIds, long[] weeklyIds, long[] monthlyIds,
+                        SplittableRandom random) {
+        this.firstDate = firstDate;
+        this.dailyIds = dailyIds;
+        this.weeklyIds = weeklyIds;
+        this.monthlyIds = monthlyIds;
+        this.random = random;
+    }
+
+    /**
+     * 올해 1월 1일부터 1년 동안에 걸쳐 일간 계획 datasetSize개와, 이에 비례하는 주간/월간/연간 계획을 저장합니다.
+     */
+    static LoadDataset seed(ApplicationContext context, int datasetSize, long seed) {
+        LocalDate firstDate = LocalDate.now().withDayOfYear(1);
+        LocalDate firstMonday = firstDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        SplittableRandom random = new SplittableRandom(seed);
+
+        List<DailyPlan> daily = new ArrayList<>(datasetSize);
+        for (int i = 0; i < datasetSize; i++) {
+            daily.add(DailyPlan.builder()
+                    .title("Daily plan " + i)
+                    .description("Seeded for load test")
+                    .planDate(firstDate.plusDays(random.nextInt(DAYS)))
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .status(PlanStatus.NOT_STARTED)
+                    .displayOrder(i)
+                    .build());
+        }
+
+        int weeklyCount = Math.max(WEEKS, datasetSize / 7);
+        List<WeeklyPlan> weekly = new ArrayList<>(weeklyCount);
+        for (int i = 0; i < weeklyCount; i++) {
+            LocalDate weekStart = firstMonday.plusWeeks(random.nextInt(WEEKS));
+            weekly.add(WeeklyPlan.builder()
+                    .title("Weekly plan " + i)
+                    .weekStartDate(weekStart)
+                    .weekEndDate(weekStart.plusDays(6))
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .status(PlanStatus.NOT_STARTED)
+                    .displayOrder(i)
+                    .build());
+        }
+
+        int monthlyCount = Math.max(12, datasetSize / 30);
+        List<MonthlyPlan> monthly = new ArrayList<>(monthlyCount);
+        for (int i = 0; i < monthlyCount; i++) {
+            monthly.add(MonthlyPlan.builder()
+                    .title("Monthly plan " + i)
+                    .year(firstDate.getYear())
+                    .month(1 + random.nextInt(12))
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .status(PlanStatus.NOT_STARTED)
+                    .displayOrder(i)
+                    .build());
+        }
+
+        int yearlyCount = Math.max(10, datasetSize / 365);
+        List<YearlyPlan> yearly = new ArrayList<>(yearlyCount);
+        for (int i = 0; i < yearlyCount; i++) {
+            yearly.add(YearlyPlan.builder()
+                    .title("Yearly plan " + i)
+                    .year(firstDate.getYear())
+                    .priority(PRIORITIES[random.nextInt(PRIORITIES.length)])
+                    .status(PlanStatus.NOT_STARTED)
+                    .displayOrder(i)
+                    .build());
+        }
+
+        long[] dailyIds = ids(context.getBean(DailyPlanRepository.class).saveAll(daily));
+        long[] weeklyIds = ids(context.getBean(WeeklyPlanRepository.class).saveAll(weekly));
+        long[] monthlyIds = ids(context.getBean(MonthlyPlanRepository.class).saveAll(monthly));
+        context.getBean(YearlyPlanRepository.class).saveAll(yearly);
+        return new LoadDataset(firstDate, dailyIds, weeklyIds, monthlyIds, random);
+    }
+
+    /**
+     * 같은 데이터를 공유하고 난수 생성기만 분리한 클라이언트용 데이터셋을 만듭니다.
+     */
+    LoadDataset forClient() {
+        return new LoadDataset(firstDate, dailyIds, weeklyIds, monthlyIds, random.split());
+    }
+
+    SplittableRandom random() {
+        return random;
+    }
+
+    LocalDate randomDate() {
+        return firstDate.plusDays(random.nextInt(DAYS));
+    }
+
+    LocalDate randomWeekStart() {
+        return randomDate().with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    Priority randomPriority() {
+        return PRIORITIES[random.nextInt(PRIORITIES.length)];
+    }
+
+    long randomDailyId() {
+        return dailyIds[random.nextInt(dailyIds.length)];
+    }
+
+    long randomWeeklyId() {
+        return weeklyIds[random.nextInt(weeklyIds.length)];
+    }
+
+    long randomMonthlyId() {
+        return monthlyIds[random.nextInt(monthlyIds.length)];
+    }
+
+    /**
+     * 화면에서 한 번에 끌어 옮기는 정도의 연속된 일간 계획 ID를 섞어서 JSON 배열로 반환합니다.
+     */
+    String shuffledDailyWindow() {
+        int size = Math.min(REORDER_WINDOW, dailyIds.length);
+        int start = random.nextInt(dailyIds.length - size + 1);
+        List<Long> window = new ArrayList<>(size);
+        for (int i = start; i < start + size; i++) {
+            window.add(dailyIds[i]);
+        }
+        Collections.shuffle(window, random);
+        return window.toString();
+    }
+
+    private static long[] ids(List<? extends BaseEntity> saved) {
+        return saved.stream().mapToLong(BaseEntity::getId).toArray();
+    }
+}
@@ -0,0 +1,123 @@
+package com.planner.my.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+
+/**
+ * 부하 테스트에서 호출하는 엔드포인트와 기본 요청 비중입니다.
+ * 기본 비중은 캘린더 화면 조회가 대부분이고 생성/상태 변경/순서 변경이 섞인 사용 패턴을 따릅니다.
+ */
+enum LoadEndpoint {
+
+    DAILY_CREATE(8) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            LocalDate date = dataset.randomDate();
+            return json(base, "/api/daily", "POST", """
+                    {"title":"Load test plan","description":"Created by load test","planDate":"%s","priority":"%s"}"""
+                    .formatted(date, dataset.randomPriority()));
+        }
+    },
+    DAILY_BY_DATE(25) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return get(base, "/api/daily/date/" + dataset.randomDate());
+        }
+    },
+    DAILY_CALENDAR(15) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            LocalDate monthStart = dataset.randomDate().withDayOfMonth(1);
+            return get(base, "/api/daily/date-range?startDate=" + monthStart
+                    + "&endDate=" + monthStart.plusMonths(1).minusDays(1));
+        }
+    },
+    DAILY_STATUS(10) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return json(base, "/api/daily/" + dataset.randomDailyId() + "/status", "PATCH",
+                    "{\"status\":\"IN_PROGRESS\"}");
+        }
+    },
+    DAILY_REORDER(2) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return json(base, "/api/daily/reorder", "PUT",
+                    "{\"orderedIds\":" + dataset.shuffledDailyWindow() + "}");
+        }
+    },
+    WEEKLY_CREATE(3) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            LocalDate weekStart = dataset.randomWeekStart();
+            return json(base, "/api/weekly", "POST", """
+                    {"title":"Load test plan","weekStartDate":"%s","weekEndDate":"%s","priority":"%s"}"""
+                    .formatted(weekStart, weekStart.plusDays(6), dataset.randomPriority()));
+        }
+    },
+    WEEKLY_BY_WEEK(12) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return get(base, "/api/weekly/week/" + dataset.randomWeekStart());
+        }
+    },
+    WEEKLY_STATUS(4) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return json(base, "/api/weekly/" + dataset.randomWeeklyId() + "/status", "PATCH",
+                    "{\"status\":\"IN_PROGRESS\"}");
+        }
+    },
+    MONTHLY_BY_MONTH(10) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            LocalDate date = dataset.randomDate();
+            return get(base, "/api/monthly/year/" + date.getYear() + "/month/" + date.getMonthValue());
+        }
+    },
+    MONTHLY_STATUS(2) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return json(base, "/api/monthly/" + dataset.randomMonthlyId() + "/status", "PATCH",
+                    "{\"status\":\"IN_PROGRESS\"}");
+        }
+    },
+    YEARLY_BY_YEAR(7) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return get(base, "/api/yearly/year/" + dataset.randomDate().getYear());
+        }
+    },
+    YEARLY_LIST(2) {
+        @Override
+        HttpRequest.Builder request(URI base, LoadDataset dataset) {
+            return get(base, "/api/yearly");
+        }
+    };
+
+    private final int defaultWeight;
+
+    LoadEndpoint(int defaultWeight) {
+        this.defaultWeight = defaultWeight;
+    }
+
+    int defaultWeight() {
+        return defaultWeight;
+    }
+
+    /**
+     * 데이터셋에서 대상을 골라 이 엔드포인트에 보낼 요청을 만듭니다.
+     */
+    abstract HttpRequest.Builder request(URI base, LoadDataset dataset);
+
+    private static HttpRequest.Builder get(URI base, String path) {
+        return HttpRequest.newBuilder(base.resolve(path)).GET();
+    }
+
+    private static HttpRequest.Builder json(URI base, String path, String method, String body) {
+        return HttpRequest.newBuilder(base.resolve(path))
+                .header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(body));
+    }
+}
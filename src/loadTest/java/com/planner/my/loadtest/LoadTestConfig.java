@@ -0,0 +1,66 @@
+package com.planner.my.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정입니다. 시스템 속성(loadtest.*)으로 지정하며, Gradle에서는
+ * {@code ./gradlew loadTest -Ploadtest.concurrency=128}처럼 프로젝트 속성으로 넘길 수 있습니다.
+ *
+ * @param datasetSize 시작 전에 저장할 일간 계획 수 (주간/월간/연간 계획은 이에 비례해 저장)
+ * @param concurrency 동시에 요청을 보내는 가상 스레드 클라이언트 수
+ * @param warmup 측정에서 제외할 예열 시간
+ * @param duration 측정 시간
+ * @param seed 요청 구성과 데이터 선택에 사용할 난수 시드
+ * @param reportDir 결과 파일을 저장할 디렉터리
+ * @param mix 엔드포인트별 요청 비중
+ */
+record LoadTestConfig(int datasetSize,
+                      int concurrency,
+                      Duration warmup,
+                      Duration duration,
+                      long seed,
+                      Path reportDir,
+                      Map<LoadEndpoint, Integer> mix) {
+
+    static LoadTestConfig fromSystemProperties() {
+        return new LoadTestConfig(
+                Integer.getInteger("loadtest.dataset-size", 10_000),
+                Integer.getInteger("loadtest.concurrency", 64),
+                Duration.parse(System.getProperty("loadtest.warmup", "PT10S")),
+                Duration.parse(System.getProperty("loadtest.duration", "PT30S")),
+                Long.getLong("loadtest.seed", 42L),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")),
+                parseMix(System.getProperty("loadtest.mix")));
+    }
+
+    /**
+     * "DAILY_CREATE=10,DAILY_BY_DATE=30" 형식의 요청 비중을 해석합니다.
+     * 지정하지 않은 엔드포인트는 기본 비중을 사용하며, 0이면 요청하지 않습니다.
+     */
+    static Map<LoadEndpoint, Integer> parseMix(String value) {
+        Map<LoadEndpoint, Integer> mix = new EnumMap<>(LoadEndpoint.class);
+        for (LoadEndpoint endpoint : LoadEndpoint.values()) {
+            mix.put(endpoint, endpoint.defaultWeight());
+        }
+        if (value == null || value.isBlank()) {
+            return mix;
+        }
+        for (String entry : value.split(",")) {
+            String[] parts = entry.split("=");
+            if (parts.length != 2) {
+                throw new IllegalArgumentException("Invalid load mix entry: " + entry);
+            }
+            LoadEndpoint endpoint = LoadEndpoint.valueOf(parts[0].trim().toUpperCase(Locale.ROOT));
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight < 0) {
+                throw new IllegalArgumentException("Load mix weight must not be negative: " + entry);
+            }
+            mix.put(endpoint, weight);
+        }
+        return mix;
+    }
+}
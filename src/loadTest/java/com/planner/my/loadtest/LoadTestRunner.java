@@ -0,0 +1,145 @@
+package com.planner.my.loadtest;
+
+import com.planner.my.PlannerApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * 애플리케이션을 임의 포트로 시작하고, 가상 스레드 클라이언트들로 요청 비중에 맞춰 HTTP 요청을 보내는 부하 테스트입니다.
+ * <p>
+ * 각 클라이언트는 응답을 받은 뒤 바로 다음 요청을 보내는 닫힌 루프로 동작합니다. 예열 시간 동안의 기록은 버리고,
+ * 측정 시간 동안의 엔드포인트별 응답 시간 분포와 처리량을 {@link LatencyReport}로 출력합니다.
+ */
+public final class LoadTestRunner {
+
+    private LoadTestRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.fromSystemProperties();
+        try (ConfigurableApplicationContext context = startApplication()) {
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            System.out.printf("Seeding %d daily plans...%n", config.datasetSize());
+            LoadDataset dataset = LoadDataset.seed(context, config.datasetSize(), config.seed());
+            run(config, URI.create("http://localhost:" + port), dataset);
+        }
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(PlannerApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:loadtest",
+                        "spring.devtools.restart.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+
+    private static void run(LoadTestConfig config, URI base, LoadDataset dataset)
+            throws IOException, InterruptedException {
+        LoadEndpoint[] endpoints = LoadEndpoint.values();
+        int[] cumulativeWeights = cumulativeWeights(config.mix(), endpoints);
+        LatencyReport report = new LatencyReport();
+
+        ThreadFactory factory = Thread.ofVirtual().name("load-client-", 0).factory();
+        try (ExecutorService clients = Executors.newThreadPerTaskExecutor(factory);
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(clients)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            long warmupEnd = System.nanoTime() + config.warmup().toNanos();
+            long end = warmupEnd + config.duration().toNanos();
+
+            List<Future<?>> futures = new ArrayList<>(config.concurrency());
+            for (int i = 0; i < config.concurrency(); i++) {
+                LoadDataset clientDataset = dataset.forClient();
+                futures.add(clients.submit(() -> drive(httpClient, base, clientDataset, endpoints,
+                        cumulativeWeights, report, end)));
+            }
+
+            System.out.printf("Running %d clients: warmup %s, measurement %s%n",
+                    config.concurrency(), config.warmup(), config.duration());
+            sleepUntil(warmupEnd);
+            report.reset();
+            long measureStart = System.nanoTime();
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    throw new IllegalStateException("Load client failed", e.getCause());
+                }
+            }
+            report.write(config, Duration.ofNanos(System.nanoTime() - measureStart), System.out);
+        }
+    }
+
+    /**
+     * 종료 시각까지 요청 비중에 따라 엔드포인트를 골라 요청을 보내고 응답 시간을 기록합니다.
+     * 전송 실패와 2xx가 아닌 응답은 오류로 셉니다.
+     */
+    private static void drive(HttpClient httpClient, URI base, LoadDataset dataset, LoadEndpoint[] endpoints,
+                              int[] cumulativeWeights, LatencyReport report, long end) {
+        int totalWeight = cumulativeWeights[cumulativeWeights.length - 1];
+        while (System.nanoTime() < end) {
+            LoadEndpoint endpoint = pick(endpoints, cumulativeWeights, dataset.random().nextInt(totalWeight));
+            HttpRequest request = endpoint.request(base, dataset).timeout(Duration.ofSeconds(30)).build();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() / 100 == 2;
+            } catch (IOException e) {
+                success = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            report.record(endpoint, System.nanoTime() - start, success);
+        }
+    }
+
+    private static LoadEndpoint pick(LoadEndpoint[] endpoints, int[] cumulativeWeights, int value) {
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return endpoints[i];
+            }
+        }
+        return endpoints[endpoints.length - 1];
+    }
+
+    private static int[] cumulativeWeights(Map<LoadEndpoint, Integer> mix, LoadEndpoint[] endpoints) {
+        int[] cumulative = new int[endpoints.length];
+        int sum = 0;
+        for (int i = 0; i < endpoints.length; i++) {
+            sum += mix.getOrDefault(endpoints[i], 0);
+            cumulative[i] = sum;
+        }
+        if (sum == 0) {
+            throw new IllegalArgumentException("Load mix must have at least one positive weight");
+        }
+        return cumulative;
+    }
+
+    private static void sleepUntil(long nanoTime) throws InterruptedException {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            Thread.sleep(Duration.ofNanos(remaining));
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.planner.my.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 압축을 푼 부트 JAR을 기본 설정과 fast-startup 설정(AppCDS, 선택적으로 Spring AOT)으로 여러 번 실행하고,
+ * 프로세스 시작부터 첫 번째 {@code GET /api/daily} 응답이 200을 반환할 때까지 걸린 시간을 측정합니다.
+ * <p>
+ * Gradle의 {@code startupBenchmark} 작업이 CDS 아카이브를 만든 뒤 startup.* 시스템 속성으로 실행합니다.
+ */
+public final class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final long POLL_INTERVAL_MILLIS = 10;
+
+    private StartupBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        String java = System.getProperty("startup.java", "java");
+        Path workDir = Path.of(System.getProperty("startup.work-dir", "build/fast-startup"));
+        String jar = System.getProperty("startup.jar");
+        boolean aot = Boolean.getBoolean("startup.aot");
+        int iterations = Integer.getInteger("startup.iterations", 5);
+        Path reportDir = Path.of(System.getProperty("startup.report-dir", "build/reports/startup"));
+        if (jar == null) {
+            throw new IllegalArgumentException("startup.jar is required");
+        }
+
+        List<String> fastStartupOptions = new ArrayList<>(List.of(
+                "-XX:SharedArchiveFile=application.jsa", "-Dspring.profiles.active=fast-startup"));
+        if (aot) {
+            fastStartupOptions.add("-Dspring.aot.enabled=true");
+        }
+
+        List<Variant> variants = List.of(
+                new Variant("default", List.of()),
+                new Variant(aot ? "fast-startup (CDS + AOT)" : "fast-startup (CDS)", fastStartupOptions));
+
+        HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+        StringBuilder json = new StringBuilder("{\n  \"iterations\": ").append(iterations).append(",\n  \"variants\": [");
+        System.out.printf("%n%-26s %10s %10s %10s%n", "variant", "min ms", "median ms", "max ms");
+        for (int v = 0; v < variants.size(); v++) {
+            Variant variant = variants.get(v);
+            long[] millis = new long[iterations];
+            for (int i = 0; i < iterations; i++) {
+                millis[i] = timeToFirstResponse(httpClient, java, workDir, jar, variant.options());
+            }
+            Arrays.sort(millis);
+            long median = millis[iterations / 2];
+            System.out.printf(Locale.ROOT, "%-26s %10d %10d %10d%n",
+                    variant.name(), millis[0], median, millis[iterations - 1]);
+            json.append(v == 0 ? "\n" : ",\n")
+                    .append("    {\"name\": \"").append(variant.name()).append("\"")
+                    .append(", \"minMs\": ").append(millis[0])
+                    .append(", \"medianMs\": ").append(median)
+                    .append(", \"maxMs\": ").append(millis[iterations - 1])
+                    .append(", \"samplesMs\": ").append(Arrays.toString(millis)).append('}');
+        }
+        json.append("\n  ]\n}\n");
+
+        Files.createDirectories(reportDir);
+        Path report = reportDir.resolve("startup.json");
+        Files.writeString(report, json);
+        System.out.printf("%nReport written to %s%n", report.toAbsolutePath());
+    }
+
+    /**
+     * 애플리케이션을 새 프로세스로 시작하고 첫 번째 성공 응답까지의 시간을 밀리초로 반환합니다.
+     */
+    private static long timeToFirstResponse(HttpClient httpClient, String java, Path workDir, String jar,
+                                            List<String> options) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(java);
+        command.addAll(options);
+        command.addAll(List.of("-jar", jar, "--server.port=" + port));
+
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/daily"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .directory(workDir.toFile())
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        try {
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with code " + process.exitValue()
+                            + ": " + String.join(" ", command));
+                }
+                try {
+                    if (httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // 아직 포트가 열리지 않음
+                }
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            }
+            throw new IllegalStateException("Application did not respond within " + STARTUP_TIMEOUT);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private record Variant(String name, List<String> options) {
+    }
+}
@@ -2,8 +2,10 @@ package com.planner.my;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
 public class PlannerApplication {
     public static void main(String[] args) {
         SpringApplication.run(PlannerApplication.class, args);
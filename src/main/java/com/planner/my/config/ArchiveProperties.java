@@ -0,0 +1,34 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 지난 연도의 완료/실패 계획을 아카이브 테이블로 옮기는 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.archive")
+public class ArchiveProperties {
+
+    /**
+     * 아카이브 활성화 여부 (비활성화하면 모든 조회가 기본 테이블만 사용합니다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 주기 (cron 표현식)
+     */
+    private String cron = "0 30 1 * * *";
+
+    /**
+     * 기본 테이블에 유지할 최근 연도 수 (1이면 올해 계획만 유지)
+     */
+    private int hotYears = 1;
+
+    /**
+     * 한 트랜잭션에서 옮길 최대 계획 수
+     */
+    private int batchSize = 500;
+}
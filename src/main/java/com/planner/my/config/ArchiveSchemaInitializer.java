@@ -0,0 +1,91 @@
+package com.planner.my.config;
+
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.MonthlyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.repository.YearlyPlanRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * 계획 테이블과 같은 컬럼 구조의 아카이브 테이블을 생성합니다.
+ * Hibernate가 기본 테이블을 만든 뒤에 실행되도록 EntityManagerFactory 이후에 초기화됩니다.
+ * <p>
+ * 아카이브 테이블은 저장소의 {@code ARCHIVE_COLUMNS} 목록으로 만들고 복사하므로 컬럼 순서에 의존하지 않습니다.
+ * 엔티티에 컬럼이 추가되거나 빠져 목록과 기본 테이블 또는 이미 있는 아카이브 테이블의 컬럼이 다르면 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "planner.archive", name = "enabled", havingValue = "true")
+public class ArchiveSchemaInitializer {
+
+    /**
+     * 아카이브 테이블 조회에 사용하는 인덱스 컬럼
+     */
+    private static final Map<String, String> INDEXED_COLUMNS = Map.of(
+            "daily_plans", "plan_date",
+            "weekly_plans", "week_start_date",
+            "monthly_plans", "plan_year, plan_month",
+            "yearly_plans", "plan_year");
+
+    /**
+     * 아카이브 테이블로 옮기는 컬럼
+     */
+    private static final Map<String, String> ARCHIVED_COLUMNS = Map.of(
+            "daily_plans", DailyPlanRepository.ARCHIVE_COLUMNS,
+            "weekly_plans", WeeklyPlanRepository.ARCHIVE_COLUMNS,
+            "monthly_plans", MonthlyPlanRepository.ARCHIVE_COLUMNS,
+            "yearly_plans", YearlyPlanRepository.ARCHIVE_COLUMNS);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void createArchiveTables() {
+        INDEXED_COLUMNS.forEach((table, columns) -> {
+            String archive = table + "_archive";
+            String archived = ARCHIVED_COLUMNS.get(table);
+            requireColumns(table, archived);
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + archive + " AS SELECT " + archived + " FROM " + table
+                    + " WITH NO DATA");
+            requireColumns(archive, archived);
+            jdbcTemplate.execute("ALTER TABLE " + archive + " ADD CONSTRAINT IF NOT EXISTS pk_" + archive
+                    + " PRIMARY KEY (id)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_" + archive + " ON " + archive + " (" + columns + ")");
+            log.debug("Archive table ready: {}", archive);
+        });
+    }
+
+    /**
+     * 테이블의 컬럼이 아카이브 컬럼 목록과 같은지 확인합니다.
+     */
+    private void requireColumns(String table, String columns) {
+        Set<String> expected = Arrays.stream(columns.split(","))
+                .map(column -> column.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toCollection(TreeSet::new));
+        List<String> actual = jdbcTemplate.queryForList("SELECT LOWER(COLUMN_NAME) FROM INFORMATION_SCHEMA.COLUMNS "
+                + "WHERE TABLE_SCHEMA = 'PUBLIC' AND LOWER(TABLE_NAME) = ?", String.class, table);
+        Set<String> missing = new TreeSet<>(expected);
+        missing.removeAll(actual);
+        Set<String> unexpected = new TreeSet<>(actual);
+        unexpected.removeAll(expected);
+        if (!missing.isEmpty() || !unexpected.isEmpty()) {
+            throw new IllegalStateException("Archive columns do not match " + table + ": missing " + missing
+                    + ", not archived " + unexpected + " (update ARCHIVE_COLUMNS in the plan repository)");
+        }
+    }
+}
\ No newline at end of file
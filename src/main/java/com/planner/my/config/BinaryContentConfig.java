@@ -0,0 +1,30 @@
+package com.planner.my.config;
+
+import com.planner.my.converter.PlanProtobufHttpMessageConverter;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverters;
+import org.springframework.http.converter.cbor.JacksonCborHttpMessageConverter;
+import org.springframework.http.converter.smile.JacksonSmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.ContentNegotiationConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * JSON 외에 CBOR, Smile, Protobuf 응답을 Accept 헤더로 선택할 수 있게 합니다.
+ * Protobuf 변환기는 기본 변환기보다 앞에 등록되므로, Accept가 없거나 {@code *}{@code /*}이면 JSON으로 응답하도록 기본 타입을 고정합니다.
+ */
+@Configuration
+public class BinaryContentConfig implements WebMvcConfigurer {
+
+    @Override
+    public void configureMessageConverters(HttpMessageConverters.ServerBuilder builder) {
+        builder.withCborConverter(new JacksonCborHttpMessageConverter())
+                .withSmileConverter(new JacksonSmileHttpMessageConverter())
+                .addCustomConverter(new PlanProtobufHttpMessageConverter());
+    }
+
+    @Override
+    public void configureContentNegotiation(ContentNegotiationConfigurer configurer) {
+        configurer.defaultContentType(MediaType.APPLICATION_JSON);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,83 @@
+package com.planner.my.config;
+
+import com.planner.my.snapshot.DatabaseSnapshot;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 시작할 때 스냅샷 파일의 데이터를 복원합니다.
+ * Hibernate와 아카이브 테이블 초기화가 스키마를 만든 뒤, 애플리케이션이 요청을 받기 전에 컨텍스트 초기화 중에 실행됩니다.
+ * 데이터베이스에 이미 데이터가 있으면 덮어쓰지 않고 건너뛰며, 파일을 읽지 못하면 시작을 중단합니다.
+ * <p>
+ * H2는 기본적으로 JVM 종료 훅에서 데이터베이스를 닫으므로, 이 훅이 컨텍스트 종료보다 먼저 돌면
+ * 종료 시 스냅샷이 닫힌 데이터베이스를 읽다가 실패합니다. 그래서 URL에 {@code DB_CLOSE_ON_EXIT=FALSE}가 없으면 시작을 중단합니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "planner.db-snapshot", name = "enabled", havingValue = "true")
+public class DatabaseSnapshotInitializer {
+
+    private final DatabaseSnapshotProperties properties;
+    private final DataSource dataSource;
+    private final DataSourceProperties dataSourceProperties;
+    private final ObjectProvider<ArchiveSchemaInitializer> archiveSchemaInitializer;
+
+    @PostConstruct
+    public void restore() {
+        requireCloseOnExitDisabled(dataSourceProperties.determineUrl());
+        archiveSchemaInitializer.getIfAvailable();
+        Path file = Path.of(properties.getFile());
+        if (!Files.exists(file)) {
+            log.info("No database snapshot at {}; starting empty", file);
+            return;
+        }
+        long startedAt = System.nanoTime();
+        try (Connection connection = dataSource.getConnection();
+             InputStream in = new InflaterInputStream(new BufferedInputStream(Files.newInputStream(file), 1 << 16))) {
+            if (DatabaseSnapshot.hasData(connection)) {
+                log.warn("Database already has data; skipping restore from {}", file);
+                return;
+            }
+            connection.setAutoCommit(false);
+            DatabaseSnapshot.Stats stats = DatabaseSnapshot.restore(connection,
+                    new DataInputStream(new BufferedInputStream(in, 1 << 16)), properties.getRestoreBatchSize());
+            log.info("Restored database snapshot from {}: tables={}, rows={} in {} ms", file, stats.tables(),
+                    stats.rows(), (System.nanoTime() - startedAt) / 1_000_000);
+        } catch (SQLException | IOException e) {
+            throw new IllegalStateException("Failed to restore database snapshot from " + file
+                    + " (move the file away to start empty)", e);
+        }
+    }
+
+    /**
+     * 종료 시 스냅샷이 H2 종료 훅과 경쟁하지 않도록 데이터베이스를 JVM 종료 때 닫지 않는 설정인지 확인합니다.
+     */
+    static void requireCloseOnExitDisabled(String url) {
+        if (url != null && url.startsWith("jdbc:h2:")
+                && !url.toUpperCase(Locale.ROOT).replace(" ", "").contains(";DB_CLOSE_ON_EXIT=FALSE")) {
+            throw new IllegalStateException("planner.db-snapshot.enabled requires ;DB_CLOSE_ON_EXIT=FALSE in "
+                    + "spring.datasource.url so H2's shutdown hook cannot close the database before the "
+                    + "shutdown snapshot is written: " + url);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,36 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 인메모리 데이터베이스 스냅샷 저장/복원 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.db-snapshot")
+public class DatabaseSnapshotProperties {
+
+    /**
+     * 스냅샷 저장과 시작 시 복원 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 스냅샷 파일 경로
+     */
+    private String file = "data/planner.snapshot";
+
+    /**
+     * 이전 저장이 끝난 뒤 다음 저장까지의 간격 (단위가 없으면 밀리초, 종료할 때도 한 번 저장합니다)
+     */
+    private Duration interval = Duration.ofMinutes(5);
+
+    /**
+     * 복원할 때 한 번에 INSERT 하고 커밋할 행 수
+     */
+    private int restoreBatchSize = 1000;
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.planner.my.config;
+
+import com.planner.my.outbox.OutboxSink;
+import com.planner.my.outbox.RotatingFileOutboxSink;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.file.Path;
+
+/**
+ * 아웃박스 싱크를 등록합니다. 다른 {@link OutboxSink} 빈이 없으면 로컬 파일 싱크를 사용합니다.
+ */
+@Configuration
+public class OutboxConfig {
+
+    @Bean
+    @ConditionalOnMissingBean(OutboxSink.class)
+    public RotatingFileOutboxSink outboxSink(OutboxProperties properties, JsonMapper jsonMapper) {
+        OutboxProperties.File file = properties.getFile();
+        return new RotatingFileOutboxSink(Path.of(file.getDirectory()), file.getMaxFileSize().toBytes(),
+                file.getMaxFiles(), jsonMapper);
+    }
+}
\ No newline at end of file
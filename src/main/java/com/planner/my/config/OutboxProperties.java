@@ -0,0 +1,62 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * 계획 변경 아웃박스 릴레이 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.outbox")
+public class OutboxProperties {
+
+    /**
+     * 릴레이 활성화 여부 (기본값 false, 비활성화해도 이벤트는 아웃박스 테이블에 계속 쌓입니다)
+     */
+    private boolean relayEnabled;
+
+    /**
+     * 이전 실행이 끝난 뒤 다음 실행까지의 간격 (단위가 없으면 밀리초)
+     */
+    private Duration pollInterval = Duration.ofMillis(100);
+
+    /**
+     * 한 트랜잭션에서 읽어 싱크로 보낼 최대 이벤트 수
+     */
+    private int batchSize = 500;
+
+    /**
+     * 한 번 실행에서 처리할 최대 배치 수 (배치가 가득 차 있는 동안 쉬지 않고 이어서 처리합니다)
+     */
+    private int maxBatchesPerRun = 20;
+
+    /**
+     * 기본 파일 싱크 설정
+     */
+    private final File file = new File();
+
+    @Getter
+    @Setter
+    public static class File {
+
+        /**
+         * 이벤트 파일을 쓸 디렉터리
+         */
+        private String directory = "outbox";
+
+        /**
+         * 파일 하나의 최대 크기 (넘으면 새 파일로 교체합니다)
+         */
+        private DataSize maxFileSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 보관할 지난 파일 수
+         */
+        private int maxFiles = 10;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,45 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 기한이 지난 계획을 정리하는 스케줄러 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.overdue-sweeper")
+public class OverdueSweeperProperties {
+
+    /**
+     * 스케줄러 활성화 여부
+     */
+    private boolean enabled = false;
+
+    /**
+     * 실행 주기 (cron 표현식)
+     */
+    private String cron = "0 5 0 * * *";
+
+    /**
+     * 기한이 지난 계획의 처리 방식
+     */
+    private Mode mode = Mode.FAIL;
+
+    /**
+     * 한 트랜잭션에서 처리할 최대 계획 수
+     */
+    private int chunkSize = 500;
+
+    public enum Mode {
+        /**
+         * 실패(FAILED) 상태로 변경합니다.
+         */
+        FAIL,
+        /**
+         * 현재 기간(오늘, 이번 주, 이번 달, 올해)으로 이월합니다.
+         */
+        ROLLOVER
+    }
+}
@@ -0,0 +1,45 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 설정입니다.
+ * 로컬에서는 두 번째 인메모리 H2를 복제본으로 사용하며, 기본 데이터베이스에 커밋된 변경 문을 애플리케이션이 다시 실행해 맞춥니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.replica")
+public class ReplicaProperties {
+
+    /**
+     * 복제본 라우팅 활성화 여부 (비활성화하면 모든 쿼리가 기본 데이터소스를 사용합니다)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 복제본 JDBC URL
+     */
+    private String url = "jdbc:h2:mem:plannerdb-replica";
+
+    /**
+     * 복제본 사용자 이름
+     */
+    private String username = "sa";
+
+    /**
+     * 복제본 비밀번호
+     */
+    private String password = "";
+
+    /**
+     * 복제본 커넥션 풀 최대 크기
+     */
+    private int maximumPoolSize = 10;
+
+    /**
+     * 복제본에 한 트랜잭션으로 적용할 최대 커밋 수
+     */
+    private int applyBatchSize = 256;
+}
\ No newline at end of file
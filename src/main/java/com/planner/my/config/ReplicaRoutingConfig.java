@@ -0,0 +1,89 @@
+package com.planner.my.config;
+
+import com.planner.my.replication.ReadConsistency;
+import com.planner.my.replication.ReadWriteDataSource;
+import com.planner.my.replication.ReadYourWritesInterceptor;
+import com.planner.my.replication.ReplicaRoutingDataSource;
+import com.planner.my.replication.ReplicationLog;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 데이터소스를 구성합니다.
+ * spring.datasource.* 설정이 기본 데이터베이스, planner.replica.* 설정이 복제본이며,
+ * 이 설정이 등록한 {@code dataSource} 빈이 자동 구성된 데이터소스를 대신합니다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "planner.replica", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    @Bean
+    public ReadConsistency readConsistency(MeterRegistry meterRegistry) {
+        ReadConsistency readConsistency = new ReadConsistency();
+        Gauge.builder("planner.replica.pending.clients", readConsistency, ReadConsistency::pendingClients)
+                .description("Clients whose last write has not reached the replica yet")
+                .register(meterRegistry);
+        return readConsistency;
+    }
+
+    @Bean
+    public ReplicationLog replicationLog(ReplicaProperties properties, ReadConsistency readConsistency,
+                                         MeterRegistry meterRegistry) {
+        HikariDataSource replica = new HikariDataSource();
+        replica.setPoolName("replica");
+        replica.setJdbcUrl(properties.getUrl());
+        replica.setUsername(properties.getUsername());
+        replica.setPassword(properties.getPassword());
+        replica.setMaximumPoolSize(properties.getMaximumPoolSize());
+        replica.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+
+        ReplicationLog replicationLog = new ReplicationLog(replica, properties.getApplyBatchSize(),
+                readConsistency::forget);
+        Gauge.builder("planner.replica.lag", replicationLog,
+                        log -> log.committedPosition() - log.appliedPosition())
+                .description("Committed write transactions not yet applied to the replica")
+                .register(meterRegistry);
+        return replicationLog;
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties, ReplicationLog replicationLog,
+                                 ReadConsistency readConsistency, MeterRegistry meterRegistry) {
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        primary.setPoolName("primary");
+        ReadWriteDataSource dataSource = new ReadWriteDataSource(primary, replicationLog, readConsistency);
+        ReplicaRoutingDataSource readRouter = dataSource.readRouter();
+        FunctionCounter.builder("planner.replica.reads", readRouter, ReplicaRoutingDataSource::replicaReads)
+                .description("Read-only connections routed to the replica or back to the primary")
+                .tag("target", "replica")
+                .register(meterRegistry);
+        FunctionCounter.builder("planner.replica.reads", readRouter, ReplicaRoutingDataSource::primaryReads)
+                .description("Read-only connections routed to the replica or back to the primary")
+                .tag("target", "primary")
+                .register(meterRegistry);
+        return dataSource;
+    }
+
+    @Bean
+    public WebMvcConfigurer readYourWritesConfigurer(ReadConsistency readConsistency) {
+        return new WebMvcConfigurer() {
+            @Override
+            public void addInterceptors(InterceptorRegistry registry) {
+                registry.addInterceptor(new ReadYourWritesInterceptor(readConsistency)).addPathPatterns("/api/**");
+            }
+        };
+    }
+}
\ No newline at end of file
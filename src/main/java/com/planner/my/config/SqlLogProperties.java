@@ -0,0 +1,36 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 비동기 SQL 로그 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.sql-log")
+public class SqlLogProperties {
+
+    /**
+     * SQL 로그 활성화 여부 (비활성화하면 리스너를 등록하지 않습니다)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 이 시간 이상 걸린 쿼리는 항상 바인드 파라미터 형태와 함께 기록합니다.
+     */
+    private Duration slowThreshold = Duration.ofMillis(100);
+
+    /**
+     * 느리지 않은 쿼리를 기록할 비율 (0.0 ~ 1.0)
+     */
+    private double sampleRate = 0.01;
+
+    /**
+     * 기록 대기 버퍼 크기 (2의 거듭제곱으로 올림, 가득 차면 새 기록은 버립니다)
+     */
+    private int bufferSize = 8192;
+}
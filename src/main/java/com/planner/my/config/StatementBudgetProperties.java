@@ -0,0 +1,29 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 요청당 SQL 문 수 예산 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.statement-budget")
+public class StatementBudgetProperties {
+
+    /**
+     * 예산 초과 경고 활성화 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * {@code @StatementBudget}이 없는 컨트롤러 메서드의 요청당 최대 SQL 문 수
+     */
+    private int defaultBudget = 10;
+
+    /**
+     * 경고 로그에 남길 최대 SQL 문 수
+     */
+    private int maxCapturedStatements = 50;
+}
@@ -0,0 +1,34 @@
+package com.planner.my.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.CacheControl;
+import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
+import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import java.time.Duration;
+
+/**
+ * 운영 프로필에서 빌드 시점에 생성된 OpenAPI 문서를 정적 리소스로 제공합니다.
+ * 런타임 springdoc 스캔은 꺼져 있으며, 클라이언트가 gzip을 지원하면 미리 압축된 파일을 그대로 보냅니다.
+ */
+@Configuration
+@Profile("prod")
+public class StaticOpenApiConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addResourceHandlers(ResourceHandlerRegistry registry) {
+        registry.addResourceHandler("/openapi.json")
+                .addResourceLocations("classpath:/openapi/")
+                .setCacheControl(CacheControl.maxAge(Duration.ofHours(1)))
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+    }
+
+    @Override
+    public void addViewControllers(ViewControllerRegistry registry) {
+        registry.addViewController("/v3/api-docs").setViewName("forward:/openapi.json");
+    }
+}
@@ -0,0 +1,64 @@
+package com.planner.my.config;
+
+import com.planner.my.entity.PlanType;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태 이력이 하나도 없는 계획에 생성 일시 기준의 첫 이력을 채웁니다.
+ * 이력 기록 이전부터 있던 계획도 과거 시점 조회에 나타나도록 하며, 그 사이의 상태 변경은 알 수 없으므로 현재 상태를 사용합니다.
+ * Hibernate가 테이블을 만든 뒤에 실행되도록 EntityManagerFactory 이후에 초기화됩니다.
+ * <p>
+ * 읽기 복제본이 같은 문을 다시 실행해도 같은 행이 되도록, 이력 ID는 시퀀스에서 먼저 받고
+ * 생성 일시가 없는 계획의 시각도 애플리케이션에서 정해 바인드 파라미터로 넣습니다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class StatusHistoryInitializer {
+
+    private static final Map<PlanType, String> TABLES = Map.of(
+            PlanType.DAILY, "daily_plans",
+            PlanType.WEEKLY, "weekly_plans",
+            PlanType.MONTHLY, "monthly_plans",
+            PlanType.YEARLY, "yearly_plans");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PostConstruct
+    public void backfillHistory() {
+        LocalDateTime now = LocalDateTime.now();
+        TABLES.forEach((type, table) -> {
+            List<Object[]> rows = jdbcTemplate.query("SELECT p.id, p.status, p.created_at FROM " + table + " p "
+                            + "WHERE NOT EXISTS (SELECT 1 FROM plan_status_history h "
+                            + "WHERE h.plan_type = ? AND h.plan_id = p.id) ORDER BY p.id",
+                    (rs, rowNum) -> new Object[]{null, type.name(), rs.getLong(1), rs.getString(2),
+                            rs.getObject(3, LocalDateTime.class)},
+                    type.name());
+            if (rows.isEmpty()) {
+                return;
+            }
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT NEXT VALUE FOR plan_status_history_seq FROM SYSTEM_RANGE(1, ?)", Long.class, rows.size());
+            for (int i = 0; i < rows.size(); i++) {
+                Object[] row = rows.get(i);
+                row[0] = ids.get(i);
+                if (row[4] == null) {
+                    row[4] = now;
+                }
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO plan_status_history (id, plan_type, plan_id, status, changed_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", rows);
+            log.info("Backfilled status history: type={}, plans={}", type, rows.size());
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,29 @@
+package com.planner.my.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 계획 상태 이력 스냅샷 설정입니다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "planner.status-history")
+public class StatusHistoryProperties {
+
+    /**
+     * 스냅샷 저장 활성화 여부 (비활성화하면 과거 상태를 항상 처음부터 재생해 구합니다)
+     */
+    private boolean snapshotEnabled = true;
+
+    /**
+     * 스냅샷 실행 주기 (cron 표현식, 실행한 날의 자정 기준 상태를 저장합니다)
+     */
+    private String snapshotCron = "0 15 0 * * *";
+
+    /**
+     * 유형별로 남길 최근 스냅샷 수
+     */
+    private int retainedSnapshots = 30;
+}
\ No newline at end of file
@@ -1,22 +1,39 @@
 package com.planner.my.controller;
 
+import com.planner.my.converter.JsonArrayStreamWriter;
+import com.planner.my.dto.BulkStatusUpdateRequest;
+import com.planner.my.dto.BulkStatusUpdateResponse;
+import com.planner.my.dto.ChecklistItemRequest;
+import com.planner.my.dto.ChecklistResponse;
+import com.planner.my.dto.FieldSelection;
+import com.planner.my.dto.PageResponse;
 import com.planner.my.dto.MonthlyPlanRequest;
 import com.planner.my.dto.MonthlyPlanResponse;
+import com.planner.my.dto.PlanStatusHistoryResponse;
+import com.planner.my.dto.PlanTagsRequest;
 import com.planner.my.dto.ReorderRequest;
 import com.planner.my.dto.StatusUpdateRequest;
 import com.planner.my.entity.PlanStatus;
 import com.planner.my.entity.Priority;
+import com.planner.my.metrics.StatementBudget;
 import com.planner.my.service.MonthlyService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/monthly")
@@ -25,6 +42,7 @@ import java.util.List;
 public class MonthlyController {
 
     private final MonthlyService monthlyService;
+    private final JsonArrayStreamWriter jsonArrayStreamWriter;
 
     @PostMapping
     @Operation(summary = "월간 계획 생성", description = "새로운 월간 계획을 생성합니다.")
@@ -32,10 +50,41 @@ public class MonthlyController {
         return ResponseEntity.status(HttpStatus.CREATED).body(monthlyService.create(request));
     }
 
+    /**
+     * JSON 목록 응답은 DB 커서에서 읽는 대로 응답 본문에 씁니다.
+     * 응답 형식은 findAll과 같으며, JSON 이외의 Accept 헤더는 findAll이 처리합니다.
+     */
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(hidden = true)
+    public void streamAll(
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            HttpServletResponse response) throws IOException {
+        jsonArrayStreamWriter.write(response, plans -> monthlyService.streamAll(includeArchived, plans));
+    }
+
     @GetMapping
     @Operation(summary = "전체 월간 계획 조회", description = "모든 월간 계획을 조회합니다.")
-    public ResponseEntity<List<MonthlyPlanResponse>> findAll() {
-        return ResponseEntity.ok(monthlyService.findAll());
+    public ResponseEntity<List<MonthlyPlanResponse>> findAll(
+            @Parameter(description = "아카이브된 계획 포함 여부") @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(monthlyService.findAll(includeArchived));
+    }
+
+    @GetMapping(params = "fields")
+    @Operation(summary = "전체 월간 계획 필드 선택 조회", description = "모든 월간 계획에서 선택한 필드만 조회합니다. 선택하지 않은 컬럼은 SQL에서 읽지 않습니다.")
+    public ResponseEntity<List<Map<String, Object>>> findAllFields(
+            @Parameter(description = "아카이브된 계획 포함 여부") @RequestParam(defaultValue = "false") boolean includeArchived,
+            @Parameter(description = "응답에 포함할 필드 (쉼표로 구분)", example = "id,title,status,priority")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(monthlyService.findAll(includeArchived,
+                FieldSelection.parse(fields, MonthlyPlanResponse.class)));
+    }
+
+    @GetMapping(params = "asOf")
+    @Operation(summary = "기준 시점 월간 계획 조회", description = "기준 시점의 상태로 월간 계획을 조회합니다. 상태 이외의 필드는 현재 값입니다.")
+    public ResponseEntity<List<MonthlyPlanResponse>> findAllAsOf(
+            @Parameter(description = "기준 시점 (yyyy-MM-ddTHH:mm:ss)", example = "2025-12-01T00:00:00")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime asOf) {
+        return ResponseEntity.ok(monthlyService.findAllAsOf(asOf));
     }
 
     @GetMapping("/{id}")
@@ -45,6 +94,134 @@ public class MonthlyController {
         return ResponseEntity.ok(monthlyService.findById(id));
     }
 
+    @GetMapping("/{id}/history")
+    @Operation(summary = "월간 계획 상태 이력 조회", description = "계획의 상태 변경 이력을 오래된 순서로 조회합니다. 삭제된 계획의 이력도 조회할 수 있습니다.")
+    public ResponseEntity<List<PlanStatusHistoryResponse>> findHistory(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(monthlyService.findHistory(id));
+    }
+
+    /**
+     * 모든 월간 계획의 체크리스트를 표시 순서대로 조회합니다.
+     * 계획 ID 조회와 항목 IN 조회 두 번으로 읽으므로 계획 수와 관계없이 SQL 문 수가 일정합니다.
+     *
+     * @return 계획별 체크리스트 목록
+     */
+    @GetMapping("/checklists")
+    @StatementBudget(2)
+    @Operation(summary = "전체 월간 계획 체크리스트 조회", description = "모든 월간 계획의 체크리스트와 진행률을 표시 순서대로 조회합니다.")
+    public ResponseEntity<List<ChecklistResponse>> findAllChecklists() {
+        return ResponseEntity.ok(monthlyService.findAllChecklists());
+    }
+
+    @GetMapping("/{id}/checklist")
+    @Operation(summary = "월간 계획 체크리스트 조회", description = "계획의 체크리스트 항목과 완료한 항목 비율로 계산한 진행률을 조회합니다.")
+    public ResponseEntity<ChecklistResponse> findChecklist(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(monthlyService.findChecklist(id));
+    }
+
+    @PostMapping("/{id}/checklist")
+    @Operation(summary = "월간 계획 체크리스트 항목 추가", description = "체크리스트 마지막에 항목을 추가하고 변경된 체크리스트를 반환합니다.")
+    public ResponseEntity<ChecklistResponse> addChecklistItem(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id,
+            @Valid @RequestBody ChecklistItemRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(monthlyService.addChecklistItem(id, request));
+    }
+
+    @PutMapping("/{id}/checklist/{itemId}")
+    @Operation(summary = "월간 계획 체크리스트 항목 수정", description = "항목의 내용과 완료 여부를 수정하고 변경된 체크리스트를 반환합니다.")
+    public ResponseEntity<ChecklistResponse> updateChecklistItem(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id,
+            @Parameter(description = "항목 ID", example = "1") @PathVariable Long itemId,
+            @Valid @RequestBody ChecklistItemRequest request) {
+        return ResponseEntity.ok(monthlyService.updateChecklistItem(id, itemId, request));
+    }
+
+    @DeleteMapping("/{id}/checklist/{itemId}")
+    @Operation(summary = "월간 계획 체크리스트 항목 삭제", description = "체크리스트 항목을 삭제합니다.")
+    public ResponseEntity<Void> deleteChecklistItem(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id,
+            @Parameter(description = "항목 ID", example = "1") @PathVariable Long itemId) {
+        monthlyService.deleteChecklistItem(id, itemId);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 기간, 상태, 우선순위 조건을 함께 걸어 월간 계획을 페이지 단위로 조회합니다.
+     * 모든 조건을 하나의 SQL 문으로 DB에서 거르므로 목록을 받아 클라이언트에서 다시 거를 필요가 없습니다.
+     *
+     * @param status 허용할 상태 (하나라도 일치하면 포함)
+     * @param priority 허용할 우선순위 (하나라도 일치하면 포함)
+     * @param from 기간 시작
+     * @param to 기간 끝
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 월간 계획 페이지
+     */
+    @GetMapping("/query")
+    @StatementBudget(2)
+    @Operation(summary = "월간 계획 조건 조회",
+            description = "기간에 속한 달의 계획 중 상태, 우선순위 조건을 만족하는 계획을 표시 순서대로 페이지 단위로 조회합니다. 비워 둔 조건은 적용하지 않습니다.")
+    public ResponseEntity<PageResponse<MonthlyPlanResponse>> query(
+            @Parameter(description = "허용할 상태 (쉼표로 구분)", example = "NOT_STARTED,IN_PROGRESS")
+            @RequestParam(defaultValue = "") List<PlanStatus> status,
+            @Parameter(description = "허용할 우선순위 (쉼표로 구분)", example = "HIGH")
+            @RequestParam(defaultValue = "") List<Priority> priority,
+            @Parameter(description = "이 날짜가 속한 달부터 (yyyy-MM-dd)", example = "2025-12-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @Parameter(description = "이 날짜가 속한 달까지 (yyyy-MM-dd)", example = "2025-12-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(monthlyService.query(status, priority, from, to, page, size));
+    }
+
+    /**
+     * 태그, 상태, 우선순위 조건을 함께 만족하는 월간 계획을 조회합니다.
+     * 조건은 메모리의 비트맵 인덱스로 계산하므로 조건을 여러 개 걸어도 계획마다 조건을 검사하지 않습니다.
+     *
+     * @param tags 모두 가져야 하는 태그
+     * @param status 허용할 상태 (하나라도 일치하면 포함)
+     * @param priority 허용할 우선순위 (하나라도 일치하면 포함)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 월간 계획 페이지
+     */
+    @GetMapping("/filter")
+    @Operation(summary = "월간 계획 복합 조건 조회",
+            description = "태그, 상태, 우선순위 조건을 함께 만족하는 계획을 ID 순서대로 페이지 단위로 조회합니다. 태그는 모두 가져야 하고, 상태와 우선순위는 여러 값 중 하나와 일치하면 됩니다.")
+    public ResponseEntity<PageResponse<MonthlyPlanResponse>> findByFilter(
+            @Parameter(description = "모두 가져야 하는 태그 (쉼표로 구분)", example = "work,urgent")
+            @RequestParam(defaultValue = "") List<String> tags,
+            @Parameter(description = "허용할 상태 (쉼표로 구분)", example = "NOT_STARTED,IN_PROGRESS")
+            @RequestParam(defaultValue = "") List<PlanStatus> status,
+            @Parameter(description = "허용할 우선순위 (쉼표로 구분)", example = "HIGH")
+            @RequestParam(defaultValue = "") List<Priority> priority,
+            @Parameter(description = "페이지 번호 (0부터 시작)", example = "0")
+            @RequestParam(defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(monthlyService.findByFilter(tags, status, priority, page, size));
+    }
+
+    @GetMapping("/{id}/tags")
+    @Operation(summary = "월간 계획 태그 조회", description = "계획의 태그를 이름순으로 조회합니다.")
+    public ResponseEntity<List<String>> findTags(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(monthlyService.findTags(id));
+    }
+
+    @PutMapping("/{id}/tags")
+    @Operation(summary = "월간 계획 태그 변경", description = "계획의 태그를 모두 바꿉니다. 태그는 소문자로 저장됩니다.")
+    public ResponseEntity<List<String>> replaceTags(
+            @Parameter(description = "계획 ID", example = "1") @PathVariable Long id,
+            @Valid @RequestBody PlanTagsRequest request) {
+        return ResponseEntity.ok(monthlyService.replaceTags(id, request.getTags()));
+    }
+
     @GetMapping("/year/{year}/month/{month}")
     @Operation(summary = "연/월별 계획 조회", description = "특정 연도와 월의 모든 계획을 조회합니다.")
     public ResponseEntity<List<MonthlyPlanResponse>> findByYearAndMonth(
@@ -53,6 +230,17 @@ public class MonthlyController {
         return ResponseEntity.ok(monthlyService.findByYearAndMonth(year, month));
     }
 
+    @GetMapping(value = "/year/{year}/month/{month}", params = "fields")
+    @Operation(summary = "연/월별 계획 필드 선택 조회", description = "특정 연도와 월의 계획에서 선택한 필드만 조회합니다.")
+    public ResponseEntity<List<Map<String, Object>>> findByYearAndMonthFields(
+            @Parameter(description = "연도", example = "2025") @PathVariable Integer year,
+            @Parameter(description = "월 (1-12)", example = "12") @PathVariable Integer month,
+            @Parameter(description = "응답에 포함할 필드 (쉼표로 구분)", example = "id,title,status,priority")
+            @RequestParam String fields) {
+        return ResponseEntity.ok(monthlyService.findByYearAndMonth(year, month,
+                FieldSelection.parse(fields, MonthlyPlanResponse.class)));
+    }
+
     @GetMapping("/year/{year}")
     @Operation(summary = "연도별 월간 계획 조회", description = "특정 연도의 모든 월간 계획을 조회합니다.")
     public ResponseEntity<List<MonthlyPlanResponse>> findByYear(
@@ -63,15 +251,17 @@ public class MonthlyController {
     @GetMapping("/status/{status}")
     @Operation(summary = "상태별 월간 계획 조회", description = "특정 상태의 모든 월간 계획을 조회합니다.")
     public ResponseEntity<List<MonthlyPlanResponse>> findByStatus(
-            @Parameter(description = "계획 상태", example = "NOT_STARTED") @PathVariable PlanStatus status) {
-        return ResponseEntity.ok(monthlyService.findByStatus(status));
+            @Parameter(description = "계획 상태", example = "NOT_STARTED") @PathVariable PlanStatus status,
+            @Parameter(description = "아카이브된 계획 포함 여부") @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(monthlyService.findByStatus(status, includeArchived));
     }
 
     @GetMapping("/priority/{priority}")
     @Operation(summary = "우선순위별 월간 계획 조회", description = "특정 우선순위의 모든 월간 계획을 조회합니다.")
     public ResponseEntity<List<MonthlyPlanResponse>> findByPriority(
-            @Parameter(description = "우선순위", example = "HIGH") @PathVariable Priority priority) {
-        return ResponseEntity.ok(monthlyService.findByPriority(priority));
+            @Parameter(description = "우선순위", example = "HIGH") @PathVariable Priority priority,
+            @Parameter(description = "아카이브된 계획 포함 여부") @RequestParam(defaultValue = "false") boolean includeArchived) {
+        return ResponseEntity.ok(monthlyService.findByPriority(priority, includeArchived));
     }
 
     @PutMapping("/{id}")
@@ -90,6 +280,19 @@ public class MonthlyController {
         return ResponseEntity.ok(monthlyService.updateStatus(id, request.getStatus()));
     }
 
+    /**
+     * 여러 월간 계획의 상태를 한 번에 변경합니다.
+     *
+     * @param request 변경할 계획 ID 목록과 새로운 상태
+     * @return 변경된 계획 ID와 거부된 계획 ID 목록
+     */
+    @PatchMapping("/status")
+    @Operation(summary = "월간 계획 상태 일괄 변경",
+            description = "여러 계획의 상태를 한 번에 변경합니다. 완료 또는 실패 상태이거나 존재하지 않는 계획은 거부 목록으로 반환됩니다.")
+    public ResponseEntity<BulkStatusUpdateResponse> bulkUpdateStatus(@Valid @RequestBody BulkStatusUpdateRequest request) {
+        return ResponseEntity.ok(monthlyService.bulkUpdateStatus(request.getIds(), request.getStatus()));
+    }
+
     @DeleteMapping("/{id}")
     @Operation(summary = "월간 계획 삭제", description = "월간 계획을 삭제합니다.")
     public ResponseEntity<Void> delete(
@@ -105,6 +308,7 @@ public class MonthlyController {
      * @return 재정렬된 월간 계획 목록
      */
     @PutMapping("/reorder")
+    @StatementBudget(5)
     @Operation(summary = "월간 계획 순서 변경", description = "드래그 앤 드롭으로 계획 순서를 변경합니다.")
     public ResponseEntity<List<MonthlyPlanResponse>> reorder(@Valid @RequestBody ReorderRequest request) {
         return ResponseEntity.ok(monthlyService.reorder(request.getOrderedIds()));
@@ -0,0 +1,102 @@
+package com.planner.my.controller;
+
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.RecurringPlanRequest;
+import com.planner.my.dto.RecurringPlanResponse;
+import com.planner.my.dto.StatusUpdateRequest;
+import com.planner.my.service.RecurringPlanService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/recurring")
+@RequiredArgsConstructor
+@Tag(name = "Recurring Plan", description = "반복 일간 계획 관리 API")
+public class RecurringPlanController {
+
+    private final RecurringPlanService recurringPlanService;
+
+    @PostMapping
+    @Operation(summary = "반복 계획 생성", description = "RRULE 형식의 반복 규칙으로 반복 일간 계획을 생성합니다.")
+    public ResponseEntity<RecurringPlanResponse> create(@Valid @RequestBody RecurringPlanRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(recurringPlanService.create(request));
+    }
+
+    @GetMapping
+    @Operation(summary = "전체 반복 계획 조회", description = "모든 반복 계획을 조회합니다.")
+    public ResponseEntity<List<RecurringPlanResponse>> findAll() {
+        return ResponseEntity.ok(recurringPlanService.findAll());
+    }
+
+    @GetMapping("/{id}")
+    @Operation(summary = "반복 계획 단건 조회", description = "ID로 특정 반복 계획을 조회합니다.")
+    public ResponseEntity<RecurringPlanResponse> findById(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id) {
+        return ResponseEntity.ok(recurringPlanService.findById(id));
+    }
+
+    @PutMapping("/{id}")
+    @Operation(summary = "반복 계획 수정", description = "반복 계획을 수정합니다. 이미 수정된 반복 일정은 유지됩니다.")
+    public ResponseEntity<RecurringPlanResponse> update(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id,
+            @Valid @RequestBody RecurringPlanRequest request) {
+        return ResponseEntity.ok(recurringPlanService.update(id, request));
+    }
+
+    @DeleteMapping("/{id}")
+    @Operation(summary = "반복 계획 삭제", description = "반복 계획을 삭제합니다. 수정된 반복 일정은 일반 일간 계획으로 남습니다.")
+    public ResponseEntity<Void> delete(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id) {
+        recurringPlanService.delete(id);
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * 특정 날짜의 반복 일정을 수정합니다. 수정된 일정만 일간 계획으로 저장됩니다.
+     *
+     * @param id 반복 계획 ID
+     * @param date 원래 반복 날짜
+     * @param request 수정 요청
+     * @return 저장된 일간 계획
+     */
+    @PutMapping("/{id}/occurrences/{date}")
+    @Operation(summary = "반복 일정 수정", description = "특정 날짜의 반복 일정을 수정하여 일간 계획으로 저장합니다.")
+    public ResponseEntity<DailyPlanResponse> updateOccurrence(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id,
+            @Parameter(description = "원래 반복 날짜 (yyyy-MM-dd)", example = "2025-12-22")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody DailyPlanRequest request) {
+        return ResponseEntity.ok(recurringPlanService.updateOccurrence(id, date, request));
+    }
+
+    @PatchMapping("/{id}/occurrences/{date}/status")
+    @Operation(summary = "반복 일정 상태 변경", description = "특정 날짜의 반복 일정 상태를 변경하여 일간 계획으로 저장합니다.")
+    public ResponseEntity<DailyPlanResponse> updateOccurrenceStatus(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id,
+            @Parameter(description = "원래 반복 날짜 (yyyy-MM-dd)", example = "2025-12-22")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date,
+            @Valid @RequestBody StatusUpdateRequest request) {
+        return ResponseEntity.ok(recurringPlanService.updateOccurrenceStatus(id, date, request.getStatus()));
+    }
+
+    @DeleteMapping("/{id}/occurrences/{date}")
+    @Operation(summary = "반복 일정 삭제", description = "특정 날짜의 반복 일정을 삭제합니다.")
+    public ResponseEntity<Void> deleteOccurrence(
+            @Parameter(description = "반복 계획 ID", example = "1") @PathVariable Long id,
+            @Parameter(description = "삭제할 반복 날짜 (yyyy-MM-dd)", example = "2025-12-22")
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate date) {
+        recurringPlanService.deleteOccurrence(id, date);
+        return ResponseEntity.noContent().build();
+    }
+}
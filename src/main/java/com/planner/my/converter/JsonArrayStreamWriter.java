@@ -0,0 +1,37 @@
+package com.planner.my.converter;
+
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.function.Consumer;
+
+/**
+ * 목록 응답을 JSON 배열로 응답 본문에 바로 씁니다.
+ * 원소를 받는 즉시 JsonGenerator로 직렬화하므로 목록 전체나 직렬화된 본문 전체를 메모리에 두지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JsonArrayStreamWriter {
+
+    private final JsonMapper jsonMapper;
+
+    /**
+     * source가 넘겨주는 원소를 JSON 배열로 씁니다.
+     *
+     * @param response 응답
+     * @param source 원소를 하나씩 consumer에 넘기는 작업
+     */
+    public void write(HttpServletResponse response, Consumer<Consumer<Object>> source) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        try (JsonGenerator generator = jsonMapper.createGenerator(response.getOutputStream())) {
+            generator.writeStartArray();
+            source.accept(generator::writePOJO);
+            generator.writeEndArray();
+        }
+    }
+}
\ No newline at end of file
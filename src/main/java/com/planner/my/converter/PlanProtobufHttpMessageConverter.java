@@ -0,0 +1,75 @@
+package com.planner.my.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Collection;
+
+/**
+ * {@code Accept: application/x-protobuf} 요청에 계획 응답 DTO와 그 목록을 Protobuf로 응답합니다.
+ * 스키마는 {@code proto/plans.proto}이며, 계획 응답이 아닌 타입과 요청 본문 읽기는 지원하지 않습니다.
+ */
+public class PlanProtobufHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    public static final MediaType APPLICATION_PROTOBUF = new MediaType("application", "x-protobuf");
+
+    private static final int BUFFER_SIZE = 8192;
+
+    public PlanProtobufHttpMessageConverter() {
+        super(APPLICATION_PROTOBUF);
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return PlanProtobufWriter.PLAN_TYPES.contains(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public boolean canWrite(Type type, Class<?> clazz, MediaType mediaType) {
+        return isPlanType(type != null ? type : clazz) && canWrite(mediaType);
+    }
+
+    /**
+     * 계획 응답 DTO이거나 원소 타입이 계획 응답 DTO인 컬렉션인지 확인합니다.
+     */
+    private boolean isPlanType(Type type) {
+        ResolvableType resolved = ResolvableType.forType(type);
+        if (Collection.class.isAssignableFrom(resolved.toClass())) {
+            return supports(resolved.asCollection().getGeneric(0).toClass());
+        }
+        return supports(resolved.toClass());
+    }
+
+    @Override
+    protected void writeInternal(Object body, Type type, HttpOutputMessage outputMessage) throws IOException {
+        CodedOutputStream output = CodedOutputStream.newInstance(outputMessage.getBody(), BUFFER_SIZE);
+        if (body instanceof Collection<?> plans) {
+            PlanProtobufWriter.writeList(plans, output);
+        } else {
+            PlanProtobufWriter.write(body, output);
+        }
+        output.flush();
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("Protobuf request bodies are not supported", inputMessage);
+    }
+}
\ No newline at end of file
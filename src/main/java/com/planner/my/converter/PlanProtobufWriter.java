@@ -0,0 +1,230 @@
+package com.planner.my.converter;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.WireFormat;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.MonthlyPlanResponse;
+import com.planner.my.dto.WeeklyPlanResponse;
+import com.planner.my.dto.YearlyPlanResponse;
+import com.planner.my.util.EpochValues;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 계획 응답 DTO를 {@code proto/plans.proto} 스키마의 Protobuf 바이너리로 씁니다.
+ * 생성된 메시지 클래스로 한 번 더 복사하지 않고 CodedOutputStream에 필드를 바로 인코딩합니다.
+ * 목록의 각 계획은 길이를 먼저 써야 하므로, 같은 필드 순회를 크기 계산과 쓰기에 한 번씩 사용합니다.
+ */
+public final class PlanProtobufWriter {
+
+    /**
+     * 인코딩할 수 있는 응답 DTO 타입
+     */
+    public static final Set<Class<?>> PLAN_TYPES = Set.of(
+            DailyPlanResponse.class, WeeklyPlanResponse.class,
+            MonthlyPlanResponse.class, YearlyPlanResponse.class);
+
+    private static final int LIST_FIELD = 1;
+
+    private PlanProtobufWriter() {
+    }
+
+    /**
+     * 계획 목록을 *PlanList 메시지로 씁니다.
+     */
+    public static void writeList(Collection<?> plans, CodedOutputStream output) throws IOException {
+        FieldWriter writer = new FieldWriter(output);
+        for (Object plan : plans) {
+            SizeCounter counter = new SizeCounter();
+            visit(plan, counter);
+            output.writeTag(LIST_FIELD, WireFormat.WIRETYPE_LENGTH_DELIMITED);
+            output.writeUInt32NoTag(counter.size);
+            visit(plan, writer);
+        }
+    }
+
+    /**
+     * 계획 하나를 메시지로 씁니다.
+     */
+    public static void write(Object plan, CodedOutputStream output) throws IOException {
+        visit(plan, new FieldWriter(output));
+    }
+
+    private static void visit(Object plan, Fields fields) throws IOException {
+        switch (plan) {
+            case DailyPlanResponse daily -> visitDaily(daily, fields);
+            case WeeklyPlanResponse weekly -> visitWeekly(weekly, fields);
+            case MonthlyPlanResponse monthly -> visitMonthly(monthly, fields);
+            case YearlyPlanResponse yearly -> visitYearly(yearly, fields);
+            default -> throw new IllegalArgumentException("Unsupported protobuf type: " + plan.getClass().getName());
+        }
+    }
+
+    private static void visitDaily(DailyPlanResponse plan, Fields fields) throws IOException {
+        fields.int64(1, plan.id());
+        fields.string(2, plan.title());
+        fields.string(3, plan.description());
+        fields.date(4, plan.planDate());
+        fields.enumValue(5, plan.priority());
+        fields.enumValue(6, plan.status());
+        fields.dateTime(7, plan.createdAt());
+        fields.dateTime(8, plan.updatedAt());
+        fields.int32(9, plan.displayOrder());
+        fields.int64(10, plan.recurringPlanId());
+        fields.date(11, plan.occurrenceDate());
+    }
+
+    private static void visitWeekly(WeeklyPlanResponse plan, Fields fields) throws IOException {
+        fields.int64(1, plan.id());
+        fields.string(2, plan.title());
+        fields.string(3, plan.description());
+        fields.date(4, plan.weekStartDate());
+        fields.date(5, plan.weekEndDate());
+        fields.enumValue(6, plan.priority());
+        fields.enumValue(7, plan.status());
+        fields.dateTime(8, plan.createdAt());
+        fields.dateTime(9, plan.updatedAt());
+        fields.int32(10, plan.displayOrder());
+    }
+
+    private static void visitMonthly(MonthlyPlanResponse plan, Fields fields) throws IOException {
+        fields.int64(1, plan.id());
+        fields.string(2, plan.title());
+        fields.string(3, plan.description());
+        fields.int32(4, plan.year());
+        fields.int32(5, plan.month());
+        fields.enumValue(6, plan.priority());
+        fields.enumValue(7, plan.status());
+        fields.dateTime(8, plan.createdAt());
+        fields.dateTime(9, plan.updatedAt());
+        fields.int32(10, plan.displayOrder());
+    }
+
+    private static void visitYearly(YearlyPlanResponse plan, Fields fields) throws IOException {
+        fields.int64(1, plan.id());
+        fields.string(2, plan.title());
+        fields.string(3, plan.description());
+        fields.int32(4, plan.year());
+        fields.enumValue(5, plan.priority());
+        fields.enumValue(6, plan.status());
+        fields.dateTime(7, plan.createdAt());
+        fields.dateTime(8, plan.updatedAt());
+        fields.int32(9, plan.displayOrder());
+    }
+
+    /**
+     * 스키마의 enum 값은 0을 UNSPECIFIED로 비워 두었으므로 Java enum 순서에 1을 더합니다.
+     */
+    private static int enumNumber(Enum<?> value) {
+        return value.ordinal() + 1;
+    }
+
+    /**
+     * 필드 순회 대상입니다. null 값과 값이 없는 날짜/일시({@link EpochValues#NO_DATE}, {@link EpochValues#NO_DATE_TIME})는 쓰지 않습니다.
+     * 응답 DTO가 날짜와 일시를 이미 epoch 값으로 보관하므로 그대로 씁니다.
+     */
+    private interface Fields {
+
+        void int64(int number, Long value) throws IOException;
+
+        void int32(int number, int value) throws IOException;
+
+        void string(int number, String value) throws IOException;
+
+        void date(int number, int epochDay) throws IOException;
+
+        void dateTime(int number, long epochMicros) throws IOException;
+
+        void enumValue(int number, Enum<?> value) throws IOException;
+    }
+
+    private static final class SizeCounter implements Fields {
+
+        private int size;
+
+        @Override
+        public void int64(int number, Long value) {
+            if (value != null) {
+                size += CodedOutputStream.computeInt64Size(number, value);
+            }
+        }
+
+        @Override
+        public void int32(int number, int value) {
+            size += CodedOutputStream.computeInt32Size(number, value);
+        }
+
+        @Override
+        public void string(int number, String value) {
+            if (value != null) {
+                size += CodedOutputStream.computeStringSize(number, value);
+            }
+        }
+
+        @Override
+        public void date(int number, int epochDay) {
+            if (epochDay != EpochValues.NO_DATE) {
+                size += CodedOutputStream.computeInt32Size(number, epochDay);
+            }
+        }
+
+        @Override
+        public void dateTime(int number, long epochMicros) {
+            if (epochMicros != EpochValues.NO_DATE_TIME) {
+                size += CodedOutputStream.computeInt64Size(number, epochMicros);
+            }
+        }
+
+        @Override
+        public void enumValue(int number, Enum<?> value) {
+            if (value != null) {
+                size += CodedOutputStream.computeEnumSize(number, enumNumber(value));
+            }
+        }
+    }
+
+    private record FieldWriter(CodedOutputStream output) implements Fields {
+
+        @Override
+        public void int64(int number, Long value) throws IOException {
+            if (value != null) {
+                output.writeInt64(number, value);
+            }
+        }
+
+        @Override
+        public void int32(int number, int value) throws IOException {
+            output.writeInt32(number, value);
+        }
+
+        @Override
+        public void string(int number, String value) throws IOException {
+            if (value != null) {
+                output.writeString(number, value);
+            }
+        }
+
+        @Override
+        public void date(int number, int epochDay) throws IOException {
+            if (epochDay != EpochValues.NO_DATE) {
+                output.writeInt32(number, epochDay);
+            }
+        }
+
+        @Override
+        public void dateTime(int number, long epochMicros) throws IOException {
+            if (epochMicros != EpochValues.NO_DATE_TIME) {
+                output.writeInt64(number, epochMicros);
+            }
+        }
+
+        @Override
+        public void enumValue(int number, Enum<?> value) throws IOException {
+            if (value != null) {
+                output.writeEnum(number, enumNumber(value));
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,35 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.PlanStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "계획 상태 일괄 변경 요청")
+public class BulkStatusUpdateRequest {
+
+    /**
+     * 한 요청에서 변경할 수 있는 최대 계획 수
+     */
+    public static final int MAX_IDS = 1000;
+
+    @NotEmpty(message = "Ids are required")
+    @Size(max = MAX_IDS, message = "At most " + MAX_IDS + " ids are allowed")
+    @Schema(description = "상태를 변경할 계획 ID 목록 (최대 " + MAX_IDS + "개)", example = "[1, 2, 3]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotNull(message = "Id must not be null") Long> ids;
+
+    @NotNull(message = "Status is required")
+    @Schema(description = "변경할 상태 (NOT_STARTED: 시작 전, IN_PROGRESS: 진행 중, COMPLETED: 완료, FAILED: 실패)",
+            example = "COMPLETED", requiredMode = Schema.RequiredMode.REQUIRED)
+    private PlanStatus status;
+}
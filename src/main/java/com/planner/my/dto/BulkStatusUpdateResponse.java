@@ -0,0 +1,24 @@
+package com.planner.my.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "계획 상태 일괄 변경 응답")
+public class BulkStatusUpdateResponse {
+
+    @Schema(description = "실제로 상태가 바뀐 계획 수 (이미 같은 상태였던 계획 제외)", example = "2")
+    private int updatedCount;
+
+    @Schema(description = "요청한 상태가 된 계획 ID 목록 (이미 같은 상태였던 계획 포함)", example = "[1, 2]")
+    private List<Long> updatedIds;
+
+    @Schema(description = "존재하지 않거나 완료/실패 상태라서 변경되지 않은 계획 ID 목록", example = "[3]")
+    private List<Long> rejectedIds;
+}
@@ -0,0 +1,21 @@
+package com.planner.my.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "체크리스트 항목 추가/수정 요청")
+public class ChecklistItemRequest {
+
+    @NotBlank(message = "Content is required")
+    @Schema(description = "항목 내용", example = "스트레칭 10분", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String content;
+
+    @Schema(description = "완료 여부 (생략하면 추가할 때는 미완료, 수정할 때는 기존 값 유지)", example = "false")
+    private Boolean done;
+}
\ No newline at end of file
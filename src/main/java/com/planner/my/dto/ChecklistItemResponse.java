@@ -0,0 +1,27 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.ChecklistItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 체크리스트 항목 응답입니다.
+ */
+@Schema(description = "체크리스트 항목")
+public record ChecklistItemResponse(
+
+        @Schema(description = "항목 ID", example = "1")
+        Long id,
+
+        @Schema(description = "항목 내용", example = "스트레칭 10분")
+        String content,
+
+        @Schema(description = "완료 여부", example = "true")
+        boolean done,
+
+        @Schema(description = "표시 순서", example = "0")
+        int displayOrder) {
+
+    public static ChecklistItemResponse from(ChecklistItem entity) {
+        return new ChecklistItemResponse(entity.getId(), entity.getContent(), entity.isDone(), entity.getDisplayOrder());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.ChecklistItem;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * 계획 하나의 체크리스트와 항목 완료율로 계산한 진행률입니다.
+ */
+@Schema(description = "계획 체크리스트")
+public record ChecklistResponse(
+
+        @Schema(description = "계획 ID", example = "1")
+        Long planId,
+
+        @Schema(description = "전체 항목 수", example = "4")
+        int totalCount,
+
+        @Schema(description = "완료한 항목 수", example = "3")
+        int doneCount,
+
+        @Schema(description = "진행률 (완료한 항목 비율, 0~100, 항목이 없으면 0)", example = "75")
+        int progress,
+
+        @Schema(description = "체크리스트 항목 (표시 순서대로)")
+        List<ChecklistItemResponse> items) {
+
+    /**
+     * 표시 순서대로 정렬된 항목으로 체크리스트 응답을 만듭니다.
+     *
+     * @param planId 계획 ID
+     * @param items 계획의 체크리스트 항목
+     * @return 진행률을 포함한 체크리스트 응답
+     */
+    public static ChecklistResponse of(Long planId, List<ChecklistItem> items) {
+        int doneCount = (int) items.stream().filter(ChecklistItem::isDone).count();
+        int progress = items.isEmpty() ? 0 : doneCount * 100 / items.size();
+        return new ChecklistResponse(planId, items.size(), doneCount, progress,
+                items.stream().map(ChecklistItemResponse::from).toList());
+    }
+}
\ No newline at end of file
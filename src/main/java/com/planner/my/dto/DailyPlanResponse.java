@@ -3,46 +3,61 @@ package com.planner.my.dto;
 import com.planner.my.entity.DailyPlan;
 import com.planner.my.entity.Priority;
 import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.RecurringPlan;
+import com.planner.my.util.EpochValues;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.*;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+/**
+ * 일간 계획 응답입니다.
+ * 많은 계획을 메모리에 두어도 작도록 날짜는 epoch day, 일시는 epoch 마이크로초로 보관하며 JSON에는 ISO 문자열로 씁니다.
+ */
 @Schema(description = "일간 계획 응답")
-public class DailyPlanResponse {
+public record DailyPlanResponse(
 
-    @Schema(description = "계획 ID", example = "1")
-    private Long id;
+        @Schema(description = "계획 ID", example = "1")
+        Long id,
 
-    @Schema(description = "계획 제목", example = "운동하기")
-    private String title;
+        @Schema(description = "계획 제목", example = "운동하기")
+        String title,
 
-    @Schema(description = "계획 상세 설명", example = "30분 조깅 후 스트레칭")
-    private String description;
+        @Schema(description = "계획 상세 설명", example = "30분 조깅 후 스트레칭")
+        String description,
 
-    @Schema(description = "계획 날짜", example = "2025-12-21")
-    private LocalDate planDate;
+        @Schema(description = "계획 날짜", example = "2025-12-21", type = "string", format = "date")
+        @JsonSerialize(using = EpochJson.DateSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateDeserializer.class)
+        int planDate,
 
-    @Schema(description = "우선순위", example = "HIGH")
-    private Priority priority;
+        @Schema(description = "우선순위", example = "HIGH")
+        Priority priority,
 
-    @Schema(description = "계획 상태", example = "NOT_STARTED")
-    private PlanStatus status;
+        @Schema(description = "계획 상태", example = "NOT_STARTED")
+        PlanStatus status,
 
-    @Schema(description = "생성 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime createdAt;
+        @Schema(description = "생성 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long createdAt,
 
-    @Schema(description = "수정 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime updatedAt;
+        @Schema(description = "수정 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long updatedAt,
 
-    @Schema(description = "표시 순서", example = "1")
-    private Integer displayOrder;
+        @Schema(description = "표시 순서", example = "1")
+        int displayOrder,
+
+        @Schema(description = "반복 계획에서 생성된 일정이면 반복 계획 ID", example = "1")
+        Long recurringPlanId,
+
+        @Schema(description = "반복 계획에서 생성된 일정이면 원래 반복 날짜", example = "2025-12-21", type = "string", format = "date")
+        @JsonSerialize(using = EpochJson.DateSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateDeserializer.class)
+        int occurrenceDate) {
 
     /**
      * DailyPlan 엔티티를 DailyPlanResponse DTO로 변환합니다.
@@ -51,16 +66,72 @@ public class DailyPlanResponse {
      * @return 변환된 DailyPlanResponse DTO
      */
     public static DailyPlanResponse from(DailyPlan entity) {
-        return DailyPlanResponse.builder()
-                .id(entity.getId())
-                .title(entity.getTitle())
-                .description(entity.getDescription())
-                .planDate(entity.getPlanDate())
-                .priority(entity.getPriority())
-                .status(entity.getStatus())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .displayOrder(entity.getDisplayOrder())
-                .build();
+        return of(entity, entity.getDescription());
+    }
+
+    /**
+     * 목록 조회용으로 DailyPlan 엔티티를 변환합니다.
+     * 지연 로딩되는 설명은 읽지 않으므로 description은 null이며, 설명은 단건 조회에서만 내려줍니다.
+     *
+     * @param entity 변환할 DailyPlan 엔티티
+     * @return 설명을 제외한 DailyPlanResponse DTO
+     */
+    public static DailyPlanResponse fromSummary(DailyPlan entity) {
+        return of(entity, null);
+    }
+
+    /**
+     * 아직 저장되지 않은 반복 일정을 DailyPlanResponse DTO로 변환합니다.
+     * 저장된 행이 없으므로 ID는 null이며, 반복 계획 ID와 반복 날짜로 식별합니다.
+     *
+     * @param template 반복 계획
+     * @param date 반복 날짜
+     * @return 변환된 DailyPlanResponse DTO
+     */
+    public static DailyPlanResponse fromOccurrence(RecurringPlan template, LocalDate date) {
+        int epochDay = EpochValues.epochDay(date);
+        return new DailyPlanResponse(
+                null,
+                template.getTitle(),
+                template.getDescription(),
+                epochDay,
+                template.getPriority(),
+                PlanStatus.NOT_STARTED,
+                EpochValues.epochMicros(template.getCreatedAt()),
+                EpochValues.epochMicros(template.getUpdatedAt()),
+                template.getDisplayOrder(),
+                template.getId(),
+                epochDay);
+    }
+
+    /**
+     * 설명만 바꾼 응답을 반환합니다.
+     */
+    public DailyPlanResponse withDescription(String description) {
+        return new DailyPlanResponse(id, title, description, planDate, priority, status,
+                createdAt, updatedAt, displayOrder, recurringPlanId, occurrenceDate);
+    }
+
+    /**
+     * 상태만 바꾼 응답을 반환합니다.
+     */
+    public DailyPlanResponse withStatus(PlanStatus status) {
+        return new DailyPlanResponse(id, title, description, planDate, priority, status,
+                createdAt, updatedAt, displayOrder, recurringPlanId, occurrenceDate);
+    }
+
+    private static DailyPlanResponse of(DailyPlan entity, String description) {
+        return new DailyPlanResponse(
+                entity.getId(),
+                entity.getTitle(),
+                description,
+                EpochValues.epochDay(entity.getPlanDate()),
+                entity.getPriority(),
+                entity.getStatus(),
+                EpochValues.epochMicros(entity.getCreatedAt()),
+                EpochValues.epochMicros(entity.getUpdatedAt()),
+                entity.getDisplayOrder(),
+                entity.getRecurringPlanId(),
+                EpochValues.epochDay(entity.getOccurrenceDate()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,79 @@
+package com.planner.my.dto;
+
+import com.planner.my.util.EpochValues;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.JsonParser;
+import tools.jackson.databind.DeserializationContext;
+import tools.jackson.databind.SerializationContext;
+import tools.jackson.databind.ValueDeserializer;
+import tools.jackson.databind.ValueSerializer;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 응답 DTO가 epoch 값으로 보관한 날짜와 일시를 JSON에서는 {@code LocalDate}, {@code LocalDateTime}과 같은
+ * ISO 문자열로 읽고 쓰는 Jackson 직렬화기입니다. 값이 없으면 null로 씁니다.
+ */
+public final class EpochJson {
+
+    private EpochJson() {
+    }
+
+    /**
+     * epoch day를 ISO 날짜 문자열(예: 2025-12-21)로 씁니다.
+     */
+    public static class DateSerializer extends ValueSerializer<Integer> {
+
+        @Override
+        public void serialize(Integer epochDay, JsonGenerator generator, SerializationContext context) {
+            if (epochDay == EpochValues.NO_DATE) {
+                generator.writeNull();
+            } else {
+                generator.writeString(EpochValues.date(epochDay).toString());
+            }
+        }
+    }
+
+    public static class DateDeserializer extends ValueDeserializer<Integer> {
+
+        @Override
+        public Integer deserialize(JsonParser parser, DeserializationContext context) {
+            return EpochValues.epochDay(LocalDate.parse(parser.getValueAsString()));
+        }
+
+        @Override
+        public Integer getNullValue(DeserializationContext context) {
+            return EpochValues.NO_DATE;
+        }
+    }
+
+    /**
+     * epoch 마이크로초를 ISO 일시 문자열(예: 2025-12-21T10:30:00)로 씁니다.
+     */
+    public static class DateTimeSerializer extends ValueSerializer<Long> {
+
+        @Override
+        public void serialize(Long epochMicros, JsonGenerator generator, SerializationContext context) {
+            if (epochMicros == EpochValues.NO_DATE_TIME) {
+                generator.writeNull();
+            } else {
+                generator.writeString(DateTimeFormatter.ISO_LOCAL_DATE_TIME.format(EpochValues.dateTime(epochMicros)));
+            }
+        }
+    }
+
+    public static class DateTimeDeserializer extends ValueDeserializer<Long> {
+
+        @Override
+        public Long deserialize(JsonParser parser, DeserializationContext context) {
+            return EpochValues.epochMicros(LocalDateTime.parse(parser.getValueAsString()));
+        }
+
+        @Override
+        public Long getNullValue(DeserializationContext context) {
+            return EpochValues.NO_DATE_TIME;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,128 @@
+package com.planner.my.dto;
+
+import com.planner.my.util.EpochValues;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 목록 응답에 포함할 필드 목록입니다 (예: {@code ?fields=id,title,status,priority}).
+ * 필드 이름은 응답 DTO의 필드 이름이며, 같은 이름의 엔티티 속성만 SQL에서 조회합니다.
+ *
+ * @param names 선택한 필드 이름 (요청한 순서)
+ */
+public record FieldSelection(List<String> names) {
+
+    public FieldSelection {
+        names = List.copyOf(names);
+    }
+
+    /**
+     * 쉼표로 구분된 필드 목록을 해석합니다.
+     *
+     * @param fields 쉼표로 구분된 필드 이름
+     * @param responseType 필드 이름을 검증할 응답 DTO 타입
+     * @return 중복을 제거한 필드 목록
+     * @throws IllegalArgumentException 필드가 비어 있거나 응답 DTO에 없는 필드가 있을 때
+     */
+    public static FieldSelection parse(String fields, Class<?> responseType) {
+        Set<String> allowed = Arrays.stream(responseType.getDeclaredFields())
+                .filter(field -> !Modifier.isStatic(field.getModifiers()))
+                .map(Field::getName)
+                .collect(Collectors.toSet());
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(trimmed)) {
+                throw new IllegalArgumentException("Unknown field: " + trimmed);
+            }
+            names.add(trimmed);
+        }
+        if (names.isEmpty()) {
+            throw new IllegalArgumentException("At least one field is required");
+        }
+        return new FieldSelection(List.copyOf(names));
+    }
+
+    /**
+     * 정렬이나 병합에 필요한 필드를 더한 목록을 반환합니다. 응답에는 {@link #retain(Map)}으로 다시 걸러냅니다.
+     */
+    public FieldSelection with(String... required) {
+        Set<String> merged = new LinkedHashSet<>(names);
+        merged.addAll(Arrays.asList(required));
+        return new FieldSelection(List.copyOf(merged));
+    }
+
+    /**
+     * 주어진 필드가 선택되었는지 확인합니다.
+     */
+    public boolean includes(String name) {
+        return names.contains(name);
+    }
+
+    /**
+     * 이미 메모리에 있는 응답 DTO에서 선택한 필드만 꺼냅니다.
+     * 아카이브 테이블이나 펼쳐진 반복 일정처럼 SQL 투영을 거치지 않는 행에 사용합니다.
+     * epoch 값으로 보관한 날짜와 일시는 SQL 투영 결과와 같은 {@code LocalDate}, {@code LocalDateTime}으로 되돌립니다.
+     */
+    public Map<String, Object> project(Record response) {
+        Map<String, RecordComponent> components = new HashMap<>();
+        for (RecordComponent component : response.getClass().getRecordComponents()) {
+            components.put(component.getName(), component);
+        }
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String name : names) {
+            row.put(name, value(response, components.get(name)));
+        }
+        return row;
+    }
+
+    /**
+     * 행에서 선택한 필드만 남깁니다.
+     */
+    public Map<String, Object> retain(Map<String, Object> row) {
+        if (row.size() == names.size()) {
+            return row;
+        }
+        Map<String, Object> retained = new LinkedHashMap<>();
+        for (String name : names) {
+            retained.put(name, row.get(name));
+        }
+        return retained;
+    }
+
+    private static Object value(Record response, RecordComponent component) {
+        Method accessor = component.getAccessor();
+        Object value;
+        try {
+            value = accessor.invoke(response);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot read field: " + component.getName(), e);
+        }
+        JsonSerialize serialize = accessor.getAnnotation(JsonSerialize.class);
+        if (serialize == null) {
+            return value;
+        }
+        if (serialize.using() == EpochJson.DateSerializer.class) {
+            return EpochValues.date((Integer) value);
+        }
+        if (serialize.using() == EpochJson.DateTimeSerializer.class) {
+            return EpochValues.dateTime((Long) value);
+        }
+        return value;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,56 @@
+package com.planner.my.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 페이지 단위로 나눈 조회 결과입니다.
+ */
+@Schema(description = "페이지 조회 결과")
+public record PageResponse<T>(
+
+        @Schema(description = "현재 페이지의 항목")
+        List<T> content,
+
+        @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+        int page,
+
+        @Schema(description = "페이지 크기", example = "20")
+        int size,
+
+        @Schema(description = "조건에 맞는 전체 항목 수", example = "42")
+        long totalElements,
+
+        @Schema(description = "전체 페이지 수", example = "3")
+        int totalPages) {
+
+    /**
+     * Spring Data 페이지로 응답을 만듭니다.
+     *
+     * @param page 조회한 페이지
+     * @return 페이지 응답
+     */
+    public static <T> PageResponse<T> of(Page<T> page) {
+        return new PageResponse<>(page.getContent(), page.getNumber(), page.getSize(),
+                page.getTotalElements(), page.getTotalPages());
+    }
+
+    /**
+     * ID 페이지의 순서대로 항목을 채워 응답을 만듭니다. ID를 고른 뒤 읽기 전에 삭제되어 찾지 못한 항목은 건너뜁니다.
+     *
+     * @param ids 조회한 ID 페이지
+     * @param items ID별로 읽은 항목
+     * @return 페이지 응답
+     */
+    public static <T> PageResponse<T> of(Page<Long> ids, Map<Long, T> items) {
+        List<T> content = ids.getContent().stream()
+                .map(items::get)
+                .filter(Objects::nonNull)
+                .toList();
+        return new PageResponse<>(content, ids.getNumber(), ids.getSize(), ids.getTotalElements(), ids.getTotalPages());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanStatusHistory;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계획 상태 변경 이력 응답입니다.
+ */
+@Schema(description = "계획 상태 변경 이력")
+public record PlanStatusHistoryResponse(
+
+        @Schema(description = "변경 후 상태 (삭제되었으면 null)", example = "IN_PROGRESS")
+        PlanStatus status,
+
+        @Schema(description = "변경 일시", example = "2025-12-21T10:30:00")
+        LocalDateTime changedAt) {
+
+    public static PlanStatusHistoryResponse from(PlanStatusHistory entity) {
+        return new PlanStatusHistoryResponse(entity.getStatus(), entity.getChangedAt());
+    }
+}
\ No newline at end of file
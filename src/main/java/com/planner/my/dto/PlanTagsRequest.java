@@ -0,0 +1,26 @@
+package com.planner.my.dto;
+
+import com.planner.my.util.PlanTags;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "계획 태그 변경 요청")
+public class PlanTagsRequest {
+
+    @NotNull(message = "Tags are required")
+    @Size(max = 20, message = "At most 20 tags are allowed")
+    @Schema(description = "새 태그 목록 (기존 태그를 모두 바꿉니다. 대소문자와 앞뒤 공백은 무시)", example = "[\"work\", \"urgent\"]",
+            requiredMode = Schema.RequiredMode.REQUIRED)
+    private List<@NotBlank(message = "Tag must not be blank")
+            @Size(max = PlanTags.MAX_LENGTH, message = "Tag is too long") String> tags;
+}
\ No newline at end of file
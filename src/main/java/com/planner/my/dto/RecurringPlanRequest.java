@@ -0,0 +1,40 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.Priority;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import lombok.*;
+
+import java.time.LocalDate;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "반복 계획 생성/수정 요청")
+public class RecurringPlanRequest {
+
+    @NotBlank(message = "Title is required")
+    @Schema(description = "계획 제목", example = "아침 운동", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String title;
+
+    @Schema(description = "계획 상세 설명", example = "30분 조깅 후 스트레칭")
+    private String description;
+
+    @NotNull(message = "Priority is required")
+    @Schema(description = "우선순위 (HIGH, MEDIUM, LOW)", example = "HIGH", requiredMode = Schema.RequiredMode.REQUIRED)
+    private Priority priority;
+
+    @NotBlank(message = "Recurrence rule is required")
+    @Pattern(regexp = "(?i)^(RRULE:)?[A-Z]+=[^;=]+(;[A-Z]+=[^;=]+)*$", message = "Recurrence rule must be in RRULE format")
+    @Schema(description = "RFC 5545 RRULE 형식의 반복 규칙 (FREQ, INTERVAL, COUNT, UNTIL, BYDAY, BYMONTHDAY 지원)",
+            example = "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR", requiredMode = Schema.RequiredMode.REQUIRED)
+    private String recurrenceRule;
+
+    @NotNull(message = "Start date is required")
+    @Schema(description = "반복 시작일", example = "2025-12-01", requiredMode = Schema.RequiredMode.REQUIRED)
+    private LocalDate startDate;
+}
@@ -0,0 +1,74 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.Priority;
+import com.planner.my.entity.RecurringPlan;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "반복 계획 응답")
+public class RecurringPlanResponse {
+
+    @Schema(description = "반복 계획 ID", example = "1")
+    private Long id;
+
+    @Schema(description = "계획 제목", example = "아침 운동")
+    private String title;
+
+    @Schema(description = "계획 상세 설명", example = "30분 조깅 후 스트레칭")
+    private String description;
+
+    @Schema(description = "우선순위", example = "HIGH")
+    private Priority priority;
+
+    @Schema(description = "반복 규칙", example = "FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR")
+    private String recurrenceRule;
+
+    @Schema(description = "반복 시작일", example = "2025-12-01")
+    private LocalDate startDate;
+
+    @Schema(description = "마지막 반복 날짜 (무한 반복이면 null)", example = "2026-12-31")
+    private LocalDate endDate;
+
+    @Schema(description = "삭제된 반복 날짜 목록", example = "[\"2025-12-25\"]")
+    private List<LocalDate> excludedDates;
+
+    @Schema(description = "생성 일시", example = "2025-12-21T10:30:00")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "수정 일시", example = "2025-12-21T10:30:00")
+    private LocalDateTime updatedAt;
+
+    @Schema(description = "표시 순서", example = "1")
+    private Integer displayOrder;
+
+    /**
+     * RecurringPlan 엔티티를 RecurringPlanResponse DTO로 변환합니다.
+     *
+     * @param entity 변환할 RecurringPlan 엔티티
+     * @return 변환된 RecurringPlanResponse DTO
+     */
+    public static RecurringPlanResponse from(RecurringPlan entity) {
+        return RecurringPlanResponse.builder()
+                .id(entity.getId())
+                .title(entity.getTitle())
+                .description(entity.getDescription())
+                .priority(entity.getPriority())
+                .recurrenceRule(entity.getRecurrenceRule())
+                .startDate(entity.getStartDate())
+                .endDate(entity.getEndDate())
+                .excludedDates(entity.getExcludedDates().stream().sorted().toList())
+                .createdAt(entity.getCreatedAt())
+                .updatedAt(entity.getUpdatedAt())
+                .displayOrder(entity.getDisplayOrder())
+                .build();
+    }
+}
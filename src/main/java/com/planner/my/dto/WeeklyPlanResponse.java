@@ -3,49 +3,55 @@ package com.planner.my.dto;
 import com.planner.my.entity.WeeklyPlan;
 import com.planner.my.entity.Priority;
 import com.planner.my.entity.PlanStatus;
+import com.planner.my.util.EpochValues;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.*;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
 
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+/**
+ * 주간 계획 응답입니다.
+ * 날짜는 epoch day, 일시는 epoch 마이크로초로 보관하며 JSON에는 ISO 문자열로 씁니다.
+ */
 @Schema(description = "주간 계획 응답")
-public class WeeklyPlanResponse {
+public record WeeklyPlanResponse(
 
-    @Schema(description = "계획 ID", example = "1")
-    private Long id;
+        @Schema(description = "계획 ID", example = "1")
+        Long id,
 
-    @Schema(description = "계획 제목", example = "프로젝트 마일스톤 완료")
-    private String title;
+        @Schema(description = "계획 제목", example = "프로젝트 마일스톤 완료")
+        String title,
 
-    @Schema(description = "계획 상세 설명", example = "API 개발 및 테스트 완료하기")
-    private String description;
+        @Schema(description = "계획 상세 설명", example = "API 개발 및 테스트 완료하기")
+        String description,
 
-    @Schema(description = "주 시작 날짜", example = "2025-12-15")
-    private LocalDate weekStartDate;
+        @Schema(description = "주 시작 날짜", example = "2025-12-15", type = "string", format = "date")
+        @JsonSerialize(using = EpochJson.DateSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateDeserializer.class)
+        int weekStartDate,
 
-    @Schema(description = "주 종료 날짜", example = "2025-12-21")
-    private LocalDate weekEndDate;
+        @Schema(description = "주 종료 날짜", example = "2025-12-21", type = "string", format = "date")
+        @JsonSerialize(using = EpochJson.DateSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateDeserializer.class)
+        int weekEndDate,
 
-    @Schema(description = "우선순위", example = "HIGH")
-    private Priority priority;
+        @Schema(description = "우선순위", example = "HIGH")
+        Priority priority,
 
-    @Schema(description = "계획 상태", example = "NOT_STARTED")
-    private PlanStatus status;
+        @Schema(description = "계획 상태", example = "NOT_STARTED")
+        PlanStatus status,
 
-    @Schema(description = "생성 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime createdAt;
+        @Schema(description = "생성 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long createdAt,
 
-    @Schema(description = "수정 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime updatedAt;
+        @Schema(description = "수정 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long updatedAt,
 
-    @Schema(description = "표시 순서", example = "1")
-    private Integer displayOrder;
+        @Schema(description = "표시 순서", example = "1")
+        int displayOrder) {
 
     /**
      * WeeklyPlan 엔티티를 WeeklyPlanResponse DTO로 변환합니다.
@@ -54,17 +60,47 @@ public class WeeklyPlanResponse {
      * @return 변환된 WeeklyPlanResponse DTO
      */
     public static WeeklyPlanResponse from(WeeklyPlan entity) {
-        return WeeklyPlanResponse.builder()
-                .id(entity.getId())
-                .title(entity.getTitle())
-                .description(entity.getDescription())
-                .weekStartDate(entity.getWeekStartDate())
-                .weekEndDate(entity.getWeekEndDate())
-                .priority(entity.getPriority())
-                .status(entity.getStatus())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .displayOrder(entity.getDisplayOrder())
-                .build();
+        return of(entity, entity.getDescription());
+    }
+
+    /**
+     * 목록 조회용으로 WeeklyPlan 엔티티를 변환합니다.
+     * 지연 로딩되는 설명은 읽지 않으므로 description은 null이며, 설명은 단건 조회에서만 내려줍니다.
+     *
+     * @param entity 변환할 WeeklyPlan 엔티티
+     * @return 설명을 제외한 WeeklyPlanResponse DTO
+     */
+    public static WeeklyPlanResponse fromSummary(WeeklyPlan entity) {
+        return of(entity, null);
+    }
+
+    /**
+     * 설명만 바꾼 응답을 반환합니다.
+     */
+    public WeeklyPlanResponse withDescription(String description) {
+        return new WeeklyPlanResponse(id, title, description, weekStartDate, weekEndDate, priority, status,
+                createdAt, updatedAt, displayOrder);
+    }
+
+    /**
+     * 상태만 바꾼 응답을 반환합니다.
+     */
+    public WeeklyPlanResponse withStatus(PlanStatus status) {
+        return new WeeklyPlanResponse(id, title, description, weekStartDate, weekEndDate, priority, status,
+                createdAt, updatedAt, displayOrder);
+    }
+
+    private static WeeklyPlanResponse of(WeeklyPlan entity, String description) {
+        return new WeeklyPlanResponse(
+                entity.getId(),
+                entity.getTitle(),
+                description,
+                EpochValues.epochDay(entity.getWeekStartDate()),
+                EpochValues.epochDay(entity.getWeekEndDate()),
+                entity.getPriority(),
+                entity.getStatus(),
+                EpochValues.epochMicros(entity.getCreatedAt()),
+                EpochValues.epochMicros(entity.getUpdatedAt()),
+                entity.getDisplayOrder());
     }
 }
\ No newline at end of file
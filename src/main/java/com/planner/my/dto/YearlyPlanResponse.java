@@ -3,45 +3,48 @@ package com.planner.my.dto;
 import com.planner.my.entity.YearlyPlan;
 import com.planner.my.entity.Priority;
 import com.planner.my.entity.PlanStatus;
+import com.planner.my.util.EpochValues;
 import io.swagger.v3.oas.annotations.media.Schema;
-import lombok.*;
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
 
-import java.time.LocalDateTime;
-
-@Getter
-@Setter
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+/**
+ * 연간 계획 응답입니다.
+ * 일시는 epoch 마이크로초로 보관하며 JSON에는 ISO 문자열로 씁니다.
+ */
 @Schema(description = "연간 계획 응답")
-public class YearlyPlanResponse {
+public record YearlyPlanResponse(
 
-    @Schema(description = "계획 ID", example = "1")
-    private Long id;
+        @Schema(description = "계획 ID", example = "1")
+        Long id,
 
-    @Schema(description = "계획 제목", example = "건강한 생활습관 만들기")
-    private String title;
+        @Schema(description = "계획 제목", example = "건강한 생활습관 만들기")
+        String title,
 
-    @Schema(description = "계획 상세 설명", example = "규칙적인 운동과 식단 관리로 건강 유지")
-    private String description;
+        @Schema(description = "계획 상세 설명", example = "규칙적인 운동과 식단 관리로 건강 유지")
+        String description,
 
-    @Schema(description = "연도", example = "2025")
-    private Integer year;
+        @Schema(description = "연도", example = "2025")
+        int year,
 
-    @Schema(description = "우선순위", example = "HIGH")
-    private Priority priority;
+        @Schema(description = "우선순위", example = "HIGH")
+        Priority priority,
 
-    @Schema(description = "계획 상태", example = "NOT_STARTED")
-    private PlanStatus status;
+        @Schema(description = "계획 상태", example = "NOT_STARTED")
+        PlanStatus status,
 
-    @Schema(description = "생성 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime createdAt;
+        @Schema(description = "생성 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long createdAt,
 
-    @Schema(description = "수정 일시", example = "2025-12-21T10:30:00")
-    private LocalDateTime updatedAt;
+        @Schema(description = "수정 일시", example = "2025-12-21T10:30:00", type = "string", format = "date-time")
+        @JsonSerialize(using = EpochJson.DateTimeSerializer.class)
+        @JsonDeserialize(using = EpochJson.DateTimeDeserializer.class)
+        long updatedAt,
 
-    @Schema(description = "표시 순서", example = "1")
-    private Integer displayOrder;
+        @Schema(description = "표시 순서", example = "1")
+        int displayOrder) {
 
     /**
      * YearlyPlan 엔티티를 YearlyPlanResponse DTO로 변환합니다.
@@ -50,16 +53,46 @@ public class YearlyPlanResponse {
      * @return 변환된 YearlyPlanResponse DTO
      */
     public static YearlyPlanResponse from(YearlyPlan entity) {
-        return YearlyPlanResponse.builder()
-                .id(entity.getId())
-                .title(entity.getTitle())
-                .description(entity.getDescription())
-                .year(entity.getYear())
-                .priority(entity.getPriority())
-                .status(entity.getStatus())
-                .createdAt(entity.getCreatedAt())
-                .updatedAt(entity.getUpdatedAt())
-                .displayOrder(entity.getDisplayOrder())
-                .build();
+        return of(entity, entity.getDescription());
+    }
+
+    /**
+     * 목록 조회용으로 YearlyPlan 엔티티를 변환합니다.
+     * 지연 로딩되는 설명은 읽지 않으므로 description은 null이며, 설명은 단건 조회에서만 내려줍니다.
+     *
+     * @param entity 변환할 YearlyPlan 엔티티
+     * @return 설명을 제외한 YearlyPlanResponse DTO
+     */
+    public static YearlyPlanResponse fromSummary(YearlyPlan entity) {
+        return of(entity, null);
+    }
+
+    /**
+     * 설명만 바꾼 응답을 반환합니다.
+     */
+    public YearlyPlanResponse withDescription(String description) {
+        return new YearlyPlanResponse(id, title, description, year, priority, status,
+                createdAt, updatedAt, displayOrder);
+    }
+
+    /**
+     * 상태만 바꾼 응답을 반환합니다.
+     */
+    public YearlyPlanResponse withStatus(PlanStatus status) {
+        return new YearlyPlanResponse(id, title, description, year, priority, status,
+                createdAt, updatedAt, displayOrder);
+    }
+
+    private static YearlyPlanResponse of(YearlyPlan entity, String description) {
+        return new YearlyPlanResponse(
+                entity.getId(),
+                entity.getTitle(),
+                description,
+                entity.getYear(),
+                entity.getPriority(),
+                entity.getStatus(),
+                EpochValues.epochMicros(entity.getCreatedAt()),
+                EpochValues.epochMicros(entity.getUpdatedAt()),
+                entity.getDisplayOrder());
     }
 }
\ No newline at end of file
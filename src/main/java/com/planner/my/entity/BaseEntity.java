@@ -1,7 +1,6 @@
 package com.planner.my.entity;
 
 import jakarta.persistence.*;
-import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -11,6 +10,12 @@ import java.time.LocalDateTime;
 
 /**
  * 모든 계획 엔티티의 공통 필드와 생명주기 콜백을 정의하는 추상 클래스입니다.
+ * <p>
+ * 엔티티는 빌드 시 Hibernate 바이트코드 향상으로 필드 변경을 직접 추적하므로 flush 때 스냅샷과 비교하지 않으며,
+ * 하위 엔티티에 선언된 {@code @DynamicUpdate}로 변경된 컬럼만 UPDATE 합니다.
+ * <p>
+ * ID는 엔티티별 시퀀스(예: {@code daily_plan_seq})에서 50개씩 미리 받아 INSERT 문에 바인딩합니다.
+ * 복제본에 같은 INSERT를 다시 실행해도 같은 ID가 저장되며, INSERT도 JDBC 배치로 묶입니다.
  */
 @MappedSuperclass
 @Getter
@@ -20,16 +25,15 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private PlanStatus status;
 
-    @Builder.Default
     @Column(nullable = false)
-    private Integer displayOrder = 0;
+    private int displayOrder;
 
     private LocalDateTime createdAt;
 
@@ -37,7 +41,7 @@ public abstract class BaseEntity {
 
     /**
      * 엔티티 생성 시 호출되는 콜백 메서드입니다.
-     * 생성 시간을 설정하고, 상태와 표시 순서의 기본값을 지정합니다.
+     * 생성 시간을 설정하고, 상태의 기본값을 지정합니다.
      */
     @PrePersist
     protected void onCreate() {
@@ -45,9 +49,6 @@ public abstract class BaseEntity {
         if (status == null) {
             status = PlanStatus.NOT_STARTED;
         }
-        if (displayOrder == null) {
-            displayOrder = 0;
-        }
     }
 
     /**
@@ -0,0 +1,44 @@
+package com.planner.my.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
+
+/**
+ * 계획 하나에 딸린 체크리스트 항목입니다.
+ * <p>
+ * 네 가지 계획 유형이 하나의 테이블을 함께 쓰며 유형과 계획 ID로 계획을 가리킵니다.
+ * 목록 조회는 계획 ID 목록으로 한 번에 읽으므로 {@code (plan_type, plan_id, display_order)} 인덱스를 둡니다.
+ */
+@Entity
+@Table(name = "checklist_items", indexes = {
+        @Index(name = "idx_checklist_items_plan", columnList = "plan_type, plan_id, display_order")
+})
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChecklistItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanType planType;
+
+    @Column(nullable = false)
+    private Long planId;
+
+    @Column(nullable = false)
+    private String content;
+
+    @Column(nullable = false)
+    private boolean done;
+
+    @Column(nullable = false)
+    private int displayOrder;
+}
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.planner.my.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -10,7 +11,11 @@ import java.time.LocalDate;
  * 일간 계획을 나타내는 엔티티 클래스입니다.
  */
 @Entity
-@Table(name = "daily_plans")
+@Table(name = "daily_plans", indexes = {
+        @Index(name = "idx_daily_plans_plan_date", columnList = "plan_date"),
+        @Index(name = "idx_daily_plans_occurrence", columnList = "recurring_plan_id, occurrence_date")
+})
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,6 +26,12 @@ public class DailyPlan extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 긴 메모가 들어올 수 있어 목록 조회에서는 읽지 않도록 지연 로딩하며, 일정 크기 이상이면 압축해 저장합니다.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     private String description;
 
     @Column(nullable = false)
@@ -29,4 +40,14 @@ public class DailyPlan extends BaseEntity {
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private Priority priority;
+
+    /**
+     * 반복 계획에서 수정되어 저장된 일정이면 원본 반복 계획 ID
+     */
+    private Long recurringPlanId;
+
+    /**
+     * 반복 계획에서 수정되어 저장된 일정이면 원래 반복 날짜
+     */
+    private LocalDate occurrenceDate;
 }
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.planner.my.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계획 변경과 같은 트랜잭션에서 저장되는 아웃박스 이벤트입니다.
+ * 릴레이가 ID 순서대로 읽어 외부로 보낸 뒤 삭제하므로, 테이블에는 아직 전달되지 않은 이벤트만 남습니다.
+ */
+@Entity
+@Table(name = "outbox_events")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    /**
+     * 시퀀스에서 50개씩 미리 받아 두므로 이벤트 INSERT가 ID 조회 없이 JDBC 배치로 묶입니다.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanType planType;
+
+    /**
+     * 변경된 계획 ID (재정렬처럼 여러 계획이 대상이면 null)
+     */
+    private Long planId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanEventType eventType;
+
+    /**
+     * 변경 후 계획 응답 등 이벤트 내용 (JSON)
+     */
+    @Lob
+    @Column(nullable = false)
+    private String payload;
+
+    @Column(nullable = false)
+    private LocalDateTime occurredAt;
+}
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.planner.my.entity;
+
+/**
+ * 아웃박스에 기록되는 계획 변경 종류입니다.
+ */
+public enum PlanEventType {
+    CREATED,
+    UPDATED,
+    STATUS_CHANGED,
+    DELETED,
+    REORDERED
+}
\ No newline at end of file
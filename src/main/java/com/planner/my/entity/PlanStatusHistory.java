@@ -0,0 +1,46 @@
+package com.planner.my.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 계획 상태 변경 이력입니다. 추가만 하고 수정하거나 삭제하지 않습니다.
+ * <p>
+ * 계획 내용은 담지 않고 유형, ID, 새 상태, 변경 일시만 저장하는 좁은 테이블이며,
+ * 계획별 이력 조회와 기간별 재생에 쓰는 두 인덱스를 둡니다.
+ */
+@Entity
+@Immutable
+@Table(name = "plan_status_history", indexes = {
+        @Index(name = "idx_plan_status_history_plan", columnList = "plan_type, plan_id, changed_at"),
+        @Index(name = "idx_plan_status_history_changed", columnList = "plan_type, changed_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanType planType;
+
+    @Column(nullable = false)
+    private Long planId;
+
+    /**
+     * 변경 후 상태 (계획이 삭제되었으면 null)
+     */
+    @Enumerated(EnumType.STRING)
+    private PlanStatus status;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+}
\ No newline at end of file
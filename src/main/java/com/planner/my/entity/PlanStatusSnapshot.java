@@ -0,0 +1,44 @@
+package com.planner.my.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점에 존재하던 계획 하나의 상태입니다.
+ * 같은 유형과 시점의 스냅샷 행을 모으면 그 시점의 전체 상태가 되며, 이후 상태는 이력을 재생해 구합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "plan_status_snapshots", indexes = {
+        @Index(name = "idx_plan_status_snapshots_at", columnList = "plan_type, snapshot_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanStatusSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanType planType;
+
+    /**
+     * 이 시점까지의 이력이 반영된 상태입니다.
+     */
+    @Column(nullable = false)
+    private LocalDateTime snapshotAt;
+
+    @Column(nullable = false)
+    private Long planId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanStatus status;
+}
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.planner.my.entity;
+
+import com.planner.my.util.PlanTags;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * 계획 하나에 붙은 태그입니다. 태그를 바꿀 때는 계획의 태그 행을 모두 지우고 다시 추가합니다.
+ * <p>
+ * 네 가지 계획 유형이 하나의 테이블을 함께 쓰며, 태그 조건 검색은 이 테이블이 아니라 메모리의 비트맵 인덱스로 처리합니다.
+ */
+@Entity
+@Immutable
+@Table(name = "plan_tags", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_plan_tags_plan_tag", columnNames = {"plan_type", "plan_id", "tag"})
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PlanTag {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PlanType planType;
+
+    @Column(nullable = false)
+    private Long planId;
+
+    /**
+     * 정규화된 태그 (소문자, 앞뒤 공백 없음)
+     */
+    @Column(nullable = false, length = PlanTags.MAX_LENGTH)
+    private String tag;
+}
\ No newline at end of file
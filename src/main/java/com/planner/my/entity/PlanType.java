@@ -0,0 +1,8 @@
+package com.planner.my.entity;
+
+public enum PlanType {
+    DAILY,
+    WEEKLY,
+    MONTHLY,
+    YEARLY
+}
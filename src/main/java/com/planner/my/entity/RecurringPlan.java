@@ -0,0 +1,63 @@
+package com.planner.my.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
+
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 반복 일간 계획 템플릿을 나타내는 엔티티 클래스입니다.
+ * 반복 규칙에 따라 조회 시점에 일간 계획으로 펼쳐지며, 사용자가 수정한 반복 일정만
+ * {@link DailyPlan} 행으로 저장됩니다.
+ */
+@Entity
+@Table(name = "recurring_plans",
+        indexes = @Index(name = "idx_recurring_plans_period", columnList = "start_date, end_date"))
+@DynamicUpdate
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class RecurringPlan extends BaseEntity {
+
+    @Column(nullable = false)
+    private String title;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Priority priority;
+
+    /**
+     * RFC 5545 RRULE 형식의 반복 규칙
+     */
+    @Column(nullable = false)
+    private String recurrenceRule;
+
+    /**
+     * 반복 시작일 (DTSTART)
+     */
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    /**
+     * 마지막 반복 날짜 (UNTIL 또는 COUNT로 계산되며, 무한 반복이면 null)
+     */
+    private LocalDate endDate;
+
+    /**
+     * 삭제된 반복 날짜 (EXDATE)
+     */
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "recurring_plan_excluded_dates",
+            joinColumns = @JoinColumn(name = "recurring_plan_id"))
+    @Column(name = "excluded_date", nullable = false)
+    private Set<LocalDate> excludedDates = new HashSet<>();
+}
@@ -3,6 +3,7 @@ package com.planner.my.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDate;
 
@@ -10,7 +11,8 @@ import java.time.LocalDate;
  * 주간 계획을 나타내는 엔티티 클래스입니다.
  */
 @Entity
-@Table(name = "weekly_plans")
+@Table(name = "weekly_plans", indexes = @Index(name = "idx_weekly_plans_week_end_date", columnList = "week_end_date"))
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,6 +23,12 @@ public class WeeklyPlan extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 긴 메모가 들어올 수 있어 목록 조회에서는 읽지 않도록 지연 로딩하며, 일정 크기 이상이면 압축해 저장합니다.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     private String description;
 
     @Column(nullable = false)
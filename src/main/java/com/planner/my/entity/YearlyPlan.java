@@ -3,12 +3,14 @@ package com.planner.my.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.DynamicUpdate;
 
 /**
  * 연간 계획을 나타내는 엔티티 클래스입니다.
  */
 @Entity
-@Table(name = "yearly_plans")
+@Table(name = "yearly_plans", indexes = @Index(name = "idx_yearly_plans_year", columnList = "plan_year"))
+@DynamicUpdate
 @Getter
 @Setter
 @NoArgsConstructor
@@ -19,10 +21,16 @@ public class YearlyPlan extends BaseEntity {
     @Column(nullable = false)
     private String title;
 
+    /**
+     * 긴 메모가 들어올 수 있어 목록 조회에서는 읽지 않도록 지연 로딩하며, 일정 크기 이상이면 압축해 저장합니다.
+     */
+    @Lob
+    @Basic(fetch = FetchType.LAZY)
+    @Convert(converter = CompressedTextConverter.class)
     private String description;
 
     @Column(name = "plan_year", nullable = false)
-    private Integer year;
+    private int year;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
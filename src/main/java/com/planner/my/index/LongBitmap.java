@@ -0,0 +1,105 @@
+package com.planner.my.index;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.LongStream;
+
+/**
+ * long 값 전체를 비트 위치로 쓸 수 있는 비트맵입니다.
+ * <p>
+ * 값을 2^31 단위 구간으로 나눠 구간마다 {@link BitSet}을 두고, 비어 있는 구간은 두지 않습니다.
+ * 시퀀스에서 받은 계획 ID가 int 범위 안에 있는 동안은 구간이 하나뿐이라 {@link BitSet} 하나와 같은 비용입니다.
+ * 구간은 키 순서로 두므로 {@link #stream()}은 값을 오름차순으로 돌려줍니다.
+ * <p>
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public final class LongBitmap {
+
+    private static final long CHUNK_SIZE = 1L << 31;
+
+    private final TreeMap<Long, BitSet> chunks = new TreeMap<>();
+
+    public void set(long value) {
+        chunks.computeIfAbsent(chunk(value), key -> new BitSet()).set(offset(value));
+    }
+
+    public void set(long value, boolean on) {
+        if (on) {
+            set(value);
+        } else {
+            clear(value);
+        }
+    }
+
+    public boolean get(long value) {
+        BitSet bits = chunks.get(chunk(value));
+        return bits != null && bits.get(offset(value));
+    }
+
+    public void clear(long value) {
+        long chunk = chunk(value);
+        BitSet bits = chunks.get(chunk);
+        if (bits != null) {
+            bits.clear(offset(value));
+            if (bits.isEmpty()) {
+                chunks.remove(chunk);
+            }
+        }
+    }
+
+    /**
+     * 다른 비트맵과 겹치는 값만 남깁니다.
+     */
+    public void and(LongBitmap other) {
+        chunks.entrySet().removeIf(entry -> {
+            BitSet bits = other.chunks.get(entry.getKey());
+            if (bits == null) {
+                return true;
+            }
+            entry.getValue().and(bits);
+            return entry.getValue().isEmpty();
+        });
+    }
+
+    /**
+     * 다른 비트맵의 값을 모두 더합니다.
+     */
+    public void or(LongBitmap other) {
+        other.chunks.forEach((chunk, bits) -> chunks.computeIfAbsent(chunk, key -> new BitSet()).or(bits));
+    }
+
+    public boolean isEmpty() {
+        return chunks.isEmpty();
+    }
+
+    public int cardinality() {
+        return chunks.values().stream().mapToInt(BitSet::cardinality).sum();
+    }
+
+    /**
+     * 설정된 값을 오름차순으로 돌려줍니다.
+     */
+    public LongStream stream() {
+        return chunks.entrySet().stream().flatMapToLong(entry -> {
+            long base = entry.getKey() * CHUNK_SIZE;
+            return entry.getValue().stream().mapToLong(offset -> base + offset);
+        });
+    }
+
+    public LongBitmap copy() {
+        LongBitmap copy = new LongBitmap();
+        for (Map.Entry<Long, BitSet> entry : chunks.entrySet()) {
+            copy.chunks.put(entry.getKey(), (BitSet) entry.getValue().clone());
+        }
+        return copy;
+    }
+
+    private static long chunk(long value) {
+        return Math.floorDiv(value, CHUNK_SIZE);
+    }
+
+    private static int offset(long value) {
+        return (int) Math.floorMod(value, CHUNK_SIZE);
+    }
+}
\ No newline at end of file
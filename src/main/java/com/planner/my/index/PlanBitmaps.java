@@ -0,0 +1,154 @@
+package com.planner.my.index;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 한 계획 유형의 상태, 우선순위, 태그별 비트맵입니다.
+ * <p>
+ * 계획 ID를 그대로 비트 위치로 쓰므로 ID와 위치를 잇는 매핑이 없습니다. ID는 시퀀스에서 받아 거의 연속이므로
+ * 계획이 100만 개면 비트맵 하나가 약 125KB이고, AND 한 번은 long 배열 약 1만 6천 개를 훑는 것으로 끝납니다.
+ * 비트맵은 {@link LongBitmap}이라 int 범위를 넘는 ID도 받으므로, 커밋 후 반영이 ID 때문에 실패하지 않습니다.
+ * 조건 사이는 AND로, 같은 조건의 여러 값은 OR로 합칩니다.
+ * <p>
+ * 동기화하지 않으므로 여러 스레드에서 쓸 때는 호출하는 쪽에서 잠가야 합니다.
+ */
+public final class PlanBitmaps {
+
+    private final LongBitmap all = new LongBitmap();
+    private final Map<PlanStatus, LongBitmap> byStatus = new EnumMap<>(PlanStatus.class);
+    private final Map<Priority, LongBitmap> byPriority = new EnumMap<>(Priority.class);
+    private final Map<String, LongBitmap> byTag = new HashMap<>();
+
+    public PlanBitmaps() {
+        for (PlanStatus status : PlanStatus.values()) {
+            byStatus.put(status, new LongBitmap());
+        }
+        for (Priority priority : Priority.values()) {
+            byPriority.put(priority, new LongBitmap());
+        }
+    }
+
+    /**
+     * 계획의 상태와 우선순위를 기록합니다. 이미 있는 계획이면 태그는 그대로 둡니다.
+     */
+    public void put(long id, PlanStatus status, Priority priority) {
+        all.set(id);
+        setExclusive(byStatus, status, id);
+        setExclusive(byPriority, priority, id);
+    }
+
+    /**
+     * 계획의 상태만 바꿉니다. 없는 계획이면 무시합니다.
+     */
+    public void setStatus(long id, PlanStatus status) {
+        if (all.get(id)) {
+            setExclusive(byStatus, status, id);
+        }
+    }
+
+    /**
+     * 계획에 태그 하나를 추가합니다. 없는 계획이면 무시합니다.
+     */
+    public void addTag(long id, String tag) {
+        if (all.get(id)) {
+            byTag.computeIfAbsent(tag, key -> new LongBitmap()).set(id);
+        }
+    }
+
+    /**
+     * 계획의 태그를 모두 바꿉니다. 기존 태그를 지우려면 모든 태그 비트맵을 훑으므로 태그 종류 수에 비례합니다.
+     */
+    public void setTags(long id, Collection<String> tags) {
+        clearTags(id);
+        for (String tag : tags) {
+            addTag(id, tag);
+        }
+    }
+
+    /**
+     * 계획을 모든 비트맵에서 지웁니다.
+     */
+    public void remove(long id) {
+        if (!all.get(id)) {
+            return;
+        }
+        all.clear(id);
+        byStatus.values().forEach(bitmap -> bitmap.clear(id));
+        byPriority.values().forEach(bitmap -> bitmap.clear(id));
+        clearTags(id);
+    }
+
+    /**
+     * 주어진 태그를 모두 가지고, 상태와 우선순위가 각각 주어진 값 중 하나인 계획의 비트맵을 새로 만들어 반환합니다.
+     * 비어 있는 조건은 적용하지 않으며, 조건이 하나도 없으면 모든 계획을 반환합니다.
+     *
+     * @param tags 모두 가져야 하는 정규화된 태그
+     * @param statuses 허용할 상태
+     * @param priorities 허용할 우선순위
+     * @return 조건에 맞는 계획 ID의 비트맵
+     */
+    public LongBitmap find(Collection<String> tags, Collection<PlanStatus> statuses, Collection<Priority> priorities) {
+        LongBitmap result = null;
+        for (String tag : tags) {
+            LongBitmap tagged = byTag.get(tag);
+            if (tagged == null) {
+                return new LongBitmap();
+            }
+            result = and(result, tagged);
+        }
+        if (!statuses.isEmpty()) {
+            result = and(result, union(byStatus, statuses));
+        }
+        if (!priorities.isEmpty()) {
+            result = and(result, union(byPriority, priorities));
+        }
+        return result != null ? result : all.copy();
+    }
+
+    /**
+     * 인덱스에 있는 계획 수를 반환합니다.
+     */
+    public int size() {
+        return all.cardinality();
+    }
+
+    /**
+     * 태그 종류 수를 반환합니다.
+     */
+    public int tagCount() {
+        return byTag.size();
+    }
+
+    private void clearTags(long id) {
+        byTag.values().removeIf(bitmap -> {
+            bitmap.clear(id);
+            return bitmap.isEmpty();
+        });
+    }
+
+    private static <K> void setExclusive(Map<K, LongBitmap> bitmaps, K key, long id) {
+        bitmaps.forEach((candidate, bitmap) -> bitmap.set(id, candidate == key));
+    }
+
+    private static LongBitmap and(LongBitmap result, LongBitmap other) {
+        if (result == null) {
+            return other.copy();
+        }
+        result.and(other);
+        return result;
+    }
+
+    private static <K> LongBitmap union(Map<K, LongBitmap> bitmaps, Collection<K> keys) {
+        LongBitmap union = new LongBitmap();
+        for (K key : keys) {
+            union.or(bitmaps.get(key));
+        }
+        return union;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,212 @@
+package com.planner.my.index;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
+import com.planner.my.entity.Priority;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.MonthlyPlanRepository;
+import com.planner.my.repository.PlanFilterEntry;
+import com.planner.my.repository.PlanTagRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.repository.YearlyPlanRepository;
+import com.planner.my.util.PlanTags;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 계획 유형별 상태, 우선순위, 태그 비트맵 인덱스로 여러 조건을 함께 건 계획 검색에 답합니다.
+ * <p>
+ * 유형별 인덱스는 처음 검색할 때 DB에서 한 번 만들고, 이후에는 계획을 변경하는 서비스가 알려 주는 변경만 반영합니다.
+ * 인덱스를 만드는 읽기는 호출한 쪽의 읽기 전용 트랜잭션과 분리된 쓰기 가능 트랜잭션에서 실행하므로,
+ * 복제본 라우팅을 켜도 뒤처진 복제본이 아니라 기본 데이터베이스에서 읽습니다.
+ * 만들기 전에 커밋된 변경은 기본 데이터베이스에 이미 있으므로, 그동안 반영하지 않고 버린 변경이 인덱스에서 빠지지 않습니다.
+ * 변경은 트랜잭션이 커밋된 뒤에 반영하므로 롤백된 변경은 인덱스에 남지 않습니다.
+ * 반영은 모두 같은 값을 다시 써도 결과가 같아서, 인덱스를 만드는 동안 커밋된 변경이 두 번 반영되어도 일치합니다.
+ * 검색은 읽기 잠금, 반영과 생성은 쓰기 잠금을 유형별로 잡습니다.
+ */
+@Slf4j
+@Component
+public class PlanFilterIndex {
+
+    private final DailyPlanRepository dailyPlanRepository;
+    private final WeeklyPlanRepository weeklyPlanRepository;
+    private final MonthlyPlanRepository monthlyPlanRepository;
+    private final YearlyPlanRepository yearlyPlanRepository;
+    private final PlanTagRepository planTagRepository;
+    private final TransactionTemplate primaryTransaction;
+
+    private final Map<PlanType, TypeIndex> indexes = createIndexes();
+
+    public PlanFilterIndex(DailyPlanRepository dailyPlanRepository, WeeklyPlanRepository weeklyPlanRepository,
+                           MonthlyPlanRepository monthlyPlanRepository, YearlyPlanRepository yearlyPlanRepository,
+                           PlanTagRepository planTagRepository, PlatformTransactionManager transactionManager) {
+        this.dailyPlanRepository = dailyPlanRepository;
+        this.weeklyPlanRepository = weeklyPlanRepository;
+        this.monthlyPlanRepository = monthlyPlanRepository;
+        this.yearlyPlanRepository = yearlyPlanRepository;
+        this.planTagRepository = planTagRepository;
+        this.primaryTransaction = new TransactionTemplate(transactionManager);
+        this.primaryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 조건에 맞는 계획 ID를 오름차순으로 세운 뒤 요청한 페이지의 ID만 조회합니다. 비어 있는 조건은 적용하지 않습니다.
+     * 전체 개수는 비트맵의 비트 수로 세므로 페이지 밖의 ID는 만들지 않습니다. 페이지의 정렬 조건은 무시합니다.
+     *
+     * @param planType 계획 유형
+     * @param tags 모두 가져야 하는 태그 (대소문자와 앞뒤 공백은 무시)
+     * @param statuses 허용할 상태 (하나라도 일치하면 포함)
+     * @param priorities 허용할 우선순위 (하나라도 일치하면 포함)
+     * @param pageable 조회할 페이지
+     * @return 조건에 맞는 계획 ID 페이지
+     */
+    public Page<Long> find(PlanType planType, Collection<String> tags, Collection<PlanStatus> statuses,
+                           Collection<Priority> priorities, Pageable pageable) {
+        TypeIndex index = loaded(planType);
+        LongBitmap matches;
+        index.lock.readLock().lock();
+        try {
+            matches = index.bitmaps.find(PlanTags.normalize(tags), statuses, priorities);
+        } finally {
+            index.lock.readLock().unlock();
+        }
+        List<Long> content = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .mapToObj(Long::valueOf)
+                .toList();
+        return new PageImpl<>(content, pageable, matches.cardinality());
+    }
+
+    /**
+     * 생성되거나 수정된 계획의 상태와 우선순위를 커밋 후에 반영합니다.
+     */
+    public void put(PlanType planType, Long id, PlanStatus status, Priority priority) {
+        afterCommit(planType, bitmaps -> bitmaps.put(id, status, priority));
+    }
+
+    /**
+     * 상태가 바뀐 계획들을 커밋 후에 반영합니다.
+     */
+    public void updateStatus(PlanType planType, Collection<Long> ids, PlanStatus status) {
+        List<Long> changed = List.copyOf(ids);
+        afterCommit(planType, bitmaps -> changed.forEach(id -> bitmaps.setStatus(id, status)));
+    }
+
+    /**
+     * 계획의 태그가 바뀐 것을 커밋 후에 반영합니다.
+     *
+     * @param tags 정규화된 새 태그 목록
+     */
+    public void replaceTags(PlanType planType, Long id, Collection<String> tags) {
+        List<String> replaced = List.copyOf(tags);
+        afterCommit(planType, bitmaps -> bitmaps.setTags(id, replaced));
+    }
+
+    /**
+     * 삭제되거나 아카이브로 옮겨진 계획들을 커밋 후에 인덱스에서 지웁니다.
+     */
+    public void remove(PlanType planType, Collection<Long> ids) {
+        List<Long> removed = List.copyOf(ids);
+        afterCommit(planType, bitmaps -> removed.forEach(bitmaps::remove));
+    }
+
+    /**
+     * 트랜잭션 안이면 커밋된 뒤에, 아니면 바로 인덱스에 반영합니다. 아직 만들지 않은 인덱스에는 반영하지 않습니다.
+     */
+    private void afterCommit(PlanType planType, Consumer<PlanBitmaps> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(planType, update);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(planType, update);
+            }
+        });
+    }
+
+    /**
+     * 변경을 반영합니다. 커밋이 끝난 뒤라 되돌릴 수 없으므로, 반영에 실패하면 예외를 던지지 않고
+     * 인덱스를 버려 다음 검색 때 DB에서 다시 만들게 합니다.
+     */
+    private void apply(PlanType planType, Consumer<PlanBitmaps> update) {
+        TypeIndex index = indexes.get(planType);
+        index.lock.writeLock().lock();
+        try {
+            if (index.bitmaps != null) {
+                update.accept(index.bitmaps);
+            }
+        } catch (RuntimeException e) {
+            index.bitmaps = null;
+            log.error("Dropped {} filter index after a failed update; it will be rebuilt on the next search", planType, e);
+        } finally {
+            index.lock.writeLock().unlock();
+        }
+    }
+
+    private TypeIndex loaded(PlanType planType) {
+        TypeIndex index = indexes.get(planType);
+        if (index.bitmaps == null) {
+            index.lock.writeLock().lock();
+            try {
+                if (index.bitmaps == null) {
+                    index.bitmaps = primaryTransaction.execute(status -> load(planType));
+                }
+            } finally {
+                index.lock.writeLock().unlock();
+            }
+        }
+        return index;
+    }
+
+    /**
+     * DB에서 계획의 상태, 우선순위와 태그를 읽어 인덱스를 만듭니다.
+     * 읽기 전용이 아닌 새 트랜잭션 안에서 호출되어 기본 데이터베이스의 커넥션을 씁니다.
+     */
+    private PlanBitmaps load(PlanType planType) {
+        long startedAt = System.nanoTime();
+        List<PlanFilterEntry> plans = switch (planType) {
+            case DAILY -> dailyPlanRepository.findFilterEntries();
+            case WEEKLY -> weeklyPlanRepository.findFilterEntries();
+            case MONTHLY -> monthlyPlanRepository.findFilterEntries();
+            case YEARLY -> yearlyPlanRepository.findFilterEntries();
+        };
+        PlanBitmaps bitmaps = new PlanBitmaps();
+        plans.forEach(plan -> bitmaps.put(plan.getId(), plan.getStatus(), plan.getPriority()));
+        planTagRepository.findEntries(planType).forEach(entry -> bitmaps.addTag(entry.getPlanId(), entry.getTag()));
+        log.info("Built {} filter index: plans={}, tags={} in {} ms", planType, bitmaps.size(), bitmaps.tagCount(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return bitmaps;
+    }
+
+    private static Map<PlanType, TypeIndex> createIndexes() {
+        Map<PlanType, TypeIndex> indexes = new EnumMap<>(PlanType.class);
+        for (PlanType type : PlanType.values()) {
+            indexes.put(type, new TypeIndex());
+        }
+        return indexes;
+    }
+
+    private static final class TypeIndex {
+
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private volatile PlanBitmaps bitmaps;
+    }
+}
\ No newline at end of file
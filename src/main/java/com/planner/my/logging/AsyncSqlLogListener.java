@@ -0,0 +1,130 @@
+package com.planner.my.logging;
+
+import com.planner.my.config.SqlLogProperties;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * spring.jpa.show-sql을 대신하는 비동기 SQL 로그입니다.
+ * <p>
+ * 요청 스레드에서는 기록 여부만 판단하고 링 버퍼에 넣으며, 출력은 별도의 스레드가 {@code planner.sql} 로거로
+ * key=value 형식으로 남깁니다. 느린 쿼리는 항상 바인드 파라미터 타입과 함께 기록하고, 나머지는 설정된 비율만큼
+ * 표본으로 기록합니다. 표본에서 빠진 쿼리는 객체를 만들지 않으며, 로그를 비활성화하면 리스너 자체를 등록하지 않습니다.
+ */
+@Slf4j(topic = "planner.sql")
+@Component
+@ConditionalOnProperty(prefix = "planner.sql-log", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AsyncSqlLogListener implements QueryExecutionListener {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final SqlLogRingBuffer<SqlLogEvent> buffer;
+    private final long slowThresholdMillis;
+    private final double sampleRate;
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    public AsyncSqlLogListener(SqlLogProperties properties, MeterRegistry meterRegistry) {
+        this.buffer = new SqlLogRingBuffer<>(properties.getBufferSize());
+        this.slowThresholdMillis = properties.getSlowThreshold().toMillis();
+        this.sampleRate = properties.getSampleRate();
+        this.writer = Thread.ofPlatform().name("sql-log-writer").daemon().unstarted(this::drain);
+        FunctionCounter.builder("planner.sql.log.dropped", buffer, SqlLogRingBuffer::dropped)
+                .description("SQL log events dropped because the buffer was full")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        writer.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        boolean slow = elapsed >= slowThresholdMillis;
+        if (!slow && (sampleRate <= 0 || ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return;
+        }
+        buffer.offer(new SqlLogEvent(
+                System.currentTimeMillis(),
+                Thread.currentThread().getName(),
+                elapsed,
+                slow,
+                execInfo.isSuccess(),
+                execInfo.isBatch() ? execInfo.getBatchSize() : 0,
+                queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery(),
+                slow ? parameterShapes(queryInfoList) : List.of()));
+    }
+
+    /**
+     * 바인드 파라미터의 값 대신 타입만 추출합니다. 배치이면 실행 묶음마다 하나의 목록이 만들어집니다.
+     */
+    private static List<List<String>> parameterShapes(List<QueryInfo> queryInfoList) {
+        List<List<String>> shapes = new ArrayList<>();
+        for (QueryInfo queryInfo : queryInfoList) {
+            for (List<ParameterSetOperation> parameters : queryInfo.getParametersList()) {
+                List<String> shape = new ArrayList<>(parameters.size());
+                for (ParameterSetOperation parameter : parameters) {
+                    Object[] args = parameter.getArgs();
+                    Object value = args.length > 1 ? args[1] : null;
+                    shape.add(value == null ? "null" : value.getClass().getSimpleName());
+                }
+                shapes.add(shape);
+            }
+        }
+        return shapes;
+    }
+
+    private void drain() {
+        while (running) {
+            SqlLogEvent event = buffer.poll();
+            if (event == null) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+            } else {
+                write(event);
+            }
+        }
+        for (SqlLogEvent event = buffer.poll(); event != null; event = buffer.poll()) {
+            write(event);
+        }
+    }
+
+    private static void write(SqlLogEvent event) {
+        if (event.slow()) {
+            log.warn("ts={} thread={} elapsed_ms={} slow=true success={} batch={} params={} sql=\"{}\"",
+                    event.timestampMillis(), event.thread(), event.elapsedMillis(), event.success(),
+                    event.batchSize(), event.parameterShapes(), event.sql());
+        } else if (log.isInfoEnabled()) {
+            log.info("ts={} thread={} elapsed_ms={} slow=false success={} batch={} sql=\"{}\"",
+                    event.timestampMillis(), event.thread(), event.elapsedMillis(), event.success(),
+                    event.batchSize(), event.sql());
+        }
+    }
+}
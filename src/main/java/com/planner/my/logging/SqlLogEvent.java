@@ -0,0 +1,25 @@
+package com.planner.my.logging;
+
+import java.util.List;
+
+/**
+ * 비동기로 출력할 SQL 실행 기록입니다.
+ *
+ * @param timestampMillis 실행이 끝난 시각 (epoch milliseconds)
+ * @param thread 실행한 스레드 이름
+ * @param elapsedMillis 실행 시간
+ * @param slow 느린 쿼리 기준을 넘었는지 여부
+ * @param success 예외 없이 실행되었는지 여부
+ * @param batchSize JDBC 배치 크기 (배치가 아니면 0)
+ * @param sql 실행된 SQL 문
+ * @param parameterShapes 느린 쿼리의 바인드 파라미터 타입 (값은 기록하지 않음)
+ */
+record SqlLogEvent(long timestampMillis,
+                   String thread,
+                   long elapsedMillis,
+                   boolean slow,
+                   boolean success,
+                   int batchSize,
+                   String sql,
+                   List<List<String>> parameterShapes) {
+}
@@ -0,0 +1,59 @@
+package com.planner.my.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 여러 요청 스레드가 넣고 하나의 출력 스레드가 꺼내는 고정 크기 링 버퍼입니다.
+ * 넣는 쪽은 잠금 없이 슬롯을 예약하며, 버퍼가 가득 차면 기다리지 않고 기록을 버립니다.
+ */
+final class SqlLogRingBuffer<E> {
+
+    private final AtomicReferenceArray<E> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private volatile long head;
+
+    SqlLogRingBuffer(int requestedCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 기록을 넣습니다. 버퍼가 가득 차 있으면 버리고 false를 반환합니다.
+     */
+    boolean offer(E element) {
+        long position;
+        do {
+            position = tail.get();
+            if (position - head >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+        } while (!tail.compareAndSet(position, position + 1));
+        slots.set((int) (position & mask), element);
+        return true;
+    }
+
+    /**
+     * 다음 기록을 꺼냅니다. 출력 스레드 하나에서만 호출해야 하며, 비어 있으면 null을 반환합니다.
+     */
+    E poll() {
+        long position = head;
+        int index = (int) (position & mask);
+        E element = slots.get(index);
+        if (element == null) {
+            return null;
+        }
+        slots.set(index, null);
+        head = position + 1;
+        return element;
+    }
+
+    long dropped() {
+        return dropped.sum();
+    }
+}
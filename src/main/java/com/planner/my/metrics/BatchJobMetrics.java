@@ -0,0 +1,69 @@
+package com.planner.my.metrics;
+
+import com.planner.my.entity.PlanType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 계획을 배치 단위로 처리하는 스케줄러의 진행 메트릭입니다.
+ * <p>
+ * {@code planner.<job>.processed}는 계획 유형별로 처리한 누적 계획 수({@code type} 태그),
+ * {@code planner.<job>.run}은 실행마다 걸린 시간과 실행 횟수,
+ * {@code planner.<job>.last.run}은 마지막 실행이 끝난 시각(epoch 초, 실행 전에는 NaN)입니다.
+ */
+public class BatchJobMetrics {
+
+    private final Map<PlanType, Counter> processed = new EnumMap<>(PlanType.class);
+    private final Timer runs;
+    private volatile double lastRunEpochSeconds = Double.NaN;
+
+    /**
+     * @param meterRegistry 메트릭을 등록할 레지스트리
+     * @param job 메트릭 이름에 들어갈 작업 이름
+     * @param description 작업 설명 (영문)
+     */
+    public BatchJobMetrics(MeterRegistry meterRegistry, String job, String description) {
+        for (PlanType type : PlanType.values()) {
+            processed.put(type, Counter.builder("planner." + job + ".processed")
+                    .description("Plans processed by the " + description)
+                    .tag("type", type.name().toLowerCase(Locale.ROOT))
+                    .register(meterRegistry));
+        }
+        this.runs = Timer.builder("planner." + job + ".run")
+                .description("Duration of each " + description + " run")
+                .register(meterRegistry);
+        Gauge.builder("planner." + job + ".last.run", this, metrics -> metrics.lastRunEpochSeconds)
+                .description("End of the last " + description + " run (epoch seconds)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 한 배치에서 처리한 계획 수를 더합니다.
+     */
+    public void processed(PlanType type, int count) {
+        processed.get(type).increment(count);
+    }
+
+    /**
+     * 실행 한 번이 끝났음을 기록합니다.
+     *
+     * @param startedAt 실행 시작 시각
+     * @return 실행에 걸린 시간
+     */
+    public Duration recordRun(Instant startedAt) {
+        Instant finishedAt = Instant.now();
+        Duration duration = Duration.between(startedAt, finishedAt);
+        runs.record(duration);
+        lastRunEpochSeconds = finishedAt.toEpochMilli() / 1000.0;
+        return duration;
+    }
+}
\ No newline at end of file
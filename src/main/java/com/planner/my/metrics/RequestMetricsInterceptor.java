@@ -0,0 +1,97 @@
+package com.planner.my.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별로 응답 시간, 요청당 SQL 문 수, 요청당 할당된 힙 메모리를 기록합니다.
+ * <ul>
+ *     <li>{@code planner.controller.requests} - 응답 시간 (controller, method, status 태그)</li>
+ *     <li>{@code planner.request.queries} - 요청 처리 중 실행된 SQL 문 수 ({@link StatementBudgetInterceptor}가 기록)</li>
+ *     <li>{@code planner.request.allocated} - 요청 처리 스레드가 할당한 바이트 수</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class RequestMetricsInterceptor implements HandlerInterceptor {
+
+    private static final String START_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".start";
+    private static final String ALLOCATED_ATTRIBUTE = RequestMetricsInterceptor.class.getName() + ".allocated";
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN = threadMXBean();
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+            if (THREAD_MX_BEAN != null) {
+                request.setAttribute(ALLOCATED_ATTRIBUTE, THREAD_MX_BEAN.getCurrentThreadAllocatedBytes());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)
+                || !(request.getAttribute(START_ATTRIBUTE) instanceof Long start)) {
+            return;
+        }
+        long elapsed = System.nanoTime() - start;
+        Tags tags = Tags.of(
+                "controller", handlerMethod.getBeanType().getSimpleName(),
+                "method", handlerMethod.getMethod().getName());
+
+        Timer.builder("planner.controller.requests")
+                .description("Controller method latency")
+                .tags(tags)
+                .tag("status", String.valueOf(response.getStatus()))
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+
+        DistributionSummary.builder("planner.request.queries")
+                .description("SQL statements executed per request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(StatementCounter.count());
+
+        if (THREAD_MX_BEAN != null && request.getAttribute(ALLOCATED_ATTRIBUTE) instanceof Long allocatedBefore) {
+            DistributionSummary.builder("planner.request.allocated")
+                    .description("Heap bytes allocated by the request thread")
+                    .baseUnit("bytes")
+                    .tags(tags)
+                    .register(meterRegistry)
+                    .record(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore);
+        }
+    }
+
+    /**
+     * 스레드별 할당량 측정을 지원하는 JVM이면 해당 MXBean을, 아니면 null을 반환합니다.
+     */
+    private static com.sun.management.ThreadMXBean threadMXBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            if (!bean.isThreadAllocatedMemoryEnabled()) {
+                bean.setThreadAllocatedMemoryEnabled(true);
+            }
+            return bean;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,23 @@
+package com.planner.my.metrics;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드가 한 요청에서 실행할 수 있는 최대 JDBC 문 수를 선언합니다.
+ * 선언하지 않은 메서드는 {@code planner.statement-budget.default-budget}을 사용합니다.
+ * 예산을 넘은 요청은 실행된 SQL 문과 함께 경고 로그로 남습니다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface StatementBudget {
+
+    /**
+     * 최대 JDBC 문 수 (JDBC 배치는 한 번으로 계산)
+     */
+    int value();
+}
@@ -0,0 +1,67 @@
+package com.planner.my.metrics;
+
+import com.planner.my.config.StatementBudgetProperties;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청마다 실행된 JDBC 문 수를 세고, 컨트롤러 메서드의 예산을 넘으면 실행된 SQL 문과 함께 경고 로그를 남깁니다.
+ * 다른 인터셉터가 요청 처리 중 {@link StatementCounter#count()}를 읽을 수 있도록 가장 먼저 등록해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StatementBudgetInterceptor implements HandlerInterceptor {
+
+    private final StatementBudgetProperties properties;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            StatementCounter.start(properties.getMaxCapturedStatements());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+        StatementCounter.Recording recording = StatementCounter.stop();
+        int budget = budgetOf(handlerMethod);
+        if (properties.isEnabled() && budget > 0 && recording.getCount() > budget) {
+            log.warn("Statement budget exceeded: {} {} ({}#{}) executed {} statements, budget {}{}",
+                    request.getMethod(), request.getRequestURI(),
+                    handlerMethod.getBeanType().getSimpleName(), handlerMethod.getMethod().getName(),
+                    recording.getCount(), budget, formatStatements(recording));
+        }
+    }
+
+    /**
+     * 컨트롤러 메서드에 선언된 예산을 반환합니다. 선언이 없으면 기본 예산을 사용합니다.
+     */
+    public int budgetOf(HandlerMethod handlerMethod) {
+        StatementBudget budget = handlerMethod.getMethodAnnotation(StatementBudget.class);
+        return budget != null ? budget.value() : properties.getDefaultBudget();
+    }
+
+    private static String formatStatements(StatementCounter.Recording recording) {
+        StringBuilder builder = new StringBuilder();
+        int index = 1;
+        for (String statement : recording.getStatements()) {
+            builder.append(System.lineSeparator()).append("  ").append(index++).append(". ").append(statement);
+        }
+        int omitted = recording.getCount() - recording.getStatements().size();
+        if (omitted > 0) {
+            builder.append(System.lineSeparator()).append("  ... ").append(omitted).append(" more");
+        }
+        return builder.toString();
+    }
+}
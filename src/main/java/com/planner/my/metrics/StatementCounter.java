@@ -0,0 +1,85 @@
+package com.planner.my.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 현재 스레드에서 실행된 JDBC 문을 세고, 일부를 보관합니다.
+ * {@link #start(int)}로 기록을 시작한 스레드에서만 동작하므로 스케줄러 등 요청 밖의 쿼리는 세지 않습니다.
+ * <p>
+ * 데이터소스 프록시의 {@link StatementCountingListener}가 실행될 때마다 {@link #record(String)}를 호출합니다.
+ * JDBC 배치는 한 번의 실행으로 셉니다.
+ */
+public final class StatementCounter {
+
+    private static final ThreadLocal<Recording> CURRENT = new ThreadLocal<>();
+
+    private StatementCounter() {
+    }
+
+    /**
+     * 현재 스레드의 기록을 새로 시작합니다.
+     *
+     * @param maxCaptured 보관할 최대 SQL 문 수
+     */
+    public static void start(int maxCaptured) {
+        CURRENT.set(new Recording(maxCaptured));
+    }
+
+    /**
+     * 현재 스레드의 기록을 끝내고 결과를 반환합니다. 기록 중이 아니면 빈 결과를 반환합니다.
+     */
+    public static Recording stop() {
+        Recording recording = CURRENT.get();
+        CURRENT.remove();
+        return recording != null ? recording : new Recording(0);
+    }
+
+    /**
+     * 기록 중인 경우 지금까지 실행된 SQL 문 수를 반환합니다.
+     */
+    public static int count() {
+        Recording recording = CURRENT.get();
+        return recording != null ? recording.count : 0;
+    }
+
+    static void record(String sql) {
+        Recording recording = CURRENT.get();
+        if (recording != null) {
+            recording.add(sql);
+        }
+    }
+
+    /**
+     * 한 스레드에서 기록한 SQL 실행 결과입니다.
+     */
+    public static final class Recording {
+
+        private final int maxCaptured;
+        private final List<String> statements = new ArrayList<>();
+        private int count;
+
+        private Recording(int maxCaptured) {
+            this.maxCaptured = maxCaptured;
+        }
+
+        private void add(String sql) {
+            count++;
+            if (statements.size() < maxCaptured) {
+                statements.add(sql);
+            }
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        /**
+         * 보관된 SQL 문입니다. 최대 보관 수를 넘은 뒤의 문은 포함되지 않습니다.
+         */
+        public List<String> getStatements() {
+            return Collections.unmodifiableList(statements);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.planner.my.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.util.List;
+
+/**
+ * 데이터소스 프록시에서 JDBC 문이 실행될 때마다 {@link StatementCounter}에 기록합니다.
+ * Hibernate뿐 아니라 JdbcTemplate이나 네이티브 쿼리로 실행된 문도 함께 셉니다.
+ */
+public class StatementCountingListener implements QueryExecutionListener {
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.isEmpty() ? "" : queryInfoList.get(0).getQuery();
+        if (execInfo.isBatch()) {
+            sql = sql + " [batch x" + execInfo.getBatchSize() + "]";
+        }
+        StatementCounter.record(sql);
+    }
+}
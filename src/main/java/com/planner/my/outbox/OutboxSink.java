@@ -0,0 +1,20 @@
+package com.planner.my.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * 아웃박스 릴레이가 이벤트를 넘기는 대상입니다.
+ * 기본값은 {@link RotatingFileOutboxSink}이며, 이 타입의 빈을 등록하면 대신 사용합니다.
+ */
+public interface OutboxSink {
+
+    /**
+     * 이벤트를 ID 순서대로 전달합니다. 정상적으로 반환되면 릴레이는 이벤트를 아웃박스에서 삭제하고,
+     * 예외가 발생하면 삭제하지 않고 다음 실행에서 같은 이벤트부터 다시 전달합니다.
+     *
+     * @param events 전달할 이벤트 (비어 있지 않음)
+     * @throws IOException 전달에 실패했을 때
+     */
+    void publish(List<PlanChangeEvent> events) throws IOException;
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.planner.my.outbox;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.planner.my.entity.OutboxEvent;
+import com.planner.my.entity.PlanEventType;
+import com.planner.my.entity.PlanType;
+
+import java.time.LocalDateTime;
+
+/**
+ * 싱크로 전달되는 계획 변경 이벤트입니다.
+ * 같은 이벤트가 두 번 이상 전달될 수 있으므로 소비자는 {@code id}로 중복을 걸러야 합니다.
+ *
+ * @param id 아웃박스 이벤트 ID
+ * @param planType 계획 유형
+ * @param planId 변경된 계획 ID (재정렬이면 null)
+ * @param eventType 변경 종류
+ * @param occurredAt 변경 시각
+ * @param payload 이벤트 내용 (JSON 그대로 씁니다)
+ */
+public record PlanChangeEvent(
+        long id,
+        PlanType planType,
+        Long planId,
+        PlanEventType eventType,
+        LocalDateTime occurredAt,
+        @JsonRawValue String payload) {
+
+    public static PlanChangeEvent from(OutboxEvent event) {
+        return new PlanChangeEvent(event.getId(), event.getPlanType(), event.getPlanId(), event.getEventType(),
+                event.getOccurredAt(), event.getPayload());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,110 @@
+package com.planner.my.outbox;
+
+import lombok.extern.slf4j.Slf4j;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * 이벤트를 JSON Lines 형식으로 로컬 파일에 추가하는 기본 싱크입니다.
+ * <p>
+ * 배치 전체를 한 번에 쓰고 디스크에 동기화한 뒤 반환하므로, 반환된 이벤트는 프로세스가 종료되어도 남습니다.
+ * 파일이 최대 크기를 넘으면 {@code plan-events.1.jsonl}, {@code plan-events.2.jsonl} 순으로 이름을 바꾸고
+ * 보관 개수를 넘은 가장 오래된 파일은 삭제합니다.
+ */
+@Slf4j
+public class RotatingFileOutboxSink implements OutboxSink, Closeable {
+
+    private static final String BASE_NAME = "plan-events";
+    private static final String EXTENSION = ".jsonl";
+
+    private final Path directory;
+    private final long maxFileSize;
+    private final int maxFiles;
+    private final JsonMapper jsonMapper;
+    private FileChannel channel;
+    private long size;
+
+    /**
+     * @param directory 파일을 쓸 디렉터리
+     * @param maxFileSize 파일 하나의 최대 크기 (바이트)
+     * @param maxFiles 보관할 지난 파일 수
+     * @param jsonMapper 이벤트 직렬화에 사용할 JsonMapper
+     */
+    public RotatingFileOutboxSink(Path directory, long maxFileSize, int maxFiles, JsonMapper jsonMapper) {
+        this.directory = directory;
+        this.maxFileSize = maxFileSize;
+        this.maxFiles = Math.max(1, maxFiles);
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public synchronized void publish(List<PlanChangeEvent> events) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(events.size() * 256);
+        for (PlanChangeEvent event : events) {
+            buffer.write(jsonMapper.writeValueAsBytes(event));
+            buffer.write('\n');
+        }
+        if (channel == null) {
+            open();
+        } else if (size > 0 && size + buffer.size() > maxFileSize) {
+            rotate();
+        }
+        long sizeBefore = size;
+        ByteBuffer bytes = ByteBuffer.wrap(buffer.toByteArray());
+        try {
+            while (bytes.hasRemaining()) {
+                size += channel.write(bytes);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            // 다시 전달될 배치가 잘린 줄 뒤에 이어 붙지 않도록 쓰기 전 크기로 되돌립니다.
+            channel.truncate(sizeBefore);
+            size = sizeBefore;
+            throw e;
+        }
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (channel != null) {
+            channel.close();
+            channel = null;
+        }
+    }
+
+    private void open() throws IOException {
+        Files.createDirectories(directory);
+        channel = FileChannel.open(file(0), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND);
+        size = channel.size();
+    }
+
+    private void rotate() throws IOException {
+        channel.close();
+        channel = null;
+        Files.deleteIfExists(file(maxFiles));
+        for (int index = maxFiles - 1; index >= 1; index--) {
+            Path source = file(index);
+            if (Files.exists(source)) {
+                Files.move(source, file(index + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        Files.move(file(0), file(1), StandardCopyOption.REPLACE_EXISTING);
+        log.debug("Rotated outbox file in {}", directory);
+        open();
+    }
+
+    private Path file(int index) {
+        return directory.resolve(index == 0 ? BASE_NAME + EXTENSION : BASE_NAME + "." + index + EXTENSION);
+    }
+}
\ No newline at end of file
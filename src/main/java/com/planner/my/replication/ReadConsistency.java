@@ -0,0 +1,80 @@
+package com.planner.my.replication;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 클라이언트별로 마지막 쓰기의 복제 위치를 기억해 자신이 쓴 내용을 항상 읽을 수 있게 합니다.
+ * <p>
+ * 요청을 시작할 때 {@link #begin(String)}으로 현재 스레드의 클라이언트를 정하면, 그 요청의 읽기 전용 트랜잭션은
+ * 복제본이 해당 클라이언트의 마지막 쓰기까지 적용한 뒤에만 복제본을 사용합니다.
+ * 복제본이 따라잡은 위치는 {@link #forget(long)}으로 지우므로 아직 복제되지 않은 쓰기만 남습니다.
+ */
+public class ReadConsistency {
+
+    private final ThreadLocal<Client> current = new ThreadLocal<>();
+    private final Map<String, Long> lastWrites = new ConcurrentHashMap<>();
+
+    /**
+     * 현재 스레드의 요청을 보낸 클라이언트를 정합니다.
+     *
+     * @param clientKey 클라이언트 식별자
+     */
+    public void begin(String clientKey) {
+        current.set(new Client(clientKey, lastWrites.getOrDefault(clientKey, 0L)));
+    }
+
+    /**
+     * 현재 스레드의 클라이언트 정보를 지웁니다.
+     */
+    public void end() {
+        current.remove();
+    }
+
+    /**
+     * 복제본이 따라잡기 전까지 기억하고 있는 클라이언트 수를 반환합니다.
+     */
+    public int pendingClients() {
+        return lastWrites.size();
+    }
+
+    /**
+     * 현재 클라이언트가 커밋한 쓰기의 복제 위치를 기록합니다. 요청 밖의 쓰기는 기록하지 않습니다.
+     */
+    void recordWrite(long position) {
+        Client client = current.get();
+        if (client == null) {
+            return;
+        }
+        client.position = Math.max(client.position, position);
+        lastWrites.merge(client.key, position, Math::max);
+    }
+
+    /**
+     * 현재 스레드의 읽기가 복제본을 사용하려면 복제본이 적용해야 하는 위치를 반환합니다.
+     *
+     * @param fallback 요청 밖의 읽기(스케줄러 등)에 사용할 위치
+     */
+    long requiredPosition(long fallback) {
+        Client client = current.get();
+        return client != null ? client.position : fallback;
+    }
+
+    /**
+     * 복제본이 적용한 위치까지의 쓰기를 잊습니다.
+     */
+    public void forget(long appliedPosition) {
+        lastWrites.values().removeIf(position -> position <= appliedPosition);
+    }
+
+    private static final class Client {
+
+        private final String key;
+        private long position;
+
+        private Client(String key, long position) {
+            this.key = key;
+            this.position = position;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.planner.my.replication;
+
+import com.zaxxer.hikari.HikariDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+
+/**
+ * 쓰기는 기본 데이터소스로, 읽기 전용 트랜잭션은 {@link ReplicaRoutingDataSource}로 보내는 데이터소스입니다.
+ * <p>
+ * 트랜잭션 매니저는 커넥션을 받은 뒤에 읽기 전용 여부를 지정하므로, 실제 커넥션은 첫 문을 실행할 때 가져옵니다.
+ * 그때 {@code setReadOnly(true)}가 호출된 커넥션만 복제본 쪽에서 가져옵니다.
+ * 기본 데이터소스는 {@link ReplicationCaptureListener}가 붙은 프록시로 감싸 커밋된 변경 문을 복제 로그에 남깁니다.
+ */
+public class ReadWriteDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final HikariDataSource primaryPool;
+    private final ReplicaRoutingDataSource readRouter;
+
+    public ReadWriteDataSource(HikariDataSource primaryPool, ReplicationLog replicationLog,
+                               ReadConsistency readConsistency) {
+        ReplicationCaptureListener capture = new ReplicationCaptureListener(replicationLog, readConsistency);
+        DataSource primary = ProxyDataSourceBuilder.create(primaryPool)
+                .name("primary")
+                .listener(capture)
+                .methodListener(capture)
+                .build();
+        this.primaryPool = primaryPool;
+        this.readRouter = new ReplicaRoutingDataSource(primary, replicationLog, readConsistency);
+        setTargetDataSource(primary);
+        setReadOnlyDataSource(readRouter);
+    }
+
+    /**
+     * 읽기 전용 커넥션을 나누는 데이터소스입니다.
+     */
+    public ReplicaRoutingDataSource readRouter() {
+        return readRouter;
+    }
+
+    @Override
+    public void close() {
+        primaryPool.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,31 @@
+package com.planner.my.replication;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 요청을 보낸 클라이언트를 {@link ReadConsistency}에 알려 자신의 쓰기를 읽을 수 있게 합니다.
+ * {@value #CLIENT_ID_HEADER} 헤더가 있으면 그 값으로, 없으면 원격 주소로 클라이언트를 구분합니다.
+ */
+@RequiredArgsConstructor
+public class ReadYourWritesInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private final ReadConsistency readConsistency;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        readConsistency.begin(clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr());
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        readConsistency.end();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.planner.my.replication;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 읽기 전용 커넥션을 복제본과 기본 데이터소스 중 하나로 보냅니다.
+ * 복제본이 현재 클라이언트의 마지막 쓰기까지 적용했으면 복제본을, 아직 따라잡지 못했으면 기본 데이터소스를 사용합니다.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private final ReplicationLog replicationLog;
+    private final ReadConsistency readConsistency;
+    private final LongAdder replicaReads = new LongAdder();
+    private final LongAdder primaryReads = new LongAdder();
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicationLog replicationLog,
+                                    ReadConsistency readConsistency) {
+        this.replicationLog = replicationLog;
+        this.readConsistency = readConsistency;
+        setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replicationLog.replica()));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 복제본을 사용한 읽기 전용 커넥션 수입니다.
+     */
+    public long replicaReads() {
+        return replicaReads.sum();
+    }
+
+    /**
+     * 복제본이 뒤처져 기본 데이터소스를 사용한 읽기 전용 커넥션 수입니다.
+     */
+    public long primaryReads() {
+        return primaryReads.sum();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        long required = readConsistency.requiredPosition(replicationLog.committedPosition());
+        if (replicationLog.isAppliedUpTo(required)) {
+            replicaReads.increment();
+            return Target.REPLICA;
+        }
+        primaryReads.increment();
+        return Target.PRIMARY;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,148 @@
+package com.planner.my.replication;
+
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 기본 데이터베이스에서 실행된 변경 문을 복제본에 다시 실행할 수 있게 보관합니다.
+ * 바인드 파라미터는 PreparedStatement의 set 메서드 호출 그대로 기록하며, JDBC 배치는 실행 묶음마다 하나의 목록입니다.
+ *
+ * @param sql 실행된 SQL
+ * @param parameterSets 실행 묶음별 바인드 파라미터 (파라미터 없이 Statement로 실행된 문이면 비어 있음)
+ */
+record ReplicatedStatement(String sql, List<List<Binding>> parameterSets) {
+
+    private static final Method SET_BYTES = setter("setBytes", byte[].class);
+    private static final Method SET_STRING = setter("setString", String.class);
+
+    /**
+     * datasource-proxy가 기록한 실행 정보를 복사합니다.
+     * 스트림이나 LOB 파라미터는 실행 후 다시 읽을 수 없으므로 바이트 배열이나 문자열로 바꿔 둡니다.
+     */
+    static ReplicatedStatement capture(QueryInfo queryInfo) {
+        List<List<Binding>> parameterSets = new ArrayList<>(queryInfo.getParametersList().size());
+        for (List<ParameterSetOperation> operations : queryInfo.getParametersList()) {
+            List<Binding> bindings = new ArrayList<>(operations.size());
+            for (ParameterSetOperation operation : operations) {
+                if (operation.getMethod().getName().startsWith("set")) {
+                    bindings.add(Binding.of(operation.getMethod(), operation.getArgs()));
+                }
+            }
+            parameterSets.add(bindings);
+        }
+        return new ReplicatedStatement(queryInfo.getQuery(), parameterSets);
+    }
+
+    /**
+     * 주어진 커넥션에서 문을 다시 실행합니다. 실행 묶음이 여럿이면 JDBC 배치로 실행합니다.
+     */
+    void execute(Connection connection) throws SQLException {
+        if (parameterSets.isEmpty()) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute(sql);
+            }
+            return;
+        }
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            if (parameterSets.size() == 1) {
+                bind(statement, parameterSets.getFirst());
+                statement.execute();
+                return;
+            }
+            for (List<Binding> bindings : parameterSets) {
+                bind(statement, bindings);
+                statement.addBatch();
+            }
+            statement.executeBatch();
+        }
+    }
+
+    private static void bind(PreparedStatement statement, List<Binding> bindings) throws SQLException {
+        for (Binding binding : bindings) {
+            try {
+                binding.method().invoke(statement, binding.args());
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException cause) {
+                    throw cause;
+                }
+                throw new SQLException("Cannot bind parameter with " + binding.method().getName(), e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new SQLException("Cannot bind parameter with " + binding.method().getName(), e);
+            }
+        }
+    }
+
+    private static Method setter(String name, Class<?> valueType) {
+        try {
+            return PreparedStatement.class.getMethod(name, int.class, valueType);
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * PreparedStatement의 set 메서드 호출 하나입니다.
+     *
+     * @param method 호출된 set 메서드
+     * @param args 파라미터 위치와 값을 포함한 인자
+     */
+    record Binding(Method method, Object[] args) {
+
+        static Binding of(Method method, Object[] args) {
+            Object value = args.length > 1 ? args[1] : null;
+            try {
+                if (value instanceof InputStream stream) {
+                    return new Binding(SET_BYTES, new Object[]{args[0], readAll(stream)});
+                }
+                if (value instanceof Reader reader) {
+                    return new Binding(SET_STRING, new Object[]{args[0], readAll(reader)});
+                }
+                if (value instanceof Blob blob) {
+                    return new Binding(SET_BYTES, new Object[]{args[0], blob.getBytes(1, (int) blob.length())});
+                }
+                if (value instanceof Clob clob) {
+                    return new Binding(SET_STRING, new Object[]{args[0], clob.getSubString(1, (int) clob.length())});
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cannot copy stream parameter for replication", e);
+            } catch (SQLException e) {
+                throw new IllegalStateException("Cannot copy LOB parameter for replication", e);
+            }
+            return new Binding(method, args.clone());
+        }
+
+        private static byte[] readAll(InputStream stream) throws IOException {
+            if (!stream.markSupported()) {
+                throw new IllegalStateException("Stream parameter cannot be re-read for replication");
+            }
+            stream.reset();
+            return stream.readAllBytes();
+        }
+
+        private static String readAll(Reader reader) throws IOException {
+            if (!reader.markSupported()) {
+                throw new IllegalStateException("Reader parameter cannot be re-read for replication");
+            }
+            reader.reset();
+            StringWriter writer = new StringWriter();
+            reader.transferTo(writer);
+            return writer.toString();
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.planner.my.replication;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * 기본 데이터소스에서 실행된 변경 문을 모아 커밋될 때 {@link ReplicationLog}에 넘깁니다.
+ * <p>
+ * 트랜잭션 안의 문은 커넥션별로 모았다가 커밋이 성공하면 한 번에 기록하고, 롤백되거나 커밋 없이 닫히면 버립니다.
+ * 자동 커밋 커넥션의 문은 실행과 동시에 커밋되므로 실행하는 동안 커밋 잠금을 잡고 바로 기록합니다.
+ * SELECT 문은 복제하지 않습니다.
+ * <p>
+ * 문을 다시 실행하므로 복제본에서 다른 값을 만드는 문은 그대로 둘 수 없습니다.
+ * 시퀀스 값을 받는 SELECT({@code NEXT VALUE FOR})는 트랜잭션과 관계없이 시퀀스를 올리므로, 커밋을 기다리지 않고 바로 기록해
+ * 복제본의 시퀀스도 같은 횟수만큼 올립니다. 시퀀스 증가는 순서와 관계없이 횟수만 같으면 같은 값에 도달합니다.
+ * 변경 문 안에서 시퀀스, 현재 시각, 난수를 쓰는 문은 복제본에서 다른 값이 되므로 기본 데이터베이스에서 실행하기 전에 거부합니다.
+ * 이런 값은 먼저 따로 조회하거나 애플리케이션에서 만들어 바인드 파라미터로 넘깁니다.
+ */
+class ReplicationCaptureListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Pattern SEQUENCE_ADVANCE = Pattern.compile(
+            "\\bNEXT\\s+VALUE\\s+FOR\\b|\\bNEXTVAL\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern NON_DETERMINISTIC = Pattern.compile(
+            "\\b(?:CURRENT_TIMESTAMP|CURRENT_DATE|CURRENT_TIME|LOCALTIMESTAMP|LOCALTIME|SYSDATE|SYSTIMESTAMP)\\b"
+                    + "|\\b(?:NOW|RAND|RANDOM|SECURE_RAND|RANDOM_UUID|UUID)\\s*\\(", Pattern.CASE_INSENSITIVE);
+    private static final Pattern DML = Pattern.compile("^\\s*(?:INSERT|UPDATE|DELETE|MERGE)\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private final ReplicationLog replicationLog;
+    private final ReadConsistency readConsistency;
+    private final Map<String, List<ReplicatedStatement>> uncommitted = new ConcurrentHashMap<>();
+
+    ReplicationCaptureListener(ReplicationLog replicationLog, ReadConsistency readConsistency) {
+        this.replicationLog = replicationLog;
+        this.readConsistency = readConsistency;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        rejectNonDeterministic(queryInfoList);
+        if (isWrite(queryInfoList) && isAutoCommit(execInfo)) {
+            replicationLog.lockCommits();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        boolean autoCommit = replicationLog.holdsCommitLock();
+        try {
+            if (!execInfo.isSuccess()) {
+                return;
+            }
+            if (!isWrite(queryInfoList)) {
+                if (advancesSequence(queryInfoList)) {
+                    appendSequenceAdvance(queryInfoList);
+                }
+                return;
+            }
+            List<ReplicatedStatement> statements = queryInfoList.stream().map(ReplicatedStatement::capture).toList();
+            if (autoCommit) {
+                readConsistency.recordWrite(replicationLog.append(statements));
+            } else {
+                uncommitted.computeIfAbsent(execInfo.getConnectionId(), id -> new ArrayList<>()).addAll(statements);
+            }
+        } finally {
+            if (autoCommit) {
+                replicationLog.unlockCommits();
+            }
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+        if (executionContext.getTarget() instanceof Connection
+                && "commit".equals(executionContext.getMethod().getName())
+                && uncommitted.containsKey(connectionId(executionContext))) {
+            replicationLog.lockCommits();
+        }
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof Connection)) {
+            return;
+        }
+        switch (executionContext.getMethod().getName()) {
+            case "commit" -> committed(executionContext);
+            case "rollback", "close" -> uncommitted.remove(connectionId(executionContext));
+            default -> {
+            }
+        }
+    }
+
+    private void committed(MethodExecutionContext executionContext) {
+        if (!replicationLog.holdsCommitLock()) {
+            return;
+        }
+        try {
+            List<ReplicatedStatement> statements = uncommitted.remove(connectionId(executionContext));
+            if (executionContext.getThrown() == null && statements != null) {
+                readConsistency.recordWrite(replicationLog.append(statements));
+            }
+        } finally {
+            replicationLog.unlockCommits();
+        }
+    }
+
+    /**
+     * 시퀀스 증가는 롤백되지 않으므로 트랜잭션의 커밋 여부와 관계없이 바로 복제 로그에 넣습니다.
+     * 읽기 일관성에는 영향이 없으므로 클라이언트의 쓰기 위치로 기록하지 않습니다.
+     */
+    private void appendSequenceAdvance(List<QueryInfo> queryInfoList) {
+        List<ReplicatedStatement> statements = queryInfoList.stream().map(ReplicatedStatement::capture).toList();
+        replicationLog.lockCommits();
+        try {
+            replicationLog.append(statements);
+        } finally {
+            replicationLog.unlockCommits();
+        }
+    }
+
+    private static void rejectNonDeterministic(List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            if (DML.matcher(sql).find()
+                    && (SEQUENCE_ADVANCE.matcher(sql).find() || NON_DETERMINISTIC.matcher(sql).find())) {
+                throw new IllegalStateException("Statement produces different values when replayed on the replica; "
+                        + "bind sequence, time and random values as parameters instead: " + sql);
+            }
+        }
+    }
+
+    private static boolean advancesSequence(List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (SEQUENCE_ADVANCE.matcher(queryInfo.getQuery()).find()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String connectionId(MethodExecutionContext executionContext) {
+        return executionContext.getConnectionInfo().getConnectionId();
+    }
+
+    private static boolean isWrite(List<QueryInfo> queryInfoList) {
+        for (QueryInfo queryInfo : queryInfoList) {
+            if (!queryInfo.getQuery().stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isAutoCommit(ExecutionInfo execInfo) {
+        try {
+            return execInfo.getStatement().getConnection().getAutoCommit();
+        } catch (SQLException e) {
+            throw new IllegalStateException("Cannot determine auto-commit mode for replication", e);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,173 @@
+package com.planner.my.replication;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongConsumer;
+
+/**
+ * 기본 데이터베이스에 커밋된 변경을 커밋 순서대로 복제본에 적용합니다.
+ * <p>
+ * 변경이 있는 커밋은 잠금을 잡은 채 실행되고 같은 잠금 안에서 다음 복제 위치를 받으므로, 위치 순서가 곧 커밋 순서입니다.
+ * 별도의 스레드가 쌓인 커밋을 여러 개씩 묶어 복제본의 한 트랜잭션으로 다시 실행하고 적용한 위치를 올립니다.
+ * 복제본은 빈 데이터베이스에서 시작해 스키마 생성 문부터 재실행하므로, 애플리케이션이 준비된 시점의 위치까지 적용하기 전에는
+ * 사용하지 않습니다. 재실행이 실패하면 복제본이 어긋난 것으로 보고 더 이상 사용하지 않습니다.
+ */
+@Slf4j
+public class ReplicationLog {
+
+    private static final long IDLE_POLL_MILLIS = 50;
+
+    private final HikariDataSource replica;
+    private final int applyBatchSize;
+    private final LongConsumer onApplied;
+    private final ReentrantLock commitLock = new ReentrantLock();
+    private final BlockingQueue<Entry> pending = new LinkedBlockingQueue<>();
+    private final Thread applier;
+    private volatile long committedPosition;
+    private volatile long appliedPosition;
+    private volatile long readyPosition = Long.MAX_VALUE;
+    private volatile boolean running = true;
+    private volatile boolean failed;
+
+    /**
+     * @param replica 복제본 커넥션 풀 (종료 시 함께 닫습니다)
+     * @param applyBatchSize 복제본에 한 트랜잭션으로 적용할 최대 커밋 수
+     * @param onApplied 적용한 위치가 올라갈 때마다 호출됩니다
+     */
+    public ReplicationLog(HikariDataSource replica, int applyBatchSize, LongConsumer onApplied) {
+        this.replica = replica;
+        this.applyBatchSize = Math.max(1, applyBatchSize);
+        this.onApplied = onApplied;
+        this.applier = Thread.ofPlatform().name("replica-applier").daemon().unstarted(this::drain);
+    }
+
+    @PostConstruct
+    void start() {
+        applier.start();
+    }
+
+    @PreDestroy
+    void stop() throws InterruptedException {
+        running = false;
+        applier.join(TimeUnit.SECONDS.toMillis(5));
+        replica.close();
+    }
+
+    /**
+     * 애플리케이션이 준비된 시점의 위치를 기억합니다. 복제본은 이 위치까지 적용한 뒤부터 사용합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void markReady() {
+        readyPosition = committedPosition;
+        log.info("Replica becomes readable after position {}", readyPosition);
+    }
+
+    /**
+     * 마지막으로 커밋된 변경의 위치입니다.
+     */
+    public long committedPosition() {
+        return committedPosition;
+    }
+
+    /**
+     * 복제본에 적용된 마지막 위치입니다.
+     */
+    public long appliedPosition() {
+        return appliedPosition;
+    }
+
+    /**
+     * 복제본이 주어진 위치까지 적용했고 읽기에 사용할 수 있는지 확인합니다.
+     */
+    public boolean isAppliedUpTo(long position) {
+        return !failed && appliedPosition >= Math.max(position, readyPosition);
+    }
+
+    DataSource replica() {
+        return replica;
+    }
+
+    void lockCommits() {
+        commitLock.lock();
+    }
+
+    boolean holdsCommitLock() {
+        return commitLock.isHeldByCurrentThread();
+    }
+
+    void unlockCommits() {
+        commitLock.unlock();
+    }
+
+    /**
+     * 커밋된 변경 문을 기록하고 복제 위치를 반환합니다. {@link #lockCommits()}로 잠금을 잡은 스레드에서만 호출합니다.
+     */
+    long append(List<ReplicatedStatement> statements) {
+        long position = committedPosition + 1;
+        if (!failed) {
+            pending.add(new Entry(position, statements));
+        }
+        committedPosition = position;
+        return position;
+    }
+
+    private void drain() {
+        List<Entry> batch = new ArrayList<>(applyBatchSize);
+        while (running || !pending.isEmpty()) {
+            Entry first;
+            try {
+                first = pending.poll(IDLE_POLL_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            if (first == null) {
+                continue;
+            }
+            batch.add(first);
+            pending.drainTo(batch, applyBatchSize - 1);
+            apply(batch);
+            batch.clear();
+        }
+    }
+
+    private void apply(List<Entry> batch) {
+        if (failed) {
+            return;
+        }
+        try (Connection connection = replica.getConnection()) {
+            connection.setAutoCommit(false);
+            for (Entry entry : batch) {
+                for (ReplicatedStatement statement : entry.statements()) {
+                    statement.execute(connection);
+                }
+            }
+            connection.commit();
+        } catch (SQLException | RuntimeException e) {
+            failed = true;
+            pending.clear();
+            log.error("Replica diverged while applying positions {}..{}; read-only transactions now use the primary",
+                    batch.getFirst().position(), batch.getLast().position(), e);
+            return;
+        }
+        appliedPosition = batch.getLast().position();
+        onApplied.accept(appliedPosition);
+    }
+
+    private record Entry(long position, List<ReplicatedStatement> statements) {
+    }
+}
\ No newline at end of file
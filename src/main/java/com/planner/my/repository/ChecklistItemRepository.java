@@ -0,0 +1,47 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.ChecklistItem;
+import com.planner.my.entity.PlanType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 체크리스트 항목에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface ChecklistItemRepository extends JpaRepository<ChecklistItem, Long> {
+
+    /**
+     * 계획 하나의 체크리스트 항목을 표시 순서대로 조회합니다.
+     */
+    List<ChecklistItem> findByPlanTypeAndPlanIdOrderByDisplayOrderAscIdAsc(PlanType planType, Long planId);
+
+    /**
+     * 여러 계획의 체크리스트 항목을 하나의 IN 조회로 읽어 계획별 표시 순서대로 반환합니다.
+     */
+    List<ChecklistItem> findByPlanTypeAndPlanIdInOrderByPlanIdAscDisplayOrderAscIdAsc(PlanType planType,
+                                                                                      Collection<Long> planIds);
+
+    Optional<ChecklistItem> findByIdAndPlanTypeAndPlanId(Long id, PlanType planType, Long planId);
+
+    /**
+     * 계획 하나의 체크리스트 항목 중 가장 큰 표시 순서를 조회합니다. 항목이 없으면 -1을 반환합니다.
+     */
+    @Query("SELECT COALESCE(MAX(i.displayOrder), -1) FROM ChecklistItem i " +
+            "WHERE i.planType = :planType AND i.planId = :planId")
+    int findMaxDisplayOrder(@Param("planType") PlanType planType, @Param("planId") Long planId);
+
+    /**
+     * 계획 하나의 체크리스트 항목을 한 번의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM ChecklistItem i WHERE i.planType = :planType AND i.planId = :planId")
+    int deleteByPlan(@Param("planType") PlanType planType, @Param("planId") Long planId);
+}
\ No newline at end of file
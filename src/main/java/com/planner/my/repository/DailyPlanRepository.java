@@ -3,24 +3,65 @@ package com.planner.my.repository;
 import com.planner.my.entity.DailyPlan;
 import com.planner.my.entity.PlanStatus;
 import com.planner.my.entity.Priority;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 일간 계획 엔티티에 대한 데이터 액세스 레이어입니다.
  */
 @Repository
-public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long> {
+public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long>, JpaSpecificationExecutor<DailyPlan> {
+
+    /**
+     * 아카이브 테이블로 옮기는 컬럼입니다. 아카이브 테이블 생성과 복사가 같은 목록을 쓰므로 컬럼 순서에 의존하지 않습니다.
+     */
+    String ARCHIVE_COLUMNS = "id, status, display_order, created_at, updated_at, title, description, plan_date, "
+            + "priority, recurring_plan_id, occurrence_date";
 
     /**
      * 모든 일간 계획을 표시 순서로 정렬하여 조회합니다.
      */
     List<DailyPlan> findAllByOrderByDisplayOrderAsc();
 
+    /**
+     * 모든 일간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 다 읽은 뒤 스트림을 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<DailyPlan> streamAllByOrderByDisplayOrderAsc();
+
+    /**
+     * 모든 일간 계획의 ID만 표시 순서대로 조회합니다.
+     */
+    @Query("SELECT d.id FROM DailyPlan d ORDER BY d.displayOrder")
+    List<Long> findAllIdsOrderByDisplayOrder();
+
+    /**
+     * 모든 일간 계획의 ID, 상태, 우선순위를 조회합니다. 필터 인덱스를 만들 때 사용합니다.
+     */
+    @Query("SELECT d.id AS id, d.status AS status, d.priority AS priority FROM DailyPlan d")
+    List<PlanFilterEntry> findFilterEntries();
+
     /**
      * 특정 날짜의 일간 계획을 표시 순서로 정렬하여 조회합니다.
      */
@@ -46,4 +87,180 @@ public interface DailyPlanRepository extends JpaRepository<DailyPlan, Long> {
      */
     @Query("SELECT COALESCE(MAX(d.displayOrder), 0) FROM DailyPlan d")
     Integer findMaxDisplayOrder();
+
+    /**
+     * 주어진 ID 중 최종 상태가 아니어서 상태를 변경할 수 있는 계획의 ID와 현재 상태를 조회합니다.
+     * 일괄 변경이 끝날 때까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d.id AS planId, d.status AS status FROM DailyPlan d WHERE d.id IN :ids AND d.status NOT IN :finalized")
+    List<PlanStatusEntry> findUpdatableStatuses(@Param("ids") Collection<Long> ids,
+                                                @Param("finalized") Collection<PlanStatus> finalized);
+
+    /**
+     * 최종 상태가 아닌 계획들의 상태를 한 번의 UPDATE 문으로 변경합니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyPlan d SET d.status = :status, d.updatedAt = :updatedAt " +
+            "WHERE d.id IN :ids AND d.status NOT IN :finalized")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") PlanStatus status,
+                          @Param("finalized") Collection<PlanStatus> finalized,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 날짜가 지났지만 아직 최종 상태가 아닌 일간 계획의 ID를 ID 순으로 조회합니다.
+     * 청크를 처리하는 동안 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d.id FROM DailyPlan d WHERE d.planDate < :today AND d.status NOT IN :finalized ORDER BY d.id")
+    List<Long> findOverdueIds(@Param("today") LocalDate today,
+                              @Param("finalized") Collection<PlanStatus> finalized,
+                              Pageable pageable);
+
+    /**
+     * 최종 상태가 아닌 일간 계획들의 날짜를 한 번의 UPDATE 문으로 옮깁니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyPlan d SET d.planDate = :planDate, d.updatedAt = :updatedAt " +
+            "WHERE d.id IN :ids AND d.status NOT IN :finalized")
+    int rolloverByIds(@Param("ids") Collection<Long> ids,
+                      @Param("planDate") LocalDate planDate,
+                      @Param("finalized") Collection<PlanStatus> finalized,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 반복 계획에서 수정되어 저장된 특정 날짜의 일정을 조회합니다.
+     */
+    Optional<DailyPlan> findByRecurringPlanIdAndOccurrenceDate(Long recurringPlanId, LocalDate occurrenceDate);
+
+    /**
+     * 조회 기간 내 원래 반복 날짜를 가진, 수정되어 저장된 반복 일정의 키를 조회합니다.
+     */
+    @Query("SELECT d.recurringPlanId AS recurringPlanId, d.occurrenceDate AS occurrenceDate FROM DailyPlan d " +
+            "WHERE d.recurringPlanId IN :recurringPlanIds AND d.occurrenceDate BETWEEN :startDate AND :endDate")
+    List<OccurrenceKey> findOccurrenceKeys(@Param("recurringPlanIds") Collection<Long> recurringPlanIds,
+                                           @Param("startDate") LocalDate startDate,
+                                           @Param("endDate") LocalDate endDate);
+
+    /**
+     * 반복 계획에서 수정되어 저장된 일정의 ID를 조회합니다.
+     */
+    @Query("SELECT d.id FROM DailyPlan d WHERE d.recurringPlanId = :recurringPlanId")
+    List<Long> findIdsByRecurringPlanId(@Param("recurringPlanId") Long recurringPlanId);
+
+    /**
+     * 반복 계획이 삭제될 때 저장된 일정을 일반 일간 계획으로 분리합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyPlan d SET d.recurringPlanId = NULL, d.occurrenceDate = NULL " +
+            "WHERE d.recurringPlanId = :recurringPlanId")
+    int detachFromRecurringPlan(@Param("recurringPlanId") Long recurringPlanId);
+
+    /**
+     * 특정 날짜의 최종 상태가 아닌 일간 계획의 ID를 조회합니다.
+     * 이월이 끝날 때까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d.id FROM DailyPlan d WHERE d.planDate = :from AND d.status NOT IN :finalized")
+    List<Long> findUnfinishedIds(@Param("from") LocalDate from,
+                                 @Param("finalized") Collection<PlanStatus> finalized);
+
+    /**
+     * 최종 상태가 아닌 일간 계획을 한 번의 UPDATE 문으로 다른 날짜로 옮깁니다.
+     * 옮겨진 계획의 표시 순서는 기존 상대 순서를 유지한 채 옮길 날짜의 최대 표시 순서 뒤로 보내며,
+     * 두 기준값은 UPDATE 안의 하위 쿼리가 변경 전 상태에서 계산합니다.
+     *
+     * @return 옮겨진 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE DailyPlan d SET d.planDate = :to, d.displayOrder = d.displayOrder " +
+            "- (SELECT MIN(m.displayOrder) FROM DailyPlan m WHERE m.id IN :ids) " +
+            "+ (SELECT COALESCE(MAX(x.displayOrder), 0) FROM DailyPlan x WHERE x.planDate = :to) + 1, " +
+            "d.updatedAt = :updatedAt WHERE d.id IN :ids AND d.status NOT IN :finalized")
+    int rolloverUnfinished(@Param("ids") Collection<Long> ids,
+                           @Param("to") LocalDate to,
+                           @Param("finalized") Collection<PlanStatus> finalized,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 아카이브된 일간 계획을 ID로 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive WHERE id = :id", nativeQuery = true)
+    Optional<DailyPlan> findArchivedById(@Param("id") Long id);
+
+    /**
+     * 아카이브된 일간 계획의 저장된 설명을 ID와 함께 조회합니다.
+     * 아카이브 테이블은 엔티티로 매핑되지 않아 지연 로딩되는 설명을 이 쿼리로 따로 읽습니다.
+     */
+    @Query(value = "SELECT id, CAST(description AS VARBINARY) FROM daily_plans_archive WHERE id IN (:ids)", nativeQuery = true)
+    List<Object[]> findArchivedDescriptions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 아카이브된 모든 일간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive ORDER BY display_order", nativeQuery = true)
+    List<DailyPlan> findAllArchived();
+
+    /**
+     * 아카이브된 모든 일간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM daily_plans_archive ORDER BY display_order", nativeQuery = true)
+    Stream<DailyPlan> streamAllArchived();
+
+    /**
+     * 특정 날짜의 아카이브된 일간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive WHERE plan_date = :planDate ORDER BY display_order", nativeQuery = true)
+    List<DailyPlan> findArchivedByPlanDate(@Param("planDate") LocalDate planDate);
+
+    /**
+     * 날짜 범위 내의 아카이브된 일간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive WHERE plan_date BETWEEN :startDate AND :endDate ORDER BY display_order", nativeQuery = true)
+    List<DailyPlan> findArchivedByPlanDateBetween(@Param("startDate") LocalDate startDate,
+                                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 상태의 아카이브된 일간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive WHERE status = :status ORDER BY display_order", nativeQuery = true)
+    List<DailyPlan> findArchivedByStatus(@Param("status") String status);
+
+    /**
+     * 특정 우선순위의 아카이브된 일간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM daily_plans_archive WHERE priority = :priority ORDER BY display_order", nativeQuery = true)
+    List<DailyPlan> findArchivedByPriority(@Param("priority") String priority);
+
+    /**
+     * 기준일 이전 날짜의 완료/실패 일간 계획의 ID를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT d.id FROM DailyPlan d WHERE d.planDate < :cutoffDate AND d.status IN :finalized ORDER BY d.id")
+    List<Long> findArchivableIds(@Param("cutoffDate") LocalDate cutoffDate,
+                                 @Param("finalized") Collection<PlanStatus> finalized,
+                                 Pageable pageable);
+
+    /**
+     * 주어진 일간 계획을 아카이브 테이블로 복사합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO daily_plans_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS
+            + " FROM daily_plans WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 일간 계획을 한 번의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM DailyPlan d WHERE d.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.planner.my.repository;
+
+import com.planner.my.dto.FieldSelection;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Repository;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 선택한 필드만 SELECT 절에 넣어 계획을 조회합니다.
+ * 엔티티를 만들지 않으므로 선택하지 않은 컬럼은 읽지도 전송하지도 않습니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class FieldProjectionRepository {
+
+    private final EntityManager entityManager;
+
+    /**
+     * 조건에 맞는 계획의 선택한 필드를 표시 순서로 정렬하여 조회합니다.
+     *
+     * @param entityClass 조회할 계획 엔티티
+     * @param fields 조회할 필드 (엔티티 속성 이름)
+     * @param condition 조회 조건
+     * @return 필드 이름을 키로 하는 행 목록
+     */
+    public <E> List<Map<String, Object>> findFields(Class<E> entityClass, FieldSelection fields,
+                                                    Specification<E> condition) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(entityClass);
+        query.multiselect(fields.names().stream()
+                .<Selection<?>>map(name -> root.get(name).alias(name))
+                .toList());
+        Predicate predicate = condition.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(cb.asc(root.get("displayOrder")));
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(tuple -> toRow(tuple, fields))
+                .toList();
+    }
+
+    private static Map<String, Object> toRow(Tuple tuple, FieldSelection fields) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        for (String name : fields.names()) {
+            row.put(name, tuple.get(name));
+        }
+        return row;
+    }
+}
\ No newline at end of file
@@ -3,23 +3,63 @@ package com.planner.my.repository;
 import com.planner.my.entity.MonthlyPlan;
 import com.planner.my.entity.PlanStatus;
 import com.planner.my.entity.Priority;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 월간 계획 엔티티에 대한 데이터 액세스 레이어입니다.
  */
 @Repository
-public interface MonthlyPlanRepository extends JpaRepository<MonthlyPlan, Long> {
+public interface MonthlyPlanRepository extends JpaRepository<MonthlyPlan, Long>, JpaSpecificationExecutor<MonthlyPlan> {
+
+    /**
+     * 아카이브 테이블로 옮기는 컬럼입니다. 아카이브 테이블 생성과 복사가 같은 목록을 쓰므로 컬럼 순서에 의존하지 않습니다.
+     */
+    String ARCHIVE_COLUMNS = "id, status, display_order, created_at, updated_at, title, description, plan_year, plan_month, priority";
 
     /**
      * 모든 월간 계획을 표시 순서로 정렬하여 조회합니다.
      */
     List<MonthlyPlan> findAllByOrderByDisplayOrderAsc();
 
+    /**
+     * 모든 월간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 다 읽은 뒤 스트림을 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<MonthlyPlan> streamAllByOrderByDisplayOrderAsc();
+
+    /**
+     * 모든 월간 계획의 ID만 표시 순서대로 조회합니다.
+     */
+    @Query("SELECT m.id FROM MonthlyPlan m ORDER BY m.displayOrder")
+    List<Long> findAllIdsOrderByDisplayOrder();
+
+    /**
+     * 모든 월간 계획의 ID, 상태, 우선순위를 조회합니다. 필터 인덱스를 만들 때 사용합니다.
+     */
+    @Query("SELECT m.id AS id, m.status AS status, m.priority AS priority FROM MonthlyPlan m")
+    List<PlanFilterEntry> findFilterEntries();
+
     /**
      * 특정 연도와 월의 월간 계획을 표시 순서로 정렬하여 조회합니다.
      */
@@ -45,4 +85,129 @@ public interface MonthlyPlanRepository extends JpaRepository<MonthlyPlan, Long>
      */
     @Query("SELECT COALESCE(MAX(m.displayOrder), 0) FROM MonthlyPlan m")
     Integer findMaxDisplayOrder();
+
+    /**
+     * 주어진 ID 중 최종 상태가 아니어서 상태를 변경할 수 있는 계획의 ID와 현재 상태를 조회합니다.
+     * 일괄 변경이 끝날 때까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id AS planId, m.status AS status FROM MonthlyPlan m WHERE m.id IN :ids AND m.status NOT IN :finalized")
+    List<PlanStatusEntry> findUpdatableStatuses(@Param("ids") Collection<Long> ids,
+                                                @Param("finalized") Collection<PlanStatus> finalized);
+
+    /**
+     * 최종 상태가 아닌 계획들의 상태를 한 번의 UPDATE 문으로 변경합니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MonthlyPlan m SET m.status = :status, m.updatedAt = :updatedAt " +
+            "WHERE m.id IN :ids AND m.status NOT IN :finalized")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") PlanStatus status,
+                          @Param("finalized") Collection<PlanStatus> finalized,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 해당 월이 지났지만 아직 최종 상태가 아닌 월간 계획의 ID를 ID 순으로 조회합니다.
+     * 청크를 처리하는 동안 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m.id FROM MonthlyPlan m WHERE (m.year < :year OR (m.year = :year AND m.month < :month)) " +
+            "AND m.status NOT IN :finalized ORDER BY m.id")
+    List<Long> findOverdueIds(@Param("year") Integer year,
+                              @Param("month") Integer month,
+                              @Param("finalized") Collection<PlanStatus> finalized,
+                              Pageable pageable);
+
+    /**
+     * 최종 상태가 아닌 월간 계획들을 한 번의 UPDATE 문으로 다른 달로 옮깁니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE MonthlyPlan m SET m.year = :year, m.month = :month, m.updatedAt = :updatedAt " +
+            "WHERE m.id IN :ids AND m.status NOT IN :finalized")
+    int rolloverByIds(@Param("ids") Collection<Long> ids,
+                      @Param("year") Integer year,
+                      @Param("month") Integer month,
+                      @Param("finalized") Collection<PlanStatus> finalized,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 아카이브된 월간 계획을 ID로 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive WHERE id = :id", nativeQuery = true)
+    Optional<MonthlyPlan> findArchivedById(@Param("id") Long id);
+
+    /**
+     * 아카이브된 월간 계획의 저장된 설명을 ID와 함께 조회합니다.
+     * 아카이브 테이블은 엔티티로 매핑되지 않아 지연 로딩되는 설명을 이 쿼리로 따로 읽습니다.
+     */
+    @Query(value = "SELECT id, CAST(description AS VARBINARY) FROM monthly_plans_archive WHERE id IN (:ids)", nativeQuery = true)
+    List<Object[]> findArchivedDescriptions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 아카이브된 모든 월간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive ORDER BY display_order", nativeQuery = true)
+    List<MonthlyPlan> findAllArchived();
+
+    /**
+     * 아카이브된 모든 월간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM monthly_plans_archive ORDER BY display_order", nativeQuery = true)
+    Stream<MonthlyPlan> streamAllArchived();
+
+    /**
+     * 특정 연도와 월의 아카이브된 월간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive WHERE plan_year = :year AND plan_month = :month ORDER BY display_order", nativeQuery = true)
+    List<MonthlyPlan> findArchivedByYearAndMonth(@Param("year") Integer year,
+                                                 @Param("month") Integer month);
+
+    /**
+     * 특정 연도의 아카이브된 월간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive WHERE plan_year = :year ORDER BY display_order", nativeQuery = true)
+    List<MonthlyPlan> findArchivedByYear(@Param("year") Integer year);
+
+    /**
+     * 특정 상태의 아카이브된 월간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive WHERE status = :status ORDER BY display_order", nativeQuery = true)
+    List<MonthlyPlan> findArchivedByStatus(@Param("status") String status);
+
+    /**
+     * 특정 우선순위의 아카이브된 월간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM monthly_plans_archive WHERE priority = :priority ORDER BY display_order", nativeQuery = true)
+    List<MonthlyPlan> findArchivedByPriority(@Param("priority") String priority);
+
+    /**
+     * 기준 연도 이전의 완료/실패 월간 계획의 ID를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT m.id FROM MonthlyPlan m WHERE m.year < :cutoffYear AND m.status IN :finalized ORDER BY m.id")
+    List<Long> findArchivableIds(@Param("cutoffYear") Integer cutoffYear,
+                                 @Param("finalized") Collection<PlanStatus> finalized,
+                                 Pageable pageable);
+
+    /**
+     * 주어진 월간 계획을 아카이브 테이블로 복사합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO monthly_plans_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS
+            + " FROM monthly_plans WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 월간 계획을 한 번의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM MonthlyPlan m WHERE m.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.planner.my.repository;
+
+import java.time.LocalDate;
+
+/**
+ * 수정되어 저장된 반복 일정을 식별하는 프로젝션입니다.
+ */
+public interface OccurrenceKey {
+
+    Long getRecurringPlanId();
+
+    LocalDate getOccurrenceDate();
+}
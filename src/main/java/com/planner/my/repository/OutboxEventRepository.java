@@ -0,0 +1,21 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.OutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 아웃박스 이벤트에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * 가장 오래된 이벤트부터 페이지 크기만큼 조회합니다.
+     * 전달된 이벤트는 삭제되므로 릴레이는 항상 첫 페이지만 조회합니다.
+     */
+    List<OutboxEvent> findByOrderByIdAsc(Pageable pageable);
+}
\ No newline at end of file
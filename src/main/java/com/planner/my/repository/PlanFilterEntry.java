@@ -0,0 +1,16 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+
+/**
+ * 필터 인덱스를 만들 때 읽는 계획 ID, 상태, 우선순위 프로젝션입니다.
+ */
+public interface PlanFilterEntry {
+
+    Long getId();
+
+    PlanStatus getStatus();
+
+    Priority getPriority();
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계획 복합 조건 조회에 쓰는 조건과 페이지 요청을 만듭니다.
+ * <p>
+ * 조건은 넘긴 순서대로 AND로 연결하므로, 인덱스가 있는 기간 조건을 먼저 넘기고
+ * 인덱스가 없는 상태와 우선순위 조건을 뒤에 넘깁니다. 값이 없는 조건은 WHERE 절에서 빠집니다.
+ */
+public final class PlanSpecifications {
+
+    /**
+     * 한 페이지의 최대 크기입니다.
+     */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private PlanSpecifications() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 조건을 넘긴 순서대로 AND로 연결합니다. 조건이 하나도 없으면 전체를 조회합니다.
+     */
+    @SafeVarargs
+    public static <E> Specification<E> allOf(Specification<E>... conditions) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            for (Specification<E> condition : conditions) {
+                Predicate predicate = condition.toPredicate(root, query, cb);
+                if (predicate != null) {
+                    predicates.add(predicate);
+                }
+            }
+            return predicates.isEmpty() ? null : cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * 속성 값이 범위 안에 있는 조건입니다. 비어 있는 경계는 조건에서 뺍니다.
+     *
+     * @param attribute 엔티티 속성 이름
+     * @param from 하한 (포함, null이면 하한 없음)
+     * @param to 상한 (포함, null이면 상한 없음)
+     */
+    public static <E, T extends Comparable<? super T>> Specification<E> between(String attribute, T from, T to) {
+        return (root, query, cb) -> {
+            if (from != null && to != null) {
+                return cb.between(root.<T>get(attribute), from, to);
+            }
+            if (from != null) {
+                return cb.greaterThanOrEqualTo(root.<T>get(attribute), from);
+            }
+            return to != null ? cb.lessThanOrEqualTo(root.<T>get(attribute), to) : null;
+        };
+    }
+
+    /**
+     * 연도 속성이 두 날짜가 속한 연도 사이에 있는 조건입니다.
+     *
+     * @param from 이 날짜가 속한 연도부터 (null이면 하한 없음)
+     * @param to 이 날짜가 속한 연도까지 (null이면 상한 없음)
+     */
+    public static <E> Specification<E> yearBetween(LocalDate from, LocalDate to) {
+        return between("year", from != null ? from.getYear() : null, to != null ? to.getYear() : null);
+    }
+
+    /**
+     * 연도와 월 속성으로 나뉜 기간이 두 날짜가 속한 달 사이에 있는 조건입니다.
+     * 연도 범위를 먼저 걸어 (연도, 월) 복합 인덱스의 앞 컬럼으로 범위를 좁힌 뒤, 경계 연도의 월을 거릅니다.
+     *
+     * @param from 이 날짜가 속한 달부터 (null이면 하한 없음)
+     * @param to 이 날짜가 속한 달까지 (null이면 상한 없음)
+     */
+    public static <E> Specification<E> yearMonthBetween(LocalDate from, LocalDate to) {
+        Specification<E> years = yearBetween(from, to);
+        Specification<E> fromMonth = (root, query, cb) -> from == null ? null
+                : cb.or(cb.greaterThan(root.<Integer>get("year"), from.getYear()),
+                        cb.greaterThanOrEqualTo(root.<Integer>get("month"), from.getMonthValue()));
+        Specification<E> toMonth = (root, query, cb) -> to == null ? null
+                : cb.or(cb.lessThan(root.<Integer>get("year"), to.getYear()),
+                        cb.lessThanOrEqualTo(root.<Integer>get("month"), to.getMonthValue()));
+        return allOf(years, fromMonth, toMonth);
+    }
+
+    /**
+     * 상태가 주어진 값 중 하나인 조건입니다. 값이 없으면 조건에서 뺍니다.
+     */
+    public static <E> Specification<E> statusIn(Collection<PlanStatus> statuses) {
+        return (root, query, cb) -> statuses == null || statuses.isEmpty() ? null : root.get("status").in(statuses);
+    }
+
+    /**
+     * 우선순위가 주어진 값 중 하나인 조건입니다. 값이 없으면 조건에서 뺍니다.
+     */
+    public static <E> Specification<E> priorityIn(Collection<Priority> priorities) {
+        return (root, query, cb) -> priorities == null || priorities.isEmpty() ? null
+                : root.get("priority").in(priorities);
+    }
+
+    /**
+     * 표시 순서와 ID로 정렬한 페이지 요청을 만듭니다.
+     * 페이지 번호가 음수면 첫 페이지로, 크기는 1~{@value #MAX_PAGE_SIZE} 범위로 맞춥니다.
+     */
+    public static Pageable pageOf(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.clamp(size, 1, MAX_PAGE_SIZE),
+                Sort.by("displayOrder", "id"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,13 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanStatus;
+
+/**
+ * 계획 ID와 상태만 담은 프로젝션입니다. 상태 이력, 스냅샷, 상태 일괄 변경 대상 조회에 씁니다.
+ */
+public interface PlanStatusEntry {
+
+    Long getPlanId();
+
+    PlanStatus getStatus();
+}
\ No newline at end of file
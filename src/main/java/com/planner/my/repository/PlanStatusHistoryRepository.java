@@ -0,0 +1,40 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanStatusHistory;
+import com.planner.my.entity.PlanType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계획 상태 변경 이력에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface PlanStatusHistoryRepository extends JpaRepository<PlanStatusHistory, Long> {
+
+    /**
+     * 계획 하나의 상태 변경 이력을 오래된 순서로 조회합니다.
+     */
+    List<PlanStatusHistory> findByPlanTypeAndPlanIdOrderByChangedAtAscIdAsc(PlanType planType, Long planId);
+
+    /**
+     * 기준 시점까지의 모든 상태 변경을 적용할 순서대로 조회합니다.
+     */
+    @Query("SELECT h.planId AS planId, h.status AS status FROM PlanStatusHistory h " +
+            "WHERE h.planType = :planType AND h.changedAt <= :to ORDER BY h.changedAt, h.id")
+    List<PlanStatusEntry> findChangesUntil(@Param("planType") PlanType planType,
+                                           @Param("to") LocalDateTime to);
+
+    /**
+     * 스냅샷 시점 이후부터 기준 시점까지의 상태 변경을 적용할 순서대로 조회합니다.
+     */
+    @Query("SELECT h.planId AS planId, h.status AS status FROM PlanStatusHistory h " +
+            "WHERE h.planType = :planType AND h.changedAt > :from AND h.changedAt <= :to ORDER BY h.changedAt, h.id")
+    List<PlanStatusEntry> findChangesBetween(@Param("planType") PlanType planType,
+                                             @Param("from") LocalDateTime from,
+                                             @Param("to") LocalDateTime to);
+}
\ No newline at end of file
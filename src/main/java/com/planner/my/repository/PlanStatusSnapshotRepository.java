@@ -0,0 +1,54 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanStatusSnapshot;
+import com.planner.my.entity.PlanType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 계획 상태 스냅샷에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface PlanStatusSnapshotRepository extends JpaRepository<PlanStatusSnapshot, Long> {
+
+    /**
+     * 기준 시점 이전의 가장 최근 스냅샷 시점을 조회합니다.
+     *
+     * @return 스냅샷 시점 (없으면 null)
+     */
+    @Query("SELECT MAX(s.snapshotAt) FROM PlanStatusSnapshot s WHERE s.planType = :planType AND s.snapshotAt <= :asOf")
+    LocalDateTime findLatestSnapshotAt(@Param("planType") PlanType planType,
+                                       @Param("asOf") LocalDateTime asOf);
+
+    /**
+     * 스냅샷에 담긴 계획별 상태를 조회합니다.
+     */
+    @Query("SELECT s.planId AS planId, s.status AS status FROM PlanStatusSnapshot s " +
+            "WHERE s.planType = :planType AND s.snapshotAt = :snapshotAt")
+    List<PlanStatusEntry> findStatuses(@Param("planType") PlanType planType,
+                                       @Param("snapshotAt") LocalDateTime snapshotAt);
+
+    boolean existsByPlanTypeAndSnapshotAt(PlanType planType, LocalDateTime snapshotAt);
+
+    /**
+     * 스냅샷 시점을 최근 순서로 조회합니다.
+     */
+    @Query("SELECT DISTINCT s.snapshotAt FROM PlanStatusSnapshot s WHERE s.planType = :planType ORDER BY s.snapshotAt DESC")
+    List<LocalDateTime> findSnapshotTimes(@Param("planType") PlanType planType, Pageable pageable);
+
+    /**
+     * 기준 시점보다 오래된 스냅샷을 한 번의 DELETE 문으로 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM PlanStatusSnapshot s WHERE s.planType = :planType AND s.snapshotAt < :before")
+    int deleteOlderThan(@Param("planType") PlanType planType, @Param("before") LocalDateTime before);
+}
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.planner.my.repository;
+
+/**
+ * 계획 ID와 태그만 담은 프로젝션입니다.
+ */
+public interface PlanTagEntry {
+
+    Long getPlanId();
+
+    String getTag();
+}
\ No newline at end of file
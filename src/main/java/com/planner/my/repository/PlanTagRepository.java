@@ -0,0 +1,37 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.PlanTag;
+import com.planner.my.entity.PlanType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 계획 태그에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface PlanTagRepository extends JpaRepository<PlanTag, Long> {
+
+    /**
+     * 계획 하나의 태그를 이름순으로 조회합니다.
+     */
+    @Query("SELECT t.tag FROM PlanTag t WHERE t.planType = :planType AND t.planId = :planId ORDER BY t.tag")
+    List<String> findTags(@Param("planType") PlanType planType, @Param("planId") Long planId);
+
+    /**
+     * 한 계획 유형의 모든 태그를 조회합니다. 필터 인덱스를 만들 때 사용합니다.
+     */
+    @Query("SELECT t.planId AS planId, t.tag AS tag FROM PlanTag t WHERE t.planType = :planType")
+    List<PlanTagEntry> findEntries(@Param("planType") PlanType planType);
+
+    /**
+     * 계획 하나의 태그를 한 번의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying
+    @Query("DELETE FROM PlanTag t WHERE t.planType = :planType AND t.planId = :planId")
+    int deleteByPlan(@Param("planType") PlanType planType, @Param("planId") Long planId);
+}
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.planner.my.repository;
+
+import com.planner.my.entity.RecurringPlan;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * 반복 계획 엔티티에 대한 데이터 액세스 레이어입니다.
+ */
+@Repository
+public interface RecurringPlanRepository extends JpaRepository<RecurringPlan, Long> {
+
+    /**
+     * 모든 반복 계획을 삭제된 반복 날짜와 함께 표시 순서로 정렬하여 조회합니다.
+     */
+    @EntityGraph(attributePaths = "excludedDates")
+    List<RecurringPlan> findAllByOrderByDisplayOrderAsc();
+
+    /**
+     * 반복 기간이 조회 기간과 겹치는 반복 계획을 삭제된 반복 날짜와 함께 한 번에 조회합니다.
+     */
+    @EntityGraph(attributePaths = "excludedDates")
+    @Query("SELECT r FROM RecurringPlan r WHERE r.startDate <= :endDate " +
+            "AND (r.endDate IS NULL OR r.endDate >= :startDate) ORDER BY r.displayOrder")
+    List<RecurringPlan> findActiveBetween(@Param("startDate") LocalDate startDate,
+                                          @Param("endDate") LocalDate endDate);
+}
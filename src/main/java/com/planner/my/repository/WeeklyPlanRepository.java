@@ -3,24 +3,64 @@ package com.planner.my.repository;
 import com.planner.my.entity.PlanStatus;
 import com.planner.my.entity.Priority;
 import com.planner.my.entity.WeeklyPlan;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 주간 계획 엔티티에 대한 데이터 액세스 레이어입니다.
  */
 @Repository
-public interface WeeklyPlanRepository extends JpaRepository<WeeklyPlan, Long> {
+public interface WeeklyPlanRepository extends JpaRepository<WeeklyPlan, Long>, JpaSpecificationExecutor<WeeklyPlan> {
+
+    /**
+     * 아카이브 테이블로 옮기는 컬럼입니다. 아카이브 테이블 생성과 복사가 같은 목록을 쓰므로 컬럼 순서에 의존하지 않습니다.
+     */
+    String ARCHIVE_COLUMNS = "id, status, display_order, created_at, updated_at, title, description, week_start_date, week_end_date, priority";
 
     /**
      * 모든 주간 계획을 표시 순서로 정렬하여 조회합니다.
      */
     List<WeeklyPlan> findAllByOrderByDisplayOrderAsc();
 
+    /**
+     * 모든 주간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     * 읽기 전용 트랜잭션 안에서 사용하고, 다 읽은 뒤 스트림을 닫아야 합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<WeeklyPlan> streamAllByOrderByDisplayOrderAsc();
+
+    /**
+     * 모든 주간 계획의 ID만 표시 순서대로 조회합니다.
+     */
+    @Query("SELECT w.id FROM WeeklyPlan w ORDER BY w.displayOrder")
+    List<Long> findAllIdsOrderByDisplayOrder();
+
+    /**
+     * 모든 주간 계획의 ID, 상태, 우선순위를 조회합니다. 필터 인덱스를 만들 때 사용합니다.
+     */
+    @Query("SELECT w.id AS id, w.status AS status, w.priority AS priority FROM WeeklyPlan w")
+    List<PlanFilterEntry> findFilterEntries();
+
     /**
      * 특정 주 시작일의 주간 계획을 표시 순서로 정렬하여 조회합니다.
      */
@@ -46,4 +86,155 @@ public interface WeeklyPlanRepository extends JpaRepository<WeeklyPlan, Long> {
      */
     @Query("SELECT COALESCE(MAX(w.displayOrder), 0) FROM WeeklyPlan w")
     Integer findMaxDisplayOrder();
+
+    /**
+     * 주어진 ID 중 최종 상태가 아니어서 상태를 변경할 수 있는 계획의 ID와 현재 상태를 조회합니다.
+     * 일괄 변경이 끝날 때까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.id AS planId, w.status AS status FROM WeeklyPlan w WHERE w.id IN :ids AND w.status NOT IN :finalized")
+    List<PlanStatusEntry> findUpdatableStatuses(@Param("ids") Collection<Long> ids,
+                                                @Param("finalized") Collection<PlanStatus> finalized);
+
+    /**
+     * 최종 상태가 아닌 계획들의 상태를 한 번의 UPDATE 문으로 변경합니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WeeklyPlan w SET w.status = :status, w.updatedAt = :updatedAt " +
+            "WHERE w.id IN :ids AND w.status NOT IN :finalized")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") PlanStatus status,
+                          @Param("finalized") Collection<PlanStatus> finalized,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 주 종료일이 지났지만 아직 최종 상태가 아닌 주간 계획의 ID를 ID 순으로 조회합니다.
+     * 청크를 처리하는 동안 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.id FROM WeeklyPlan w WHERE w.weekEndDate < :today AND w.status NOT IN :finalized ORDER BY w.id")
+    List<Long> findOverdueIds(@Param("today") LocalDate today,
+                              @Param("finalized") Collection<PlanStatus> finalized,
+                              Pageable pageable);
+
+    /**
+     * 최종 상태가 아닌 주간 계획들을 한 번의 UPDATE 문으로 다른 주로 옮깁니다.
+     *
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WeeklyPlan w SET w.weekStartDate = :weekStartDate, w.weekEndDate = :weekEndDate, " +
+            "w.updatedAt = :updatedAt WHERE w.id IN :ids AND w.status NOT IN :finalized")
+    int rolloverByIds(@Param("ids") Collection<Long> ids,
+                      @Param("weekStartDate") LocalDate weekStartDate,
+                      @Param("weekEndDate") LocalDate weekEndDate,
+                      @Param("finalized") Collection<PlanStatus> finalized,
+                      @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 특정 주의 최종 상태가 아닌 주간 계획의 ID를 조회합니다.
+     * 이월이 끝날 때까지 다른 트랜잭션이 상태를 바꾸지 못하도록 행을 잠급니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w.id FROM WeeklyPlan w WHERE w.weekStartDate = :from AND w.status NOT IN :finalized")
+    List<Long> findUnfinishedIds(@Param("from") LocalDate from,
+                                 @Param("finalized") Collection<PlanStatus> finalized);
+
+    /**
+     * 최종 상태가 아닌 주간 계획을 한 번의 UPDATE 문으로 다른 주로 옮깁니다.
+     * 옮겨진 계획의 표시 순서는 기존 상대 순서를 유지한 채 옮길 주의 최대 표시 순서 뒤로 보내며,
+     * 두 기준값은 UPDATE 안의 하위 쿼리가 변경 전 상태에서 계산합니다.
+     *
+     * @return 옮겨진 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE WeeklyPlan w SET w.weekStartDate = :to, w.weekEndDate = :toEnd, " +
+            "w.displayOrder = w.displayOrder " +
+            "- (SELECT MIN(m.displayOrder) FROM WeeklyPlan m WHERE m.id IN :ids) " +
+            "+ (SELECT COALESCE(MAX(x.displayOrder), 0) FROM WeeklyPlan x WHERE x.weekStartDate = :to) + 1, " +
+            "w.updatedAt = :updatedAt WHERE w.id IN :ids AND w.status NOT IN :finalized")
+    int rolloverUnfinished(@Param("ids") Collection<Long> ids,
+                           @Param("to") LocalDate to,
+                           @Param("toEnd") LocalDate toEnd,
+                           @Param("finalized") Collection<PlanStatus> finalized,
+                           @Param("updatedAt") LocalDateTime updatedAt);
+
+    /**
+     * 아카이브된 주간 계획을 ID로 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive WHERE id = :id", nativeQuery = true)
+    Optional<WeeklyPlan> findArchivedById(@Param("id") Long id);
+
+    /**
+     * 아카이브된 주간 계획의 저장된 설명을 ID와 함께 조회합니다.
+     * 아카이브 테이블은 엔티티로 매핑되지 않아 지연 로딩되는 설명을 이 쿼리로 따로 읽습니다.
+     */
+    @Query(value = "SELECT id, CAST(description AS VARBINARY) FROM weekly_plans_archive WHERE id IN (:ids)", nativeQuery = true)
+    List<Object[]> findArchivedDescriptions(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 아카이브된 모든 주간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive ORDER BY display_order", nativeQuery = true)
+    List<WeeklyPlan> findAllArchived();
+
+    /**
+     * 아카이브된 모든 주간 계획을 표시 순서로 정렬하여 커서로 조회합니다.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(value = "SELECT * FROM weekly_plans_archive ORDER BY display_order", nativeQuery = true)
+    Stream<WeeklyPlan> streamAllArchived();
+
+    /**
+     * 특정 주 시작일의 아카이브된 주간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive WHERE week_start_date = :weekStartDate ORDER BY display_order", nativeQuery = true)
+    List<WeeklyPlan> findArchivedByWeekStartDate(@Param("weekStartDate") LocalDate weekStartDate);
+
+    /**
+     * 날짜 범위 내의 아카이브된 주간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive WHERE week_start_date BETWEEN :startDate AND :endDate ORDER BY display_order", nativeQuery = true)
+    List<WeeklyPlan> findArchivedByWeekStartDateBetween(@Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
+    /**
+     * 특정 상태의 아카이브된 주간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive WHERE status = :status ORDER BY display_order", nativeQuery = true)
+    List<WeeklyPlan> findArchivedByStatus(@Param("status") String status);
+
+    /**
+     * 특정 우선순위의 아카이브된 주간 계획을 표시 순서로 정렬하여 조회합니다.
+     */
+    @Query(value = "SELECT * FROM weekly_plans_archive WHERE priority = :priority ORDER BY display_order", nativeQuery = true)
+    List<WeeklyPlan> findArchivedByPriority(@Param("priority") String priority);
+
+    /**
+     * 기준일 이전에 끝난 완료/실패 주간 계획의 ID를 ID 순으로 조회합니다.
+     */
+    @Query("SELECT w.id FROM WeeklyPlan w WHERE w.weekEndDate < :cutoffDate AND w.status IN :finalized ORDER BY w.id")
+    List<Long> findArchivableIds(@Param("cutoffDate") LocalDate cutoffDate,
+                                 @Param("finalized") Collection<PlanStatus> finalized,
+                                 Pageable pageable);
+
+    /**
+     * 주어진 주간 계획을 아카이브 테이블로 복사합니다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO weekly_plans_archive (" + ARCHIVE_COLUMNS + ") SELECT " + ARCHIVE_COLUMNS
+            + " FROM weekly_plans WHERE id IN (:ids)", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 주간 계획을 한 번의 DELETE 문으로 삭제합니다.
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("DELETE FROM WeeklyPlan w WHERE w.id IN :ids")
+    int deleteByIds(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
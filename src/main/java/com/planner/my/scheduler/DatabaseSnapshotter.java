@@ -0,0 +1,94 @@
+package com.planner.my.scheduler;
+
+import com.planner.my.config.DatabaseSnapshotProperties;
+import com.planner.my.snapshot.DatabaseSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * 인메모리 데이터베이스의 스냅샷을 주기적으로, 그리고 종료할 때 한 번 더 파일로 저장하는 스케줄러입니다.
+ * <p>
+ * 임시 파일에 압축해 쓰고 디스크에 동기화한 뒤 기존 파일을 원자적으로 바꾸므로, 저장 중에 종료되어도 이전 스냅샷이 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "planner.db-snapshot", name = "enabled", havingValue = "true")
+public class DatabaseSnapshotter {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final DatabaseSnapshotProperties properties;
+    private final DataSource dataSource;
+
+    /**
+     * 설정된 간격마다 스냅샷을 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${planner.db-snapshot.interval:300000}",
+            initialDelayString = "${planner.db-snapshot.interval:300000}")
+    public void snapshot() {
+        try {
+            save();
+        } catch (SQLException | IOException e) {
+            log.warn("Database snapshot failed; the previous snapshot is kept", e);
+        }
+    }
+
+    /**
+     * 종료할 때 마지막 상태를 저장합니다. 데이터소스보다 먼저 정리되고, H2 종료 훅은
+     * {@code DB_CLOSE_ON_EXIT=FALSE}로 꺼져 있으므로 아직 데이터베이스를 읽을 수 있습니다.
+     */
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private synchronized void save() throws SQLException, IOException {
+        Path file = Path.of(properties.getFile()).toAbsolutePath();
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        long startedAt = System.nanoTime();
+        DatabaseSnapshot.Stats stats;
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (Connection connection = dataSource.getConnection();
+             FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                     StandardOpenOption.TRUNCATE_EXISTING)) {
+            connection.setAutoCommit(false);
+            try {
+                DeflaterOutputStream deflated = new DeflaterOutputStream(Channels.newOutputStream(channel), deflater,
+                        BUFFER_SIZE);
+                DataOutputStream out = new DataOutputStream(new BufferedOutputStream(deflated, BUFFER_SIZE));
+                stats = DatabaseSnapshot.write(connection, out);
+                out.flush();
+                deflated.finish();
+                channel.force(false);
+            } finally {
+                connection.rollback();
+            }
+        } finally {
+            deflater.end();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Saved database snapshot to {}: tables={}, rows={}, bytes={} in {} ms", file, stats.tables(),
+                stats.rows(), Files.size(file), (System.nanoTime() - startedAt) / 1_000_000);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.planner.my.scheduler;
+
+import com.planner.my.config.OutboxProperties;
+import com.planner.my.entity.OutboxEvent;
+import com.planner.my.outbox.OutboxSink;
+import com.planner.my.outbox.PlanChangeEvent;
+import com.planner.my.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 테이블의 이벤트를 배치 단위로 싱크에 전달하는 릴레이입니다.
+ * <p>
+ * 배치마다 하나의 트랜잭션에서 가장 오래된 이벤트를 ID 순서대로 읽어 싱크에 넘기고, 싱크가 정상적으로 반환하면 삭제합니다.
+ * 싱크가 실패하면 트랜잭션이 롤백되어 다음 실행에서 같은 이벤트부터 다시 보내므로 이벤트는 최소 한 번 전달됩니다.
+ * 배치가 가득 차 있는 동안에는 쉬지 않고 다음 배치를 처리하므로, 지연은 실행 간격과 밀린 배치 처리 시간으로 제한됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "planner.outbox", name = "relay-enabled", havingValue = "true")
+public class OutboxRelay {
+
+    private final OutboxProperties properties;
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxSink sink;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter relayedEvents;
+    private final Timer relayLag;
+
+    public OutboxRelay(OutboxProperties properties, OutboxEventRepository outboxEventRepository, OutboxSink sink,
+                       TransactionTemplate transactionTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.outboxEventRepository = outboxEventRepository;
+        this.sink = sink;
+        this.transactionTemplate = transactionTemplate;
+        this.relayedEvents = Counter.builder("planner.outbox.relayed")
+                .description("Plan change events delivered to the outbox sink")
+                .register(meterRegistry);
+        this.relayLag = Timer.builder("planner.outbox.lag")
+                .description("Time from a plan change to its delivery to the outbox sink")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 아웃박스에 쌓인 이벤트를 전달합니다.
+     */
+    @Scheduled(fixedDelayString = "${planner.outbox.poll-interval:100}")
+    public void relay() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int relayed;
+            try {
+                relayed = transactionTemplate.execute(status -> relayBatch(firstBatch));
+            } catch (RuntimeException e) {
+                log.warn("Outbox relay failed; undelivered events will be retried", e);
+                return;
+            }
+            if (relayed < batchSize) {
+                return;
+            }
+        }
+    }
+
+    private int relayBatch(Pageable batch) {
+        List<OutboxEvent> events = outboxEventRepository.findByOrderByIdAsc(batch);
+        if (events.isEmpty()) {
+            return 0;
+        }
+        try {
+            sink.publish(events.stream().map(PlanChangeEvent::from).toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Outbox sink failed", e);
+        }
+        outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+        relayedEvents.increment(events.size());
+        relayLag.record(Duration.between(events.getFirst().getOccurredAt(), LocalDateTime.now()));
+        return events.size();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,205 @@
+package com.planner.my.scheduler;
+
+import com.planner.my.config.OverdueSweeperProperties;
+import com.planner.my.entity.PlanEventType;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
+import com.planner.my.index.PlanFilterIndex;
+import com.planner.my.metrics.BatchJobMetrics;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.MonthlyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.repository.YearlyPlanRepository;
+import com.planner.my.service.OutboxService;
+import com.planner.my.service.StatusHistoryService;
+import com.planner.my.util.PlanStatusValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.TemporalAdjusters;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 기한이 지났지만 아직 시작 전 또는 진행 중인 계획을 주기적으로 정리하는 스케줄러입니다.
+ * 계획 엔티티를 읽지 않고, 기한 조건으로 ID만 청크 단위로 조회한 뒤 청크마다 별도의 트랜잭션에서
+ * 한 번의 UPDATE 문으로 실패 처리하거나 현재 기간으로 이월합니다. 변경 이벤트는 같은 트랜잭션에서 아웃박스에 기록합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "planner.overdue-sweeper", name = "enabled", havingValue = "true")
+public class OverduePlanSweeper {
+
+    private final OverdueSweeperProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyPlanRepository dailyPlanRepository;
+    private final WeeklyPlanRepository weeklyPlanRepository;
+    private final MonthlyPlanRepository monthlyPlanRepository;
+    private final YearlyPlanRepository yearlyPlanRepository;
+    private final StatusHistoryService statusHistoryService;
+    private final OutboxService outboxService;
+    private final PlanFilterIndex planFilterIndex;
+    private final BatchJobMetrics metrics;
+
+    public OverduePlanSweeper(OverdueSweeperProperties properties, TransactionTemplate transactionTemplate,
+                              DailyPlanRepository dailyPlanRepository, WeeklyPlanRepository weeklyPlanRepository,
+                              MonthlyPlanRepository monthlyPlanRepository, YearlyPlanRepository yearlyPlanRepository,
+                              StatusHistoryService statusHistoryService, OutboxService outboxService,
+                              PlanFilterIndex planFilterIndex, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.transactionTemplate = transactionTemplate;
+        this.dailyPlanRepository = dailyPlanRepository;
+        this.weeklyPlanRepository = weeklyPlanRepository;
+        this.monthlyPlanRepository = monthlyPlanRepository;
+        this.yearlyPlanRepository = yearlyPlanRepository;
+        this.statusHistoryService = statusHistoryService;
+        this.outboxService = outboxService;
+        this.planFilterIndex = planFilterIndex;
+        this.metrics = new BatchJobMetrics(meterRegistry, "sweeper", "overdue plan sweeper");
+    }
+
+    /**
+     * 모든 계획 유형에 대해 기한이 지난 계획을 정리합니다.
+     */
+    @Scheduled(cron = "${planner.overdue-sweeper.cron:0 5 0 * * *}")
+    public void sweep() {
+        Instant startedAt = Instant.now();
+        LocalDate today = LocalDate.now();
+        OverdueSweeperProperties.Mode mode = properties.getMode();
+
+        int daily = sweepDaily(today, mode);
+        int weekly = sweepWeekly(today, mode);
+        int monthly = sweepMonthly(today, mode);
+        int yearly = sweepYearly(today, mode);
+
+        Duration duration = metrics.recordRun(startedAt);
+        log.info("Overdue sweep finished (mode={}): daily={}, weekly={}, monthly={}, yearly={} in {} ms",
+                mode, daily, weekly, monthly, yearly, duration.toMillis());
+    }
+
+    private int sweepDaily(LocalDate today, OverdueSweeperProperties.Mode mode) {
+        return sweepInChunks(PlanType.DAILY,
+                chunk -> dailyPlanRepository.findOverdueIds(today, PlanStatusValidator.FINALIZED_STATUSES, chunk),
+                ids -> mode == OverdueSweeperProperties.Mode.ROLLOVER
+                        ? recordRolledOver(PlanType.DAILY, ids, Map.of("planDate", today),
+                                dailyPlanRepository.rolloverByIds(ids, today,
+                                        PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now()))
+                        : recordFailed(PlanType.DAILY, ids, dailyPlanRepository.updateStatusByIds(ids, PlanStatus.FAILED,
+                                PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now())));
+    }
+
+    private int sweepWeekly(LocalDate today, OverdueSweeperProperties.Mode mode) {
+        LocalDate weekStart = today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        return sweepInChunks(PlanType.WEEKLY,
+                chunk -> weeklyPlanRepository.findOverdueIds(today, PlanStatusValidator.FINALIZED_STATUSES, chunk),
+                ids -> mode == OverdueSweeperProperties.Mode.ROLLOVER
+                        ? recordRolledOver(PlanType.WEEKLY, ids,
+                                Map.of("weekStartDate", weekStart, "weekEndDate", weekStart.plusDays(6)),
+                                weeklyPlanRepository.rolloverByIds(ids, weekStart, weekStart.plusDays(6),
+                                        PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now()))
+                        : recordFailed(PlanType.WEEKLY, ids, weeklyPlanRepository.updateStatusByIds(ids, PlanStatus.FAILED,
+                                PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now())));
+    }
+
+    private int sweepMonthly(LocalDate today, OverdueSweeperProperties.Mode mode) {
+        int year = today.getYear();
+        int month = today.getMonthValue();
+        return sweepInChunks(PlanType.MONTHLY,
+                chunk -> monthlyPlanRepository.findOverdueIds(year, month,
+                        PlanStatusValidator.FINALIZED_STATUSES, chunk),
+                ids -> mode == OverdueSweeperProperties.Mode.ROLLOVER
+                        ? recordRolledOver(PlanType.MONTHLY, ids, Map.of("year", year, "month", month),
+                                monthlyPlanRepository.rolloverByIds(ids, year, month,
+                                        PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now()))
+                        : recordFailed(PlanType.MONTHLY, ids, monthlyPlanRepository.updateStatusByIds(ids, PlanStatus.FAILED,
+                                PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now())));
+    }
+
+    private int sweepYearly(LocalDate today, OverdueSweeperProperties.Mode mode) {
+        int year = today.getYear();
+        return sweepInChunks(PlanType.YEARLY,
+                chunk -> yearlyPlanRepository.findOverdueIds(year, PlanStatusValidator.FINALIZED_STATUSES, chunk),
+                ids -> mode == OverdueSweeperProperties.Mode.ROLLOVER
+                        ? recordRolledOver(PlanType.YEARLY, ids, Map.of("year", year),
+                                yearlyPlanRepository.rolloverByIds(ids, year,
+                                        PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now()))
+                        : recordFailed(PlanType.YEARLY, ids, yearlyPlanRepository.updateStatusByIds(ids, PlanStatus.FAILED,
+                                PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now())));
+    }
+
+    /**
+     * 청크 크기만큼 ID를 조회하고 갱신하는 작업을 더 이상 대상이 없을 때까지 반복합니다.
+     * 갱신된 행은 기한 조건에서 빠지므로 매번 첫 페이지만 조회하면 됩니다.
+     *
+     * @return 갱신된 전체 행 수
+     */
+    private int sweepInChunks(PlanType type,
+                              Function<Pageable, List<Long>> overdueIdFinder,
+                              Function<List<Long>, Integer> updater) {
+        int chunkSize = Math.max(1, properties.getChunkSize());
+        Pageable firstChunk = PageRequest.of(0, chunkSize);
+        int total = 0;
+        while (true) {
+            ChunkResult result = transactionTemplate.execute(status -> {
+                List<Long> ids = overdueIdFinder.apply(firstChunk);
+                return new ChunkResult(ids.size(), ids.isEmpty() ? 0 : updater.apply(ids));
+            });
+            if (result == null || result.selected() == 0) {
+                break;
+            }
+            total += result.updated();
+            metrics.processed(type, result.updated());
+            log.debug("Overdue sweep progress: type={}, chunk={}, total={}", type, result.updated(), total);
+            if (result.selected() < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 실패 처리된 계획의 상태 이력과 변경 이벤트를 기록하고 필터 인덱스에 반영합니다.
+     * 대상 ID는 같은 트랜잭션에서 최종 상태가 아닌 계획을 잠그고 조회한 것이라 그 사이 다른 트랜잭션이 완료 처리할 수 없으므로,
+     * 모두 실패 상태로 바뀐 것으로 기록합니다.
+     *
+     * @return 갱신된 행 수
+     */
+    private int recordFailed(PlanType type, List<Long> ids, int updated) {
+        statusHistoryService.recordAll(type, ids, PlanStatus.FAILED);
+        outboxService.recordStatusChanged(type, ids, PlanStatus.FAILED);
+        planFilterIndex.updateStatus(type, ids, PlanStatus.FAILED);
+        return updated;
+    }
+
+    /**
+     * 이월된 계획마다 계획 ID와 바뀐 기간을 담은 변경 이벤트를 기록합니다.
+     *
+     * @param period 바뀐 기간 필드
+     * @return 갱신된 행 수
+     */
+    private int recordRolledOver(PlanType type, List<Long> ids, Map<String, Object> period, int updated) {
+        outboxService.recordAll(type, PlanEventType.UPDATED, ids, id -> {
+            Map<String, Object> payload = new LinkedHashMap<>();
+            payload.put("id", id);
+            payload.putAll(period);
+            return payload;
+        });
+        return updated;
+    }
+
+    private record ChunkResult(int selected, int updated) {
+    }
+}
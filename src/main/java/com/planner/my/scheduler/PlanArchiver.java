@@ -0,0 +1,148 @@
+package com.planner.my.scheduler;
+
+import com.planner.my.config.ArchiveProperties;
+import com.planner.my.entity.PlanType;
+import com.planner.my.index.PlanFilterIndex;
+import com.planner.my.metrics.BatchJobMetrics;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.MonthlyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import com.planner.my.repository.YearlyPlanRepository;
+import com.planner.my.service.ArchivePolicy;
+import com.planner.my.util.PlanStatusValidator;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 기준 연도 이전의 완료/실패 계획을 아카이브 테이블로 옮기는 스케줄러입니다.
+ * 대상 ID를 배치 크기만큼 조회한 뒤 배치마다 별도의 트랜잭션에서 INSERT ... SELECT로 복사하고
+ * 기본 테이블에서 삭제하므로, 기본 테이블에는 최근 기간의 계획만 남습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "planner.archive", name = "enabled", havingValue = "true")
+public class PlanArchiver {
+
+    private final ArchiveProperties properties;
+    private final ArchivePolicy archivePolicy;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyPlanRepository dailyPlanRepository;
+    private final WeeklyPlanRepository weeklyPlanRepository;
+    private final MonthlyPlanRepository monthlyPlanRepository;
+    private final YearlyPlanRepository yearlyPlanRepository;
+    private final PlanFilterIndex planFilterIndex;
+    private final BatchJobMetrics metrics;
+
+    public PlanArchiver(ArchiveProperties properties, ArchivePolicy archivePolicy,
+                        TransactionTemplate transactionTemplate, DailyPlanRepository dailyPlanRepository,
+                        WeeklyPlanRepository weeklyPlanRepository, MonthlyPlanRepository monthlyPlanRepository,
+                        YearlyPlanRepository yearlyPlanRepository, PlanFilterIndex planFilterIndex,
+                        MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.archivePolicy = archivePolicy;
+        this.transactionTemplate = transactionTemplate;
+        this.dailyPlanRepository = dailyPlanRepository;
+        this.weeklyPlanRepository = weeklyPlanRepository;
+        this.monthlyPlanRepository = monthlyPlanRepository;
+        this.yearlyPlanRepository = yearlyPlanRepository;
+        this.planFilterIndex = planFilterIndex;
+        this.metrics = new BatchJobMetrics(meterRegistry, "archiver", "plan archiver");
+    }
+
+    /**
+     * 모든 계획 유형에 대해 아카이브 대상 계획을 옮깁니다.
+     */
+    @Scheduled(cron = "${planner.archive.cron:0 30 1 * * *}")
+    public void archive() {
+        Instant startedAt = Instant.now();
+        LocalDate cutoffDate = archivePolicy.cutoffDate();
+        int cutoffYear = archivePolicy.cutoffYear();
+
+        int daily = archiveInBatches(PlanType.DAILY,
+                batch -> dailyPlanRepository.findArchivableIds(cutoffDate,
+                        PlanStatusValidator.FINALIZED_STATUSES, batch),
+                this::moveDaily);
+        int weekly = archiveInBatches(PlanType.WEEKLY,
+                batch -> weeklyPlanRepository.findArchivableIds(cutoffDate,
+                        PlanStatusValidator.FINALIZED_STATUSES, batch),
+                this::moveWeekly);
+        int monthly = archiveInBatches(PlanType.MONTHLY,
+                batch -> monthlyPlanRepository.findArchivableIds(cutoffYear,
+                        PlanStatusValidator.FINALIZED_STATUSES, batch),
+                this::moveMonthly);
+        int yearly = archiveInBatches(PlanType.YEARLY,
+                batch -> yearlyPlanRepository.findArchivableIds(cutoffYear,
+                        PlanStatusValidator.FINALIZED_STATUSES, batch),
+                this::moveYearly);
+
+        Duration duration = metrics.recordRun(startedAt);
+        log.info("Archive finished (cutoff={}): daily={}, weekly={}, monthly={}, yearly={} in {} ms",
+                cutoffDate, daily, weekly, monthly, yearly, duration.toMillis());
+    }
+
+    private int moveDaily(List<Long> ids) {
+        dailyPlanRepository.copyToArchive(ids);
+        return dailyPlanRepository.deleteByIds(ids);
+    }
+
+    private int moveWeekly(List<Long> ids) {
+        weeklyPlanRepository.copyToArchive(ids);
+        return weeklyPlanRepository.deleteByIds(ids);
+    }
+
+    private int moveMonthly(List<Long> ids) {
+        monthlyPlanRepository.copyToArchive(ids);
+        return monthlyPlanRepository.deleteByIds(ids);
+    }
+
+    private int moveYearly(List<Long> ids) {
+        yearlyPlanRepository.copyToArchive(ids);
+        return yearlyPlanRepository.deleteByIds(ids);
+    }
+
+    /**
+     * 배치 크기만큼 ID를 조회하고 옮기는 작업을 더 이상 대상이 없을 때까지 반복합니다.
+     * 옮겨진 행은 기본 테이블에서 삭제되므로 매번 첫 페이지만 조회하면 됩니다.
+     *
+     * @return 옮겨진 전체 행 수
+     */
+    private int archiveInBatches(PlanType type,
+                                 Function<Pageable, List<Long>> archivableIdFinder,
+                                 Function<List<Long>, Integer> mover) {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        Pageable firstBatch = PageRequest.of(0, batchSize);
+        int total = 0;
+        while (true) {
+            List<Long> moved = transactionTemplate.execute(status -> {
+                List<Long> ids = archivableIdFinder.apply(firstBatch);
+                if (!ids.isEmpty()) {
+                    mover.apply(ids);
+                    planFilterIndex.remove(type, ids);
+                }
+                return ids;
+            });
+            if (moved == null || moved.isEmpty()) {
+                break;
+            }
+            total += moved.size();
+            metrics.processed(type, moved.size());
+            log.debug("Archive progress: type={}, batch={}, total={}", type, moved.size(), total);
+            if (moved.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,42 @@
+package com.planner.my.scheduler;
+
+import com.planner.my.config.StatusHistoryProperties;
+import com.planner.my.entity.PlanType;
+import com.planner.my.service.StatusHistoryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 계획 유형별로 자정 기준 상태 스냅샷을 저장하는 스케줄러입니다.
+ * <p>
+ * 스냅샷은 이력을 재생해 만들므로 이력과 항상 일치하며, 과거 시점 조회는 가장 가까운 스냅샷 이후의 이력만 재생합니다.
+ * 자정이 조금 지난 뒤 실행해 자정 전에 시작한 트랜잭션의 이력이 모두 커밋된 상태에서 스냅샷을 만듭니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "planner.status-history", name = "snapshot-enabled", havingValue = "true", matchIfMissing = true)
+public class StatusSnapshotter {
+
+    private final StatusHistoryProperties properties;
+    private final StatusHistoryService statusHistoryService;
+
+    /**
+     * 오늘 자정 기준 스냅샷을 저장하고 오래된 스냅샷을 정리합니다.
+     */
+    @Scheduled(cron = "${planner.status-history.snapshot-cron:0 15 0 * * *}")
+    public void snapshot() {
+        LocalDateTime snapshotAt = LocalDate.now().atStartOfDay();
+        for (PlanType type : PlanType.values()) {
+            int saved = statusHistoryService.takeSnapshot(type, snapshotAt);
+            int pruned = statusHistoryService.pruneSnapshots(type, properties.getRetainedSnapshots());
+            log.info("Status snapshot at {}: type={}, plans={}, pruned={}", snapshotAt, type, saved, pruned);
+        }
+    }
+}
\ No newline at end of file
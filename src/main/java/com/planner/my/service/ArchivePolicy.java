@@ -0,0 +1,63 @@
+package com.planner.my.service;
+
+import com.planner.my.config.ArchiveProperties;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.util.PlanStatusValidator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+
+/**
+ * 조회 조건에 따라 기본 테이블만 읽을지, 아카이브 테이블도 함께 읽을지 결정합니다.
+ * 아카이브 테이블에는 기준일 이전 기간의 완료/실패 계획만 있으므로, 기준일 이후 기간이나
+ * 최종 상태가 아닌 계획의 조회는 아카이브 테이블을 읽지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ArchivePolicy {
+
+    private final ArchiveProperties properties;
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 기본 테이블에 남는 가장 이른 연도입니다. 이보다 이전 연도의 완료/실패 계획이 아카이브 대상입니다.
+     */
+    public int cutoffYear() {
+        return LocalDate.now().getYear() - Math.max(1, properties.getHotYears()) + 1;
+    }
+
+    /**
+     * 기본 테이블에 남는 가장 이른 날짜입니다.
+     */
+    public LocalDate cutoffDate() {
+        return LocalDate.of(cutoffYear(), 1, 1);
+    }
+
+    /**
+     * 해당 날짜부터 시작하는 기간 조회에 아카이브 테이블이 필요한지 확인합니다.
+     */
+    public boolean includesArchive(LocalDate startDate) {
+        return isEnabled() && startDate.isBefore(cutoffDate());
+    }
+
+    /**
+     * 해당 연도 조회에 아카이브 테이블이 필요한지 확인합니다.
+     */
+    public boolean includesArchive(int year) {
+        return isEnabled() && year < cutoffYear();
+    }
+
+    /**
+     * 기간 조건이 없는 조회에 아카이브 테이블이 필요한지 확인합니다.
+     *
+     * @param status 조회할 상태 (상태 조건이 없으면 null)
+     * @param includeArchived 아카이브된 계획도 포함하도록 요청했는지 여부
+     */
+    public boolean includesArchive(PlanStatus status, boolean includeArchived) {
+        return isEnabled() && includeArchived && (status == null || PlanStatusValidator.isFinalized(status));
+    }
+}
@@ -0,0 +1,112 @@
+package com.planner.my.service;
+
+import com.planner.my.dto.ChecklistItemRequest;
+import com.planner.my.dto.ChecklistResponse;
+import com.planner.my.entity.ChecklistItem;
+import com.planner.my.entity.PlanType;
+import com.planner.my.repository.ChecklistItemRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 계획의 체크리스트 항목을 관리하고, 항목 완료율로 진행률을 계산합니다.
+ * <p>
+ * 계획이 존재하는지는 호출하는 계획 서비스가 확인합니다.
+ * 여러 계획의 체크리스트는 계획 ID 목록으로 한 번에 조회하므로 계획 수와 관계없이 SQL 문 하나로 읽습니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ChecklistService {
+
+    private final ChecklistItemRepository checklistItemRepository;
+
+    /**
+     * 계획 하나의 체크리스트를 조회합니다.
+     */
+    public ChecklistResponse findChecklist(PlanType planType, Long planId) {
+        return ChecklistResponse.of(planId,
+                checklistItemRepository.findByPlanTypeAndPlanIdOrderByDisplayOrderAscIdAsc(planType, planId));
+    }
+
+    /**
+     * 여러 계획의 체크리스트를 하나의 IN 조회로 읽어 주어진 계획 순서대로 반환합니다.
+     *
+     * @param planType 계획 유형
+     * @param planIds 계획 ID 목록 (응답 순서)
+     * @return 계획별 체크리스트 (항목이 없는 계획도 빈 체크리스트로 포함)
+     */
+    public List<ChecklistResponse> findChecklists(PlanType planType, List<Long> planIds) {
+        if (planIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, List<ChecklistItem>> itemsByPlan = checklistItemRepository
+                .findByPlanTypeAndPlanIdInOrderByPlanIdAscDisplayOrderAscIdAsc(planType, planIds).stream()
+                .collect(Collectors.groupingBy(ChecklistItem::getPlanId));
+        return planIds.stream()
+                .map(planId -> ChecklistResponse.of(planId, itemsByPlan.getOrDefault(planId, List.of())))
+                .toList();
+    }
+
+    /**
+     * 체크리스트 마지막에 항목을 추가합니다.
+     *
+     * @return 항목이 추가된 체크리스트
+     */
+    @Transactional
+    public ChecklistResponse addItem(PlanType planType, Long planId, ChecklistItemRequest request) {
+        checklistItemRepository.save(ChecklistItem.builder()
+                .planType(planType)
+                .planId(planId)
+                .content(request.getContent())
+                .done(Boolean.TRUE.equals(request.getDone()))
+                .displayOrder(checklistItemRepository.findMaxDisplayOrder(planType, planId) + 1)
+                .build());
+        return findChecklist(planType, planId);
+    }
+
+    /**
+     * 항목의 내용과 완료 여부를 수정합니다. 완료 여부를 생략하면 기존 값을 유지합니다.
+     *
+     * @return 항목이 수정된 체크리스트
+     * @throws IllegalArgumentException 계획에 해당 항목이 없을 때
+     */
+    @Transactional
+    public ChecklistResponse updateItem(PlanType planType, Long planId, Long itemId, ChecklistItemRequest request) {
+        ChecklistItem item = findItem(planType, planId, itemId);
+        item.setContent(request.getContent());
+        if (request.getDone() != null) {
+            item.setDone(request.getDone());
+        }
+        return findChecklist(planType, planId);
+    }
+
+    /**
+     * 항목을 삭제합니다.
+     *
+     * @throws IllegalArgumentException 계획에 해당 항목이 없을 때
+     */
+    @Transactional
+    public void deleteItem(PlanType planType, Long planId, Long itemId) {
+        checklistItemRepository.delete(findItem(planType, planId, itemId));
+    }
+
+    /**
+     * 삭제되는 계획의 항목을 모두 삭제합니다. 계획을 삭제하는 트랜잭션 안에서만 호출할 수 있습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAll(PlanType planType, Long planId) {
+        checklistItemRepository.deleteByPlan(planType, planId);
+    }
+
+    private ChecklistItem findItem(PlanType planType, Long planId, Long itemId) {
+        return checklistItemRepository.findByIdAndPlanTypeAndPlanId(itemId, planType, planId)
+                .orElseThrow(() -> new IllegalArgumentException("Checklist item not found: " + itemId));
+    }
+}
\ No newline at end of file
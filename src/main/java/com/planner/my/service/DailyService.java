@@ -1,25 +1,66 @@
 package com.planner.my.service;
 
+import com.planner.my.dto.BulkStatusUpdateResponse;
+import com.planner.my.dto.ChecklistItemRequest;
+import com.planner.my.dto.ChecklistResponse;
 import com.planner.my.dto.DailyPlanRequest;
 import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.FieldSelection;
+import com.planner.my.dto.PageResponse;
+import com.planner.my.dto.PlanStatusHistoryResponse;
+import com.planner.my.entity.CompressedTextConverter;
 import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.PlanEventType;
 import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
 import com.planner.my.entity.Priority;
+import com.planner.my.index.PlanFilterIndex;
 import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.FieldProjectionRepository;
+import com.planner.my.repository.PlanSpecifications;
+import com.planner.my.repository.PlanStatusEntry;
 import com.planner.my.util.PlanStatusValidator;
+import com.planner.my.util.SortedStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class DailyService {
 
+    private static final CompressedTextConverter DESCRIPTION_CONVERTER = new CompressedTextConverter();
+
     private final DailyPlanRepository dailyPlanRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final ArchivePolicy archivePolicy;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+    private final StatusHistoryService statusHistoryService;
+    private final ChecklistService checklistService;
+    private final PlanTagService planTagService;
+    private final PlanFilterIndex planFilterIndex;
+    private final RecurringPlanService recurringPlanService;
 
     /**
      * 새로운 일간 계획을 생성합니다.
@@ -38,48 +79,133 @@ public class DailyService {
                 .status(request.getStatus() != null ? request.getStatus() : PlanStatus.NOT_STARTED)
                 .displayOrder(maxOrder + 1)
                 .build();
-        return DailyPlanResponse.from(dailyPlanRepository.save(plan));
+        DailyPlanResponse response = DailyPlanResponse.from(dailyPlanRepository.save(plan));
+        outboxService.record(PlanType.DAILY, PlanEventType.CREATED, response.id(), response);
+        statusHistoryService.record(PlanType.DAILY, response.id(), response.status());
+        planFilterIndex.put(PlanType.DAILY, response.id(), response.status(), response.priority());
+        return response;
     }
 
     /**
      * 모든 일간 계획을 표시 순서대로 조회합니다.
+     * 아카이브된 계획은 요청한 경우에만 포함합니다.
      *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 일간 계획 목록
      */
-    public List<DailyPlanResponse> findAll() {
-        return dailyPlanRepository.findAllByOrderByDisplayOrderAsc().stream()
-                .map(DailyPlanResponse::from)
+    public List<DailyPlanResponse> findAll(boolean includeArchived) {
+        return withArchived(dailyPlanRepository.findAllByOrderByDisplayOrderAsc(),
+                archivePolicy.includesArchive(null, includeArchived),
+                dailyPlanRepository::findAllArchived).stream()
+                .map(DailyPlanResponse::fromSummary)
                 .toList();
     }
 
+    /**
+     * 모든 일간 계획의 선택한 필드만 표시 순서대로 조회합니다.
+     *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
+     * @param fields 조회할 필드
+     * @return 선택한 필드만 담은 일간 계획 목록
+     */
+    public List<Map<String, Object>> findAll(boolean includeArchived, FieldSelection fields) {
+        return withArchivedFields(fields, (root, query, cb) -> null,
+                archivePolicy.includesArchive(null, includeArchived),
+                dailyPlanRepository::findAllArchived);
+    }
+
+    /**
+     * 모든 일간 계획을 표시 순서대로 하나씩 consumer에 넘깁니다.
+     * 커서로 읽은 엔티티는 응답으로 변환한 뒤 영속성 컨텍스트에서 분리하므로 결과 크기만큼 메모리를 쓰지 않습니다.
+     *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
+     * @param consumer 변환된 응답을 받을 consumer
+     */
+    public void streamAll(boolean includeArchived, Consumer<? super DailyPlanResponse> consumer) {
+        try (Stream<DailyPlan> plans = dailyPlanRepository.streamAllByOrderByDisplayOrderAsc();
+             Stream<DailyPlan> archived = archivePolicy.includesArchive(null, includeArchived)
+                     ? dailyPlanRepository.streamAllArchived() : Stream.empty()) {
+            SortedStreams.merge(plans, archived, Comparator.comparingInt(DailyPlan::getDisplayOrder))
+                    .forEach(plan -> {
+                        consumer.accept(DailyPlanResponse.fromSummary(plan));
+                        entityManager.detach(plan);
+                    });
+        }
+    }
+
     public DailyPlanResponse findById(Long id) {
         return dailyPlanRepository.findById(id)
                 .map(DailyPlanResponse::from)
+                .or(() -> archivePolicy.isEnabled() ? findArchivedById(id) : Optional.empty())
                 .orElseThrow(() -> new IllegalArgumentException("Daily plan not found: " + id));
     }
 
     /**
      * 특정 날짜의 일간 계획을 조회합니다.
+     * 저장된 계획과 해당 날짜의 반복 일정을 함께 반환합니다.
      *
      * @param date 조회할 날짜
      * @return 해당 날짜의 일간 계획 목록
      */
     public List<DailyPlanResponse> findByDate(LocalDate date) {
-        return dailyPlanRepository.findByPlanDateOrderByDisplayOrderAsc(date).stream()
-                .map(DailyPlanResponse::from)
-                .toList();
+        List<DailyPlan> plans = withArchived(dailyPlanRepository.findByPlanDateOrderByDisplayOrderAsc(date),
+                archivePolicy.includesArchive(date), () -> dailyPlanRepository.findArchivedByPlanDate(date));
+        return mergeWithOccurrences(plans, recurringPlanService.expandOccurrences(date, date));
     }
 
     /**
      * 날짜 범위의 일간 계획을 조회합니다.
+     * 저장된 계획과 해당 기간의 반복 일정을 함께 반환합니다.
      *
      * @param startDate 시작 날짜
      * @param endDate 종료 날짜
      * @return 해당 기간의 일간 계획 목록
      */
     public List<DailyPlanResponse> findByDateRange(LocalDate startDate, LocalDate endDate) {
-        return dailyPlanRepository.findByPlanDateBetweenOrderByDisplayOrderAsc(startDate, endDate).stream()
-                .map(DailyPlanResponse::from)
+        List<DailyPlan> plans = withArchived(
+                dailyPlanRepository.findByPlanDateBetweenOrderByDisplayOrderAsc(startDate, endDate),
+                archivePolicy.includesArchive(startDate),
+                () -> dailyPlanRepository.findArchivedByPlanDateBetween(startDate, endDate));
+        return mergeWithOccurrences(plans, recurringPlanService.expandOccurrences(startDate, endDate));
+    }
+
+    /**
+     * 날짜 범위의 일간 계획과 반복 일정에서 선택한 필드만 조회합니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @param fields 조회할 필드
+     * @return 선택한 필드만 담은 일간 계획 목록
+     */
+    public List<Map<String, Object>> findByDateRange(LocalDate startDate, LocalDate endDate, FieldSelection fields) {
+        FieldSelection sortable = fields.with("displayOrder", "planDate");
+        List<Map<String, Object>> rows = withArchivedFields(sortable,
+                (root, query, cb) -> cb.between(root.<LocalDate>get("planDate"), startDate, endDate),
+                archivePolicy.includesArchive(startDate),
+                () -> dailyPlanRepository.findArchivedByPlanDateBetween(startDate, endDate));
+        List<DailyPlanResponse> occurrences = recurringPlanService.expandOccurrences(startDate, endDate);
+        if (occurrences.isEmpty()) {
+            return rows.stream().map(fields::retain).toList();
+        }
+        return Stream.concat(rows.stream(), occurrences.stream().map(sortable::project))
+                .sorted(Comparator.comparing((Map<String, Object> row) -> (Integer) row.get("displayOrder"))
+                        .thenComparing(row -> (LocalDate) row.get("planDate")))
+                .map(fields::retain)
+                .toList();
+    }
+
+    /**
+     * 저장된 일간 계획과 펼쳐진 반복 일정을 표시 순서, 날짜 순으로 합칩니다.
+     */
+    private List<DailyPlanResponse> mergeWithOccurrences(List<DailyPlan> plans, List<DailyPlanResponse> occurrences) {
+        if (occurrences.isEmpty()) {
+            return plans.stream()
+                    .map(DailyPlanResponse::fromSummary)
+                    .toList();
+        }
+        return Stream.concat(plans.stream().map(DailyPlanResponse::fromSummary), occurrences.stream())
+                .sorted(Comparator.comparingInt(DailyPlanResponse::displayOrder)
+                        .thenComparingInt(DailyPlanResponse::planDate))
                 .toList();
     }
 
@@ -87,11 +213,14 @@ public class DailyService {
      * 상태별 일간 계획을 조회합니다.
      *
      * @param status 조회할 상태
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 해당 상태의 일간 계획 목록
      */
-    public List<DailyPlanResponse> findByStatus(PlanStatus status) {
-        return dailyPlanRepository.findByStatusOrderByDisplayOrderAsc(status).stream()
-                .map(DailyPlanResponse::from)
+    public List<DailyPlanResponse> findByStatus(PlanStatus status, boolean includeArchived) {
+        return withArchived(dailyPlanRepository.findByStatusOrderByDisplayOrderAsc(status),
+                archivePolicy.includesArchive(status, includeArchived),
+                () -> dailyPlanRepository.findArchivedByStatus(status.name())).stream()
+                .map(DailyPlanResponse::fromSummary)
                 .toList();
     }
 
@@ -99,14 +228,174 @@ public class DailyService {
      * 우선순위별 일간 계획을 조회합니다.
      *
      * @param priority 조회할 우선순위
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 해당 우선순위의 일간 계획 목록
      */
-    public List<DailyPlanResponse> findByPriority(Priority priority) {
-        return dailyPlanRepository.findByPriorityOrderByDisplayOrderAsc(priority).stream()
-                .map(DailyPlanResponse::from)
+    public List<DailyPlanResponse> findByPriority(Priority priority, boolean includeArchived) {
+        return withArchived(dailyPlanRepository.findByPriorityOrderByDisplayOrderAsc(priority),
+                archivePolicy.includesArchive(null, includeArchived),
+                () -> dailyPlanRepository.findArchivedByPriority(priority.name())).stream()
+                .map(DailyPlanResponse::fromSummary)
+                .toList();
+    }
+
+    /**
+     * 기준 시점의 상태로 일간 계획을 표시 순서대로 조회합니다.
+     * 상태만 기준 시점의 값이고 나머지 필드는 현재 값이며, 이후 삭제되었거나 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param asOf 기준 시점
+     * @return 기준 시점에 존재하던 일간 계획 목록
+     */
+    public List<DailyPlanResponse> findAllAsOf(LocalDateTime asOf) {
+        Map<Long, PlanStatus> statuses = statusHistoryService.statusesAsOf(PlanType.DAILY, asOf);
+        return dailyPlanRepository.findAllById(statuses.keySet()).stream()
+                .sorted(Comparator.comparingInt(DailyPlan::getDisplayOrder))
+                .map(plan -> DailyPlanResponse.fromSummary(plan).withStatus(statuses.get(plan.getId())))
                 .toList();
     }
 
+    /**
+     * 일간 계획의 상태 변경 이력을 오래된 순서로 조회합니다. 삭제된 계획의 이력도 조회할 수 있습니다.
+     *
+     * @param id 계획 ID
+     * @return 상태 변경 이력
+     */
+    public List<PlanStatusHistoryResponse> findHistory(Long id) {
+        List<PlanStatusHistoryResponse> history = statusHistoryService.findHistory(PlanType.DAILY, id);
+        if (history.isEmpty()) {
+            throw new IllegalArgumentException("Daily plan not found: " + id);
+        }
+        return history;
+    }
+
+    /**
+     * 모든 일간 계획의 체크리스트를 표시 순서대로 조회합니다.
+     * 계획 ID와 항목을 각각 한 번에 조회하므로 계획 수와 관계없이 SQL 문 두 개로 읽습니다.
+     *
+     * @return 계획별 체크리스트 목록
+     */
+    public List<ChecklistResponse> findAllChecklists() {
+        return checklistService.findChecklists(PlanType.DAILY, dailyPlanRepository.findAllIdsOrderByDisplayOrder());
+    }
+
+    /**
+     * 일간 계획의 체크리스트를 조회합니다.
+     *
+     * @param id 계획 ID
+     * @return 체크리스트와 진행률
+     */
+    public ChecklistResponse findChecklist(Long id) {
+        checkExists(id);
+        return checklistService.findChecklist(PlanType.DAILY, id);
+    }
+
+    /**
+     * 일간 계획의 체크리스트 마지막에 항목을 추가합니다.
+     *
+     * @param id 계획 ID
+     * @param request 추가할 항목
+     * @return 항목이 추가된 체크리스트
+     */
+    @Transactional
+    public ChecklistResponse addChecklistItem(Long id, ChecklistItemRequest request) {
+        checkExists(id);
+        return checklistService.addItem(PlanType.DAILY, id, request);
+    }
+
+    /**
+     * 일간 계획의 체크리스트 항목을 수정합니다.
+     *
+     * @param id 계획 ID
+     * @param itemId 항목 ID
+     * @param request 수정할 내용
+     * @return 항목이 수정된 체크리스트
+     */
+    @Transactional
+    public ChecklistResponse updateChecklistItem(Long id, Long itemId, ChecklistItemRequest request) {
+        checkExists(id);
+        return checklistService.updateItem(PlanType.DAILY, id, itemId, request);
+    }
+
+    /**
+     * 일간 계획의 체크리스트 항목을 삭제합니다.
+     *
+     * @param id 계획 ID
+     * @param itemId 항목 ID
+     */
+    @Transactional
+    public void deleteChecklistItem(Long id, Long itemId) {
+        checkExists(id);
+        checklistService.deleteItem(PlanType.DAILY, id, itemId);
+    }
+
+    /**
+     * 기간, 상태, 우선순위 조건을 한 번의 쿼리로 함께 걸어 일간 계획을 표시 순서대로 페이지 단위로 조회합니다.
+     * 인덱스가 있는 기간 조건을 먼저 걸고 상태와 우선순위 조건을 뒤에 겁니다.
+     * 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param statuses 허용할 상태 (비어 있으면 적용하지 않음)
+     * @param priorities 허용할 우선순위 (비어 있으면 적용하지 않음)
+     * @param from 이 날짜부터 (null이면 제한 없음)
+     * @param to 이 날짜까지 (null이면 제한 없음)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 일간 계획 페이지
+     */
+    public PageResponse<DailyPlanResponse> query(Collection<PlanStatus> statuses, Collection<Priority> priorities,
+                                                 LocalDate from, LocalDate to, int page, int size) {
+        Specification<DailyPlan> condition = PlanSpecifications.allOf(
+                PlanSpecifications.between("planDate", from, to),
+                PlanSpecifications.statusIn(statuses),
+                PlanSpecifications.priorityIn(priorities));
+        return PageResponse.of(dailyPlanRepository.findAll(condition, PlanSpecifications.pageOf(page, size))
+                .map(DailyPlanResponse::fromSummary));
+    }
+
+    /**
+     * 태그, 상태, 우선순위 조건을 함께 만족하는 일간 계획을 ID 순서대로 페이지 단위로 조회합니다.
+     * 조건은 메모리의 비트맵 인덱스로 계산하고, 요청한 페이지에 속한 계획만 ID로 한 번에 읽습니다.
+     * 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param tags 모두 가져야 하는 태그 (비어 있으면 적용하지 않음)
+     * @param statuses 허용할 상태 (비어 있으면 적용하지 않음)
+     * @param priorities 허용할 우선순위 (비어 있으면 적용하지 않음)
+     * @param page 페이지 번호 (0부터 시작, 음수면 첫 페이지)
+     * @param size 페이지 크기 (1~{@value PlanSpecifications#MAX_PAGE_SIZE})
+     * @return 조건에 맞는 일간 계획 페이지
+     */
+    public PageResponse<DailyPlanResponse> findByFilter(Collection<String> tags, Collection<PlanStatus> statuses,
+                                                        Collection<Priority> priorities, int page, int size) {
+        Page<Long> ids = planFilterIndex.find(PlanType.DAILY, tags, statuses, priorities,
+                PlanSpecifications.pageOf(page, size));
+        Map<Long, DailyPlanResponse> plans = dailyPlanRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(DailyPlan::getId, DailyPlanResponse::fromSummary));
+        return PageResponse.of(ids, plans);
+    }
+
+    /**
+     * 일간 계획의 태그를 이름순으로 조회합니다.
+     *
+     * @param id 계획 ID
+     * @return 태그 목록
+     */
+    public List<String> findTags(Long id) {
+        checkExists(id);
+        return planTagService.findTags(PlanType.DAILY, id);
+    }
+
+    /**
+     * 일간 계획의 태그를 모두 바꿉니다.
+     *
+     * @param id 계획 ID
+     * @param tags 새 태그 목록
+     * @return 저장된 태그 목록
+     */
+    @Transactional
+    public List<String> replaceTags(Long id, List<String> tags) {
+        checkExists(id);
+        return planTagService.replaceTags(PlanType.DAILY, id, tags);
+    }
+
     @Transactional
     public DailyPlanResponse update(Long id, DailyPlanRequest request) {
         DailyPlan plan = dailyPlanRepository.findById(id)
@@ -116,11 +405,15 @@ public class DailyService {
         plan.setDescription(request.getDescription());
         plan.setPlanDate(request.getPlanDate());
         plan.setPriority(request.getPriority());
-        if (request.getStatus() != null) {
+        if (request.getStatus() != null && request.getStatus() != plan.getStatus()) {
             plan.setStatus(request.getStatus());
+            statusHistoryService.record(PlanType.DAILY, id, request.getStatus());
         }
 
-        return DailyPlanResponse.from(plan);
+        DailyPlanResponse response = DailyPlanResponse.from(plan);
+        outboxService.record(PlanType.DAILY, PlanEventType.UPDATED, id, response);
+        planFilterIndex.put(PlanType.DAILY, id, plan.getStatus(), plan.getPriority());
+        return response;
     }
 
     /**
@@ -137,37 +430,200 @@ public class DailyService {
         DailyPlan plan = dailyPlanRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Daily plan not found: " + id));
         PlanStatusValidator.validateStatusChange(plan.getStatus());
-        plan.setStatus(status);
-        return DailyPlanResponse.from(plan);
+        if (plan.getStatus() != status) {
+            plan.setStatus(status);
+            statusHistoryService.record(PlanType.DAILY, id, status);
+            planFilterIndex.updateStatus(PlanType.DAILY, List.of(id), status);
+        }
+        DailyPlanResponse response = DailyPlanResponse.from(plan);
+        outboxService.record(PlanType.DAILY, PlanEventType.STATUS_CHANGED, id, response);
+        return response;
+    }
+
+    /**
+     * 여러 일간 계획의 상태를 한 번에 변경합니다.
+     * 완료(COMPLETED) 또는 실패(FAILED) 상태인 계획과 존재하지 않는 계획은 변경되지 않고 거부 목록에 담깁니다.
+     * 이미 같은 상태인 계획은 거부하지 않지만 UPDATE, 상태 이력, 변경 이벤트에서는 뺍니다.
+     *
+     * @param ids 변경할 계획 ID 목록
+     * @param status 새로운 상태
+     * @return 변경된 계획 ID와 거부된 계획 ID 목록
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(List<Long> ids, PlanStatus status) {
+        List<Long> requestedIds = ids.stream().distinct().toList();
+        List<PlanStatusEntry> updatable =
+                dailyPlanRepository.findUpdatableStatuses(requestedIds, PlanStatusValidator.FINALIZED_STATUSES);
+        Set<Long> updatableIds = updatable.stream().map(PlanStatusEntry::getPlanId).collect(Collectors.toSet());
+        List<Long> changedIds = updatable.stream()
+                .filter(entry -> entry.getStatus() != status)
+                .map(PlanStatusEntry::getPlanId)
+                .toList();
+        int updatedCount = changedIds.isEmpty() ? 0 : dailyPlanRepository.updateStatusByIds(
+                changedIds, status, PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now());
+        statusHistoryService.recordAll(PlanType.DAILY, changedIds, status);
+        outboxService.recordStatusChanged(PlanType.DAILY, changedIds, status);
+        planFilterIndex.updateStatus(PlanType.DAILY, changedIds, status);
+
+        return BulkStatusUpdateResponse.builder()
+                .updatedCount(updatedCount)
+                .updatedIds(requestedIds.stream().filter(updatableIds::contains).toList())
+                .rejectedIds(requestedIds.stream().filter(id -> !updatableIds.contains(id)).toList())
+                .build();
+    }
+
+    /**
+     * 특정 날짜의 완료되지 않은 일간 계획을 모두 다른 날짜로 이월합니다.
+     * 이월 대상 행을 잠그며 ID를 한 번 조회한 뒤, 한 번의 UPDATE 문으로 날짜와 표시 순서를 함께 옮깁니다.
+     * 이월된 계획은 옮길 날짜의 기존 계획들 뒤에 원래 순서대로 배치되며, 조회한 ID는 변경 이벤트 기록에 쓰입니다.
+     *
+     * @param from 이월할 날짜
+     * @param to 옮길 날짜
+     * @return 이월 대상 날짜의 일간 계획 목록
+     */
+    @Transactional
+    public List<DailyPlanResponse> rollover(LocalDate from, LocalDate to) {
+        if (from.equals(to)) {
+            return findByDate(to);
+        }
+        Set<Long> movedIds = new HashSet<>(
+                dailyPlanRepository.findUnfinishedIds(from, PlanStatusValidator.FINALIZED_STATUSES));
+        if (movedIds.isEmpty()) {
+            return findByDate(to);
+        }
+        dailyPlanRepository.rolloverUnfinished(movedIds, to,
+                PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now());
+
+        List<DailyPlanResponse> plans = findByDate(to);
+        Map<Long, Integer> movedOrders = plans.stream()
+                .filter(plan -> movedIds.contains(plan.id()))
+                .collect(Collectors.toMap(DailyPlanResponse::id, DailyPlanResponse::displayOrder));
+        outboxService.recordAll(PlanType.DAILY, PlanEventType.UPDATED, movedOrders.keySet(),
+                id -> Map.of("id", id, "planDate", to, "displayOrder", movedOrders.get(id)));
+        return plans;
     }
 
     /**
      * 일간 계획을 삭제합니다.
+     * 저장된 반복 일정이면 같은 트랜잭션에서 반복 날짜를 제외해, 다시 펼쳐지지 않게 합니다.
      *
      * @param id 삭제할 계획 ID
      */
     @Transactional
     public void delete(Long id) {
-        if (!dailyPlanRepository.existsById(id)) {
-            throw new IllegalArgumentException("Daily plan not found: " + id);
+        DailyPlan plan = dailyPlanRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Daily plan not found: " + id));
+        dailyPlanRepository.delete(plan);
+        if (plan.getRecurringPlanId() != null) {
+            recurringPlanService.excludeOccurrence(plan.getRecurringPlanId(), plan.getOccurrenceDate());
         }
-        dailyPlanRepository.deleteById(id);
+        outboxService.recordDeleted(PlanType.DAILY, id);
+        statusHistoryService.recordDeleted(PlanType.DAILY, id);
+        checklistService.deleteAll(PlanType.DAILY, id);
+        planTagService.deleteAll(PlanType.DAILY, id);
+        planFilterIndex.remove(PlanType.DAILY, List.of(id));
     }
 
     /**
      * 일간 계획의 표시 순서를 재정렬합니다.
+     * 대상 계획은 한 번의 IN 조회로 읽고, 변경된 표시 순서는 JDBC 배치로 저장됩니다.
      *
      * @param orderedIds 새로운 순서대로 정렬된 계획 ID 목록
      * @return 재정렬된 일간 계획 목록
      */
     @Transactional
     public List<DailyPlanResponse> reorder(List<Long> orderedIds) {
+        Map<Long, DailyPlan> plans = dailyPlanRepository.findAllById(orderedIds).stream()
+                .collect(Collectors.toMap(DailyPlan::getId, Function.identity()));
         for (int i = 0; i < orderedIds.size(); i++) {
             Long id = orderedIds.get(i);
-            DailyPlan plan = dailyPlanRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Daily plan not found: " + id));
+            DailyPlan plan = plans.get(id);
+            if (plan == null) {
+                throw new IllegalArgumentException("Daily plan not found: " + id);
+            }
             plan.setDisplayOrder(i);
         }
-        return findAll();
+        outboxService.recordReordered(PlanType.DAILY, orderedIds);
+        return findAll(false);
+    }
+
+    private void checkExists(Long id) {
+        if (!dailyPlanRepository.existsById(id)) {
+            throw new IllegalArgumentException("Daily plan not found: " + id);
+        }
+    }
+
+    /**
+     * 필요한 경우 아카이브 테이블 조회 결과를 기본 테이블 조회 결과와 합쳐 표시 순서대로 정렬합니다.
+     *
+     * @param plans 기본 테이블 조회 결과
+     * @param includeArchive 아카이브 테이블을 조회할지 여부
+     * @param archivedPlans 아카이브 테이블 조회
+     * @return 합쳐진 일간 계획 목록
+     */
+    private List<DailyPlan> withArchived(List<DailyPlan> plans, boolean includeArchive,
+                                     Supplier<List<DailyPlan>> archivedPlans) {
+        if (!includeArchive) {
+            return plans;
+        }
+        List<DailyPlan> archived = archivedPlans.get();
+        if (archived.isEmpty()) {
+            return plans;
+        }
+        return Stream.concat(plans.stream(), archived.stream())
+                .sorted(Comparator.comparingInt(DailyPlan::getDisplayOrder))
+                .toList();
+    }
+
+    /**
+     * 선택한 필드를 SQL로 투영해 조회하고, 필요하면 아카이브된 계획을 표시 순서로 합칩니다.
+     * 아카이브 테이블은 엔티티로 읽은 뒤 메모리에서 필드를 고릅니다.
+     */
+    private List<Map<String, Object>> withArchivedFields(FieldSelection fields, Specification<DailyPlan> condition,
+                                                         boolean includeArchive, Supplier<List<DailyPlan>> archivedPlans) {
+        if (!includeArchive) {
+            return fieldProjectionRepository.findFields(DailyPlan.class, fields, condition);
+        }
+        FieldSelection sortable = fields.with("displayOrder");
+        List<DailyPlanResponse> archived = archivedPlans.get().stream()
+                .map(DailyPlanResponse::fromSummary)
+                .toList();
+        if (fields.includes("description")) {
+            archived = withArchivedDescriptions(archived);
+        }
+        return Stream.concat(
+                        fieldProjectionRepository.findFields(DailyPlan.class, sortable, condition).stream(),
+                        archived.stream().map(sortable::project))
+                .sorted(Comparator.comparing(row -> (Integer) row.get("displayOrder")))
+                .map(fields::retain)
+                .toList();
+    }
+
+    /**
+     * 아카이브된 일간 계획을 설명과 함께 조회합니다.
+     */
+    private Optional<DailyPlanResponse> findArchivedById(Long id) {
+        return dailyPlanRepository.findArchivedById(id)
+                .map(DailyPlanResponse::fromSummary)
+                .map(plan -> withArchivedDescriptions(List.of(plan)).getFirst());
+    }
+
+    /**
+     * 아카이브된 계획 응답에 아카이브 테이블의 설명을 채운 목록을 반환합니다.
+     * 네이티브 쿼리로 읽은 엔티티의 지연 로딩 속성은 기본 테이블에서 읽히므로 설명은 따로 조회합니다.
+     */
+    private List<DailyPlanResponse> withArchivedDescriptions(List<DailyPlanResponse> responses) {
+        if (responses.isEmpty()) {
+            return responses;
+        }
+        Map<Long, String> descriptions = new HashMap<>();
+        for (Object[] row : dailyPlanRepository.findArchivedDescriptions(
+                responses.stream().map(DailyPlanResponse::id).toList())) {
+            descriptions.put(((Number) row[0]).longValue(),
+                    DESCRIPTION_CONVERTER.convertToEntityAttribute((byte[]) row[1]));
+        }
+        return responses.stream()
+                .map(response -> response.withDescription(descriptions.get(response.id())))
+                .toList();
     }
 }
\ No newline at end of file
@@ -1,24 +1,64 @@
 package com.planner.my.service;
 
+import com.planner.my.dto.BulkStatusUpdateResponse;
+import com.planner.my.dto.ChecklistItemRequest;
+import com.planner.my.dto.ChecklistResponse;
+import com.planner.my.dto.FieldSelection;
+import com.planner.my.dto.PageResponse;
+import com.planner.my.dto.PlanStatusHistoryResponse;
 import com.planner.my.dto.MonthlyPlanRequest;
 import com.planner.my.dto.MonthlyPlanResponse;
+import com.planner.my.entity.CompressedTextConverter;
 import com.planner.my.entity.MonthlyPlan;
+import com.planner.my.entity.PlanEventType;
 import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
 import com.planner.my.entity.Priority;
+import com.planner.my.index.PlanFilterIndex;
+import com.planner.my.repository.FieldProjectionRepository;
+import com.planner.my.repository.PlanSpecifications;
+import com.planner.my.repository.PlanStatusEntry;
 import com.planner.my.repository.MonthlyPlanRepository;
 import com.planner.my.util.PlanStatusValidator;
+import com.planner.my.util.SortedStreams;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class MonthlyService {
 
+    private static final CompressedTextConverter DESCRIPTION_CONVERTER = new CompressedTextConverter();
+
     private final MonthlyPlanRepository monthlyPlanRepository;
+    private final FieldProjectionRepository fieldProjectionRepository;
+    private final ArchivePolicy archivePolicy;
+    private final EntityManager entityManager;
+    private final OutboxService outboxService;
+    private final StatusHistoryService statusHistoryService;
+    private final ChecklistService checklistService;
+    private final PlanTagService planTagService;
+    private final PlanFilterIndex planFilterIndex;
 
     /**
      * 새로운 월간 계획을 생성합니다.
@@ -38,20 +78,60 @@ public class MonthlyService {
                 .status(request.getStatus() != null ? request.getStatus() : PlanStatus.NOT_STARTED)
                 .displayOrder(maxOrder + 1)
                 .build();
-        return MonthlyPlanResponse.from(monthlyPlanRepository.save(plan));
+        MonthlyPlanResponse response = MonthlyPlanResponse.from(monthlyPlanRepository.save(plan));
+        outboxService.record(PlanType.MONTHLY, PlanEventType.CREATED, response.id(), response);
+        statusHistoryService.record(PlanType.MONTHLY, response.id(), response.status());
+        planFilterIndex.put(PlanType.MONTHLY, response.id(), response.status(), response.priority());
+        return response;
     }
 
     /**
      * 모든 월간 계획을 표시 순서대로 조회합니다.
+     * 아카이브된 계획은 요청한 경우에만 포함합니다.
      *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 월간 계획 목록
      */
-    public List<MonthlyPlanResponse> findAll() {
-        return monthlyPlanRepository.findAllByOrderByDisplayOrderAsc().stream()
-                .map(MonthlyPlanResponse::from)
+    public List<MonthlyPlanResponse> findAll(boolean includeArchived) {
+        return withArchived(monthlyPlanRepository.findAllByOrderByDisplayOrderAsc(),
+                archivePolicy.includesArchive(null, includeArchived),
+                monthlyPlanRepository::findAllArchived).stream()
+                .map(MonthlyPlanResponse::fromSummary)
                 .toList();
     }
 
+    /**
+     * 모든 월간 계획의 선택한 필드만 표시 순서대로 조회합니다.
+     *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
+     * @param fields 조회할 필드
+     * @return 선택한 필드만 담은 월간 계획 목록
+     */
+    public List<Map<String, Object>> findAll(boolean includeArchived, FieldSelection fields) {
+        return withArchivedFields(fields, (root, query, cb) -> null,
+                archivePolicy.includesArchive(null, includeArchived),
+                monthlyPlanRepository::findAllArchived);
+    }
+
+    /**
+     * 모든 월간 계획을 표시 순서대로 하나씩 consumer에 넘깁니다.
+     * 커서로 읽은 엔티티는 응답으로 변환한 뒤 영속성 컨텍스트에서 분리하므로 결과 크기만큼 메모리를 쓰지 않습니다.
+     *
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
+     * @param consumer 변환된 응답을 받을 consumer
+     */
+    public void streamAll(boolean includeArchived, Consumer<? super MonthlyPlanResponse> consumer) {
+        try (Stream<MonthlyPlan> plans = monthlyPlanRepository.streamAllByOrderByDisplayOrderAsc();
+             Stream<MonthlyPlan> archived = archivePolicy.includesArchive(null, includeArchived)
+                     ? monthlyPlanRepository.streamAllArchived() : Stream.empty()) {
+            SortedStreams.merge(plans, archived, Comparator.comparingInt(MonthlyPlan::getDisplayOrder))
+                    .forEach(plan -> {
+                        consumer.accept(MonthlyPlanResponse.fromSummary(plan));
+                        entityManager.detach(plan);
+                    });
+        }
+    }
+
     /**
      * ID로 월간 계획을 조회합니다.
      *
@@ -61,6 +141,7 @@ public class MonthlyService {
     public MonthlyPlanResponse findById(Long id) {
         return monthlyPlanRepository.findById(id)
                 .map(MonthlyPlanResponse::from)
+                .or(() -> archivePolicy.isEnabled() ? findArchivedById(id) : Optional.empty())
                 .orElseThrow(() -> new IllegalArgumentException("Monthly plan not found: " + id));
     }
 
@@ -72,11 +153,28 @@ public class MonthlyService {
      * @return 해당 월의 계획 목록
      */
     public List<MonthlyPlanResponse> findByYearAndMonth(Integer year, Integer month) {
-        return monthlyPlanRepository.findByYearAndMonthOrderByDisplayOrderAsc(year, month).stream()
-                .map(MonthlyPlanResponse::from)
+        return withArchived(monthlyPlanRepository.findByYearAndMonthOrderByDisplayOrderAsc(year, month),
+                archivePolicy.includesArchive(year),
+                () -> monthlyPlanRepository.findArchivedByYearAndMonth(year, month)).stream()
+                .map(MonthlyPlanResponse::fromSummary)
                 .toList();
     }
 
+    /**
+     * 특정 연월의 월간 계획의 선택한 필드만 조회합니다.
+     *
+     * @param year 연도
+     * @param month 월
+     * @param fields 조회할 필드
+     * @return 선택한 필드만 담은 월간 계획 목록
+     */
+    public List<Map<String, Object>> findByYearAndMonth(Integer year, Integer month, FieldSelection fields) {
+        return withArchivedFields(fields,
+                (root, query, cb) -> cb.and(cb.equal(root.get("year"), year), cb.equal(root.get("month"), month)),
+                archivePolicy.includesArchive(year),
+                () -> monthlyPlanRepository.findArchivedByYearAndMonth(year, month));
+    }
+
     /**
      * 연도별 월간 계획을 조회합니다.
      *
@@ -84,8 +182,10 @@ public class MonthlyService {
      * @return 해당 연도의 계획 목록
      */
     public List<MonthlyPlanResponse> findByYear(Integer year) {
-        return monthlyPlanRepository.findByYearOrderByDisplayOrderAsc(year).stream()
-                .map(MonthlyPlanResponse::from)
+        return withArchived(monthlyPlanRepository.findByYearOrderByDisplayOrderAsc(year),
+                archivePolicy.includesArchive(year),
+                () -> monthlyPlanRepository.findArchivedByYear(year)).stream()
+                .map(MonthlyPlanResponse::fromSummary)
                 .toList();
     }
 
@@ -93,11 +193,14 @@ public class MonthlyService {
      * 상태별 월간 계획을 조회합니다.
      *
      * @param status 조회할 상태
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 해당 상태의 월간 계획 목록
      */
-    public List<MonthlyPlanResponse> findByStatus(PlanStatus status) {
-        return monthlyPlanRepository.findByStatusOrderByDisplayOrderAsc(status).stream()
-                .map(MonthlyPlanResponse::from)
+    public List<MonthlyPlanResponse> findByStatus(PlanStatus status, boolean includeArchived) {
+        return withArchived(monthlyPlanRepository.findByStatusOrderByDisplayOrderAsc(status),
+                archivePolicy.includesArchive(status, includeArchived),
+                () -> monthlyPlanRepository.findArchivedByStatus(status.name())).stream()
+                .map(MonthlyPlanResponse::fromSummary)
                 .toList();
     }
 
@@ -105,14 +208,174 @@ public class MonthlyService {
      * 우선순위별 월간 계획을 조회합니다.
      *
      * @param priority 조회할 우선순위
+     * @param includeArchived 아카이브된 계획도 포함할지 여부
      * @return 해당 우선순위의 월간 계획 목록
      */
-    public List<MonthlyPlanResponse> findByPriority(Priority priority) {
-        return monthlyPlanRepository.findByPriorityOrderByDisplayOrderAsc(priority).stream()
-                .map(MonthlyPlanResponse::from)
+    public List<MonthlyPlanResponse> findByPriority(Priority priority, boolean includeArchived) {
+        return withArchived(monthlyPlanRepository.findByPriorityOrderByDisplayOrderAsc(priority),
+                archivePolicy.includesArchive(null, includeArchived),
+                () -> monthlyPlanRepository.findArchivedByPriority(priority.name())).stream()
+                .map(MonthlyPlanResponse::fromSummary)
+                .toList();
+    }
+
+    /**
+     * 기준 시점의 상태로 월간 계획을 표시 순서대로 조회합니다.
+     * 상태만 기준 시점의 값이고 나머지 필드는 현재 값이며, 이후 삭제되었거나 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param asOf 기준 시점
+     * @return 기준 시점에 존재하던 월간 계획 목록
+     */
+    public List<MonthlyPlanResponse> findAllAsOf(LocalDateTime asOf) {
+        Map<Long, PlanStatus> statuses = statusHistoryService.statusesAsOf(PlanType.MONTHLY, asOf);
+        return monthlyPlanRepository.findAllById(statuses.keySet()).stream()
+                .sorted(Comparator.comparingInt(MonthlyPlan::getDisplayOrder))
+                .map(plan -> MonthlyPlanResponse.fromSummary(plan).withStatus(statuses.get(plan.getId())))
                 .toList();
     }
 
+    /**
+     * 월간 계획의 상태 변경 이력을 오래된 순서로 조회합니다. 삭제된 계획의 이력도 조회할 수 있습니다.
+     *
+     * @param id 계획 ID
+     * @return 상태 변경 이력
+     */
+    public List<PlanStatusHistoryResponse> findHistory(Long id) {
+        List<PlanStatusHistoryResponse> history = statusHistoryService.findHistory(PlanType.MONTHLY, id);
+        if (history.isEmpty()) {
+            throw new IllegalArgumentException("Monthly plan not found: " + id);
+        }
+        return history;
+    }
+
+    /**
+     * 모든 월간 계획의 체크리스트를 표시 순서대로 조회합니다.
+     * 계획 ID와 항목을 각각 한 번에 조회하므로 계획 수와 관계없이 SQL 문 두 개로 읽습니다.
+     *
+     * @return 계획별 체크리스트 목록
+     */
+    public List<ChecklistResponse> findAllChecklists() {
+        return checklistService.findChecklists(PlanType.MONTHLY, monthlyPlanRepository.findAllIdsOrderByDisplayOrder());
+    }
+
+    /**
+     * 월간 계획의 체크리스트를 조회합니다.
+     *
+     * @param id 계획 ID
+     * @return 체크리스트와 진행률
+     */
+    public ChecklistResponse findChecklist(Long id) {
+        checkExists(id);
+        return checklistService.findChecklist(PlanType.MONTHLY, id);
+    }
+
+    /**
+     * 월간 계획의 체크리스트 마지막에 항목을 추가합니다.
+     *
+     * @param id 계획 ID
+     * @param request 추가할 항목
+     * @return 항목이 추가된 체크리스트
+     */
+    @Transactional
+    public ChecklistResponse addChecklistItem(Long id, ChecklistItemRequest request) {
+        checkExists(id);
+        return checklistService.addItem(PlanType.MONTHLY, id, request);
+    }
+
+    /**
+     * 월간 계획의 체크리스트 항목을 수정합니다.
+     *
+     * @param id 계획 ID
+     * @param itemId 항목 ID
+     * @param request 수정할 내용
+     * @return 항목이 수정된 체크리스트
+     */
+    @Transactional
+    public ChecklistResponse updateChecklistItem(Long id, Long itemId, ChecklistItemRequest request) {
+        checkExists(id);
+        return checklistService.updateItem(PlanType.MONTHLY, id, itemId, request);
+    }
+
+    /**
+     * 월간 계획의 체크리스트 항목을 삭제합니다.
+     *
+     * @param id 계획 ID
+     * @param itemId 항목 ID
+     */
+    @Transactional
+    public void deleteChecklistItem(Long id, Long itemId) {
+        checkExists(id);
+        checklistService.deleteItem(PlanType.MONTHLY, id, itemId);
+    }
+
+    /**
+     * 기간, 상태, 우선순위 조건을 한 번의 쿼리로 함께 걸어 월간 계획을 표시 순서대로 페이지 단위로 조회합니다.
+     * 인덱스가 있는 기간 조건을 먼저 걸고 상태와 우선순위 조건을 뒤에 겁니다.
+     * 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param statuses 허용할 상태 (비어 있으면 적용하지 않음)
+     * @param priorities 허용할 우선순위 (비어 있으면 적용하지 않음)
+     * @param from 이 날짜가 속한 달부터 (null이면 제한 없음)
+     * @param to 이 날짜가 속한 달까지 (null이면 제한 없음)
+     * @param page 페이지 번호 (0부터 시작)
+     * @param size 페이지 크기
+     * @return 조건에 맞는 월간 계획 페이지
+     */
+    public PageResponse<MonthlyPlanResponse> query(Collection<PlanStatus> statuses, Collection<Priority> priorities,
+                                                   LocalDate from, LocalDate to, int page, int size) {
+        Specification<MonthlyPlan> condition = PlanSpecifications.allOf(
+                PlanSpecifications.yearMonthBetween(from, to),
+                PlanSpecifications.statusIn(statuses),
+                PlanSpecifications.priorityIn(priorities));
+        return PageResponse.of(monthlyPlanRepository.findAll(condition, PlanSpecifications.pageOf(page, size))
+                .map(MonthlyPlanResponse::fromSummary));
+    }
+
+    /**
+     * 태그, 상태, 우선순위 조건을 함께 만족하는 월간 계획을 ID 순서대로 페이지 단위로 조회합니다.
+     * 조건은 메모리의 비트맵 인덱스로 계산하고, 요청한 페이지에 속한 계획만 ID로 한 번에 읽습니다.
+     * 아카이브된 계획은 포함하지 않습니다.
+     *
+     * @param tags 모두 가져야 하는 태그 (비어 있으면 적용하지 않음)
+     * @param statuses 허용할 상태 (비어 있으면 적용하지 않음)
+     * @param priorities 허용할 우선순위 (비어 있으면 적용하지 않음)
+     * @param page 페이지 번호 (0부터 시작, 음수면 첫 페이지)
+     * @param size 페이지 크기 (1~{@value PlanSpecifications#MAX_PAGE_SIZE})
+     * @return 조건에 맞는 월간 계획 페이지
+     */
+    public PageResponse<MonthlyPlanResponse> findByFilter(Collection<String> tags, Collection<PlanStatus> statuses,
+                                                          Collection<Priority> priorities, int page, int size) {
+        Page<Long> ids = planFilterIndex.find(PlanType.MONTHLY, tags, statuses, priorities,
+                PlanSpecifications.pageOf(page, size));
+        Map<Long, MonthlyPlanResponse> plans = monthlyPlanRepository.findAllById(ids.getContent()).stream()
+                .collect(Collectors.toMap(MonthlyPlan::getId, MonthlyPlanResponse::fromSummary));
+        return PageResponse.of(ids, plans);
+    }
+
+    /**
+     * 월간 계획의 태그를 이름순으로 조회합니다.
+     *
+     * @param id 계획 ID
+     * @return 태그 목록
+     */
+    public List<String> findTags(Long id) {
+        checkExists(id);
+        return planTagService.findTags(PlanType.MONTHLY, id);
+    }
+
+    /**
+     * 월간 계획의 태그를 모두 바꿉니다.
+     *
+     * @param id 계획 ID
+     * @param tags 새 태그 목록
+     * @return 저장된 태그 목록
+     */
+    @Transactional
+    public List<String> replaceTags(Long id, List<String> tags) {
+        checkExists(id);
+        return planTagService.replaceTags(PlanType.MONTHLY, id, tags);
+    }
+
     /**
      * 월간 계획을 수정합니다.
      *
@@ -130,11 +393,15 @@ public class MonthlyService {
         plan.setYear(request.getYear());
         plan.setMonth(request.getMonth());
         plan.setPriority(request.getPriority());
-        if (request.getStatus() != null) {
+        if (request.getStatus() != null && request.getStatus() != plan.getStatus()) {
             plan.setStatus(request.getStatus());
+            statusHistoryService.record(PlanType.MONTHLY, id, request.getStatus());
         }
 
-        return MonthlyPlanResponse.from(plan);
+        MonthlyPlanResponse response = MonthlyPlanResponse.from(plan);
+        outboxService.record(PlanType.MONTHLY, PlanEventType.UPDATED, id, response);
+        planFilterIndex.put(PlanType.MONTHLY, id, plan.getStatus(), plan.getPriority());
+        return response;
     }
 
     /**
@@ -151,8 +418,46 @@ public class MonthlyService {
         MonthlyPlan plan = monthlyPlanRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Monthly plan not found: " + id));
         PlanStatusValidator.validateStatusChange(plan.getStatus());
-        plan.setStatus(status);
-        return MonthlyPlanResponse.from(plan);
+        if (plan.getStatus() != status) {
+            plan.setStatus(status);
+            statusHistoryService.record(PlanType.MONTHLY, id, status);
+            planFilterIndex.updateStatus(PlanType.MONTHLY, List.of(id), status);
+        }
+        MonthlyPlanResponse response = MonthlyPlanResponse.from(plan);
+        outboxService.record(PlanType.MONTHLY, PlanEventType.STATUS_CHANGED, id, response);
+        return response;
+    }
+
+    /**
+     * 여러 월간 계획의 상태를 한 번에 변경합니다.
+     * 완료(COMPLETED) 또는 실패(FAILED) 상태인 계획과 존재하지 않는 계획은 변경되지 않고 거부 목록에 담깁니다.
+     * 이미 같은 상태인 계획은 거부하지 않지만 UPDATE, 상태 이력, 변경 이벤트에서는 뺍니다.
+     *
+     * @param ids 변경할 계획 ID 목록
+     * @param status 새로운 상태
+     * @return 변경된 계획 ID와 거부된 계획 ID 목록
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(List<Long> ids, PlanStatus status) {
+        List<Long> requestedIds = ids.stream().distinct().toList();
+        List<PlanStatusEntry> updatable =
+                monthlyPlanRepository.findUpdatableStatuses(requestedIds, PlanStatusValidator.FINALIZED_STATUSES);
+        Set<Long> updatableIds = updatable.stream().map(PlanStatusEntry::getPlanId).collect(Collectors.toSet());
+        List<Long> changedIds = updatable.stream()
+                .filter(entry -> entry.getStatus() != status)
+                .map(PlanStatusEntry::getPlanId)
+                .toList();
+        int updatedCount = changedIds.isEmpty() ? 0 : monthlyPlanRepository.updateStatusByIds(
+                changedIds, status, PlanStatusValidator.FINALIZED_STATUSES, LocalDateTime.now());
+        statusHistoryService.recordAll(PlanType.MONTHLY, changedIds, status);
+        outboxService.recordStatusChanged(PlanType.MONTHLY, changedIds, status);
+        planFilterIndex.updateStatus(PlanType.MONTHLY, changedIds, status);
+
+        return BulkStatusUpdateResponse.builder()
+                .updatedCount(updatedCount)
+                .updatedIds(requestedIds.stream().filter(updatableIds::contains).toList())
+                .rejectedIds(requestedIds.stream().filter(id -> !updatableIds.contains(id)).toList())
+                .build();
     }
 
     /**
@@ -166,22 +471,113 @@ public class MonthlyService {
             throw new IllegalArgumentException("Monthly plan not found: " + id);
         }
         monthlyPlanRepository.deleteById(id);
+        outboxService.recordDeleted(PlanType.MONTHLY, id);
+        statusHistoryService.recordDeleted(PlanType.MONTHLY, id);
+        checklistService.deleteAll(PlanType.MONTHLY, id);
+        planTagService.deleteAll(PlanType.MONTHLY, id);
+        planFilterIndex.remove(PlanType.MONTHLY, List.of(id));
     }
 
     /**
      * 월간 계획의 표시 순서를 재정렬합니다.
+     * 대상 계획은 한 번의 IN 조회로 읽고, 변경된 표시 순서는 JDBC 배치로 저장됩니다.
      *
      * @param orderedIds 새로운 순서대로 정렬된 계획 ID 목록
      * @return 재정렬된 월간 계획 목록
      */
     @Transactional
     public List<MonthlyPlanResponse> reorder(List<Long> orderedIds) {
+        Map<Long, MonthlyPlan> plans = monthlyPlanRepository.findAllById(orderedIds).stream()
+                .collect(Collectors.toMap(MonthlyPlan::getId, Function.identity()));
         for (int i = 0; i < orderedIds.size(); i++) {
             Long id = orderedIds.get(i);
-            MonthlyPlan plan = monthlyPlanRepository.findById(id)
-                    .orElseThrow(() -> new IllegalArgumentException("Monthly plan not found: " + id));
+            MonthlyPlan plan = plans.get(id);
+            if (plan == null) {
+                throw new IllegalArgumentException("Monthly plan not found: " + id);
+            }
             plan.setDisplayOrder(i);
         }
-        return findAll();
+        outboxService.recordReordered(PlanType.MONTHLY, orderedIds);
+        return findAll(false);
+    }
+
+    private void checkExists(Long id) {
+        if (!monthlyPlanRepository.existsById(id)) {
+            throw new IllegalArgumentException("Monthly plan not found: " + id);
+        }
+    }
+
+    /**
+     * 필요한 경우 아카이브 테이블 조회 결과를 기본 테이블 조회 결과와 합쳐 표시 순서대로 정렬합니다.
+     *
+     * @param plans 기본 테이블 조회 결과
+     * @param includeArchive 아카이브 테이블을 조회할지 여부
+     * @param archivedPlans 아카이브 테이블 조회
+     * @return 합쳐진 월간 계획 목록
+     */
+    private List<MonthlyPlan> withArchived(List<MonthlyPlan> plans, boolean includeArchive,
+                                     Supplier<List<MonthlyPlan>> archivedPlans) {
+        if (!includeArchive) {
+            return plans;
+        }
+        List<MonthlyPlan> archived = archivedPlans.get();
+        if (archived.isEmpty()) {
+            return plans;
+        }
+        return Stream.concat(plans.stream(), archived.stream())
+                .sorted(Comparator.comparingInt(MonthlyPlan::getDisplayOrder))
+                .toList();
+    }
+
+    /**
+     * 선택한 필드를 SQL로 투영해 조회하고, 필요하면 아카이브된 계획을 표시 순서로 합칩니다.
+     * 아카이브 테이블은 엔티티로 읽은 뒤 메모리에서 필드를 고릅니다.
+     */
+    private List<Map<String, Object>> withArchivedFields(FieldSelection fields, Specification<MonthlyPlan> condition,
+                                                         boolean includeArchive, Supplier<List<MonthlyPlan>> archivedPlans) {
+        if (!includeArchive) {
+            return fieldProjectionRepository.findFields(MonthlyPlan.class, fields, condition);
+        }
+        FieldSelection sortable = fields.with("displayOrder");
+        List<MonthlyPlanResponse> archived = archivedPlans.get().stream()
+                .map(MonthlyPlanResponse::fromSummary)
+                .toList();
+        if (fields.includes("description")) {
+            archived = withArchivedDescriptions(archived);
+        }
+        return Stream.concat(
+                        fieldProjectionRepository.findFields(MonthlyPlan.class, sortable, condition).stream(),
+                        archived.stream().map(sortable::project))
+                .sorted(Comparator.comparing(row -> (Integer) row.get("displayOrder")))
+                .map(fields::retain)
+                .toList();
+    }
+
+    /**
+     * 아카이브된 월간 계획을 설명과 함께 조회합니다.
+     */
+    private Optional<MonthlyPlanResponse> findArchivedById(Long id) {
+        return monthlyPlanRepository.findArchivedById(id)
+                .map(MonthlyPlanResponse::fromSummary)
+                .map(plan -> withArchivedDescriptions(List.of(plan)).getFirst());
+    }
+
+    /**
+     * 아카이브된 계획 응답에 아카이브 테이블의 설명을 채운 목록을 반환합니다.
+     * 네이티브 쿼리로 읽은 엔티티의 지연 로딩 속성은 기본 테이블에서 읽히므로 설명은 따로 조회합니다.
+     */
+    private List<MonthlyPlanResponse> withArchivedDescriptions(List<MonthlyPlanResponse> responses) {
+        if (responses.isEmpty()) {
+            return responses;
+        }
+        Map<Long, String> descriptions = new HashMap<>();
+        for (Object[] row : monthlyPlanRepository.findArchivedDescriptions(
+                responses.stream().map(MonthlyPlanResponse::id).toList())) {
+            descriptions.put(((Number) row[0]).longValue(),
+                    DESCRIPTION_CONVERTER.convertToEntityAttribute((byte[]) row[1]));
+        }
+        return responses.stream()
+                .map(response -> response.withDescription(descriptions.get(response.id())))
+                .toList();
     }
-}
+}
\ No newline at end of file
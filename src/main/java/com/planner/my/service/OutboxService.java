@@ -0,0 +1,92 @@
+package com.planner.my.service;
+
+import com.planner.my.entity.OutboxEvent;
+import com.planner.my.entity.PlanEventType;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
+import com.planner.my.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 계획 변경 이벤트를 아웃박스 테이블에 기록합니다.
+ * 계획을 변경하는 트랜잭션 안에서만 호출할 수 있으므로, 변경이 커밋되면 이벤트도 함께 커밋되고 롤백되면 함께 사라집니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final JsonMapper jsonMapper;
+
+    /**
+     * 계획 하나의 변경을 기록합니다.
+     *
+     * @param planType 계획 유형
+     * @param eventType 변경 종류
+     * @param planId 변경된 계획 ID
+     * @param payload 이벤트 내용 (JSON으로 저장)
+     */
+    public void record(PlanType planType, PlanEventType eventType, Long planId, Object payload) {
+        outboxEventRepository.save(OutboxEvent.builder()
+                .planType(planType)
+                .planId(planId)
+                .eventType(eventType)
+                .payload(jsonMapper.writeValueAsString(payload))
+                .occurredAt(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * 한 번의 UPDATE 문으로 바뀐 여러 계획의 변경을 계획마다 하나씩 기록합니다. INSERT 문은 JDBC 배치로 묶입니다.
+     *
+     * @param planType 계획 유형
+     * @param eventType 변경 종류
+     * @param planIds 변경된 계획 ID
+     * @param payload 계획 ID별 이벤트 내용 (JSON으로 저장)
+     */
+    public void recordAll(PlanType planType, PlanEventType eventType, Collection<Long> planIds,
+                          Function<Long, ?> payload) {
+        LocalDateTime occurredAt = LocalDateTime.now();
+        outboxEventRepository.saveAll(planIds.stream()
+                .map(planId -> OutboxEvent.builder()
+                        .planType(planType)
+                        .planId(planId)
+                        .eventType(eventType)
+                        .payload(jsonMapper.writeValueAsString(payload.apply(planId)))
+                        .occurredAt(occurredAt)
+                        .build())
+                .toList());
+    }
+
+    /**
+     * 여러 계획의 같은 상태 변경을 계획 ID와 새 상태만 담아 기록합니다.
+     */
+    public void recordStatusChanged(PlanType planType, Collection<Long> planIds, PlanStatus status) {
+        recordAll(planType, PlanEventType.STATUS_CHANGED, planIds, planId -> Map.of("id", planId, "status", status));
+    }
+
+    /**
+     * 계획 삭제를 기록합니다.
+     */
+    public void recordDeleted(PlanType planType, Long planId) {
+        record(planType, PlanEventType.DELETED, planId, Map.of("id", planId));
+    }
+
+    /**
+     * 계획 재정렬을 새 순서의 ID 목록으로 기록합니다.
+     */
+    public void recordReordered(PlanType planType, List<Long> orderedIds) {
+        record(planType, PlanEventType.REORDERED, null, Map.of("orderedIds", orderedIds));
+    }
+}
\ No newline at end of file
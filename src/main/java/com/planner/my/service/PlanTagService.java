@@ -0,0 +1,58 @@
+package com.planner.my.service;
+
+import com.planner.my.entity.PlanTag;
+import com.planner.my.entity.PlanType;
+import com.planner.my.index.PlanFilterIndex;
+import com.planner.my.repository.PlanTagRepository;
+import com.planner.my.util.PlanTags;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 계획 태그를 저장하고 필터 인덱스에 알립니다. 계획이 존재하는지는 호출하는 계획 서비스가 확인합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PlanTagService {
+
+    private final PlanTagRepository planTagRepository;
+    private final PlanFilterIndex planFilterIndex;
+
+    /**
+     * 계획의 태그를 이름순으로 조회합니다.
+     */
+    public List<String> findTags(PlanType planType, Long planId) {
+        return planTagRepository.findTags(planType, planId);
+    }
+
+    /**
+     * 계획의 태그를 모두 바꿉니다. 기존 태그 행은 한 번의 DELETE 문으로 지우고 새 태그는 JDBC 배치로 추가합니다.
+     *
+     * @param tags 새 태그 (정규화해 저장)
+     * @return 저장된 태그 목록
+     */
+    @Transactional
+    public List<String> replaceTags(PlanType planType, Long planId, Collection<String> tags) {
+        List<String> normalized = PlanTags.normalize(tags);
+        planTagRepository.deleteByPlan(planType, planId);
+        planTagRepository.saveAll(normalized.stream()
+                .map(tag -> PlanTag.builder().planType(planType).planId(planId).tag(tag).build())
+                .toList());
+        planFilterIndex.replaceTags(planType, planId, normalized);
+        return normalized;
+    }
+
+    /**
+     * 삭제되는 계획의 태그를 모두 삭제합니다. 계획을 삭제하는 트랜잭션 안에서만 호출할 수 있습니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void deleteAll(PlanType planType, Long planId) {
+        planTagRepository.deleteByPlan(planType, planId);
+    }
+}
\ No newline at end of file
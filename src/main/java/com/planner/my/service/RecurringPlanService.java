@@ -0,0 +1,287 @@
+package com.planner.my.service;
+
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.RecurringPlanRequest;
+import com.planner.my.dto.RecurringPlanResponse;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.PlanEventType;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanType;
+import com.planner.my.entity.RecurringPlan;
+import com.planner.my.index.PlanFilterIndex;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.OccurrenceKey;
+import com.planner.my.repository.RecurringPlanRepository;
+import com.planner.my.util.PlanStatusValidator;
+import com.planner.my.util.RecurrenceRule;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class RecurringPlanService {
+
+    private final RecurringPlanRepository recurringPlanRepository;
+    private final DailyPlanRepository dailyPlanRepository;
+    private final StatusHistoryService statusHistoryService;
+    private final OutboxService outboxService;
+    private final ChecklistService checklistService;
+    private final PlanTagService planTagService;
+    private final PlanFilterIndex planFilterIndex;
+
+    /**
+     * 새로운 반복 계획을 생성합니다.
+     *
+     * @param request 반복 계획 생성 요청
+     * @return 생성된 반복 계획 응답
+     * @throws IllegalArgumentException 반복 규칙을 해석할 수 없을 때
+     */
+    @Transactional
+    public RecurringPlanResponse create(RecurringPlanRequest request) {
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule());
+        Integer maxOrder = dailyPlanRepository.findMaxDisplayOrder();
+        RecurringPlan plan = RecurringPlan.builder()
+                .title(request.getTitle())
+                .description(request.getDescription())
+                .priority(request.getPriority())
+                .recurrenceRule(request.getRecurrenceRule())
+                .startDate(request.getStartDate())
+                .endDate(rule.lastOccurrence(request.getStartDate()).orElse(null))
+                .status(PlanStatus.NOT_STARTED)
+                .displayOrder(maxOrder + 1)
+                .build();
+        return RecurringPlanResponse.from(recurringPlanRepository.save(plan));
+    }
+
+    /**
+     * 모든 반복 계획을 표시 순서대로 조회합니다.
+     *
+     * @return 반복 계획 목록
+     */
+    public List<RecurringPlanResponse> findAll() {
+        return recurringPlanRepository.findAllByOrderByDisplayOrderAsc().stream()
+                .map(RecurringPlanResponse::from)
+                .toList();
+    }
+
+    /**
+     * ID로 반복 계획을 조회합니다.
+     *
+     * @param id 조회할 반복 계획 ID
+     * @return 반복 계획 응답
+     */
+    public RecurringPlanResponse findById(Long id) {
+        return RecurringPlanResponse.from(getPlan(id));
+    }
+
+    /**
+     * 반복 계획을 수정합니다. 이미 수정되어 저장된 반복 일정은 그대로 유지됩니다.
+     *
+     * @param id 수정할 반복 계획 ID
+     * @param request 수정 요청
+     * @return 수정된 반복 계획 응답
+     */
+    @Transactional
+    public RecurringPlanResponse update(Long id, RecurringPlanRequest request) {
+        RecurringPlan plan = getPlan(id);
+        RecurrenceRule rule = RecurrenceRule.parse(request.getRecurrenceRule());
+
+        plan.setTitle(request.getTitle());
+        plan.setDescription(request.getDescription());
+        plan.setPriority(request.getPriority());
+        plan.setRecurrenceRule(request.getRecurrenceRule());
+        plan.setStartDate(request.getStartDate());
+        plan.setEndDate(rule.lastOccurrence(request.getStartDate()).orElse(null));
+
+        return RecurringPlanResponse.from(plan);
+    }
+
+    /**
+     * 반복 계획을 삭제합니다. 수정되어 저장된 반복 일정은 일반 일간 계획으로 남습니다.
+     *
+     * @param id 삭제할 반복 계획 ID
+     */
+    @Transactional
+    public void delete(Long id) {
+        RecurringPlan plan = getPlan(id);
+        List<Long> detachedIds = dailyPlanRepository.findIdsByRecurringPlanId(id);
+        dailyPlanRepository.detachFromRecurringPlan(id);
+        outboxService.recordAll(PlanType.DAILY, PlanEventType.UPDATED, detachedIds, planId -> {
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("id", planId);
+            payload.put("recurringPlanId", null);
+            payload.put("occurrenceDate", null);
+            return payload;
+        });
+        recurringPlanRepository.delete(plan);
+    }
+
+    /**
+     * 조회 기간에 해당하는 반복 일정을 메모리에서 펼칩니다.
+     * 삭제된 반복 날짜와, 수정되어 일간 계획으로 저장된 반복 날짜는 제외됩니다.
+     *
+     * @param startDate 시작 날짜
+     * @param endDate 종료 날짜
+     * @return 저장되지 않은 반복 일정 목록
+     */
+    public List<DailyPlanResponse> expandOccurrences(LocalDate startDate, LocalDate endDate) {
+        List<RecurringPlan> templates = recurringPlanRepository.findActiveBetween(startDate, endDate);
+        if (templates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Set<LocalDate>> storedDates = new HashMap<>();
+        List<Long> templateIds = templates.stream().map(RecurringPlan::getId).toList();
+        for (OccurrenceKey key : dailyPlanRepository.findOccurrenceKeys(templateIds, startDate, endDate)) {
+            storedDates.computeIfAbsent(key.getRecurringPlanId(), k -> new HashSet<>()).add(key.getOccurrenceDate());
+        }
+
+        List<DailyPlanResponse> occurrences = new ArrayList<>();
+        for (RecurringPlan template : templates) {
+            RecurrenceRule rule = RecurrenceRule.parse(template.getRecurrenceRule());
+            Set<LocalDate> stored = storedDates.getOrDefault(template.getId(), Set.of());
+            for (LocalDate date : rule.occurrencesBetween(template.getStartDate(), startDate, endDate)) {
+                if (!stored.contains(date) && !template.getExcludedDates().contains(date)) {
+                    occurrences.add(DailyPlanResponse.fromOccurrence(template, date));
+                }
+            }
+        }
+        return occurrences;
+    }
+
+    /**
+     * 특정 반복 일정을 수정합니다. 처음 수정하는 일정이면 일간 계획으로 저장됩니다.
+     *
+     * @param id 반복 계획 ID
+     * @param date 원래 반복 날짜
+     * @param request 수정 요청
+     * @return 저장된 일간 계획 응답
+     */
+    @Transactional
+    public DailyPlanResponse updateOccurrence(Long id, LocalDate date, DailyPlanRequest request) {
+        DailyPlan plan = getOrMaterializeOccurrence(id, date);
+        PlanStatus previousStatus = plan.getId() == null ? null : plan.getStatus();
+
+        plan.setTitle(request.getTitle());
+        plan.setDescription(request.getDescription());
+        plan.setPlanDate(request.getPlanDate());
+        plan.setPriority(request.getPriority());
+        if (request.getStatus() != null) {
+            plan.setStatus(request.getStatus());
+        }
+
+        return saveOccurrence(plan, previousStatus, PlanEventType.UPDATED);
+    }
+
+    /**
+     * 특정 반복 일정의 상태를 변경합니다. 처음 변경하는 일정이면 일간 계획으로 저장됩니다.
+     *
+     * @param id 반복 계획 ID
+     * @param date 원래 반복 날짜
+     * @param status 새로운 상태
+     * @return 저장된 일간 계획 응답
+     * @throws IllegalStateException 완료 또는 실패 상태의 일정을 변경하려 할 때
+     */
+    @Transactional
+    public DailyPlanResponse updateOccurrenceStatus(Long id, LocalDate date, PlanStatus status) {
+        DailyPlan plan = getOrMaterializeOccurrence(id, date);
+        PlanStatus previousStatus = plan.getId() == null ? null : plan.getStatus();
+        PlanStatusValidator.validateStatusChange(plan.getStatus());
+        plan.setStatus(status);
+        return saveOccurrence(plan, previousStatus, PlanEventType.STATUS_CHANGED);
+    }
+
+    /**
+     * 특정 반복 일정을 삭제합니다. 삭제된 날짜는 이후 펼칠 때 제외됩니다.
+     *
+     * @param id 반복 계획 ID
+     * @param date 삭제할 반복 날짜
+     */
+    @Transactional
+    public void deleteOccurrence(Long id, LocalDate date) {
+        RecurringPlan template = getPlan(id);
+        validateOccurrence(template, date);
+        dailyPlanRepository.findByRecurringPlanIdAndOccurrenceDate(id, date)
+                .ifPresent(plan -> {
+                    dailyPlanRepository.delete(plan);
+                    outboxService.recordDeleted(PlanType.DAILY, plan.getId());
+                    statusHistoryService.recordDeleted(PlanType.DAILY, plan.getId());
+                    checklistService.deleteAll(PlanType.DAILY, plan.getId());
+                    planTagService.deleteAll(PlanType.DAILY, plan.getId());
+                    planFilterIndex.remove(PlanType.DAILY, List.of(plan.getId()));
+                });
+        template.getExcludedDates().add(date);
+    }
+
+    /**
+     * 저장된 반복 일정이 일간 계획으로 삭제되었을 때 그 반복 날짜를 제외합니다.
+     * 일정 행은 호출한 쪽에서 이미 삭제했으므로 제외 날짜만 추가합니다.
+     *
+     * @param id 반복 계획 ID
+     * @param date 삭제된 일정의 원래 반복 날짜
+     */
+    @Transactional
+    public void excludeOccurrence(Long id, LocalDate date) {
+        getPlan(id).getExcludedDates().add(date);
+    }
+
+    private DailyPlan getOrMaterializeOccurrence(Long id, LocalDate date) {
+        return dailyPlanRepository.findByRecurringPlanIdAndOccurrenceDate(id, date)
+                .orElseGet(() -> {
+                    RecurringPlan template = getPlan(id);
+                    validateOccurrence(template, date);
+                    return DailyPlan.builder()
+                            .title(template.getTitle())
+                            .description(template.getDescription())
+                            .planDate(date)
+                            .priority(template.getPriority())
+                            .status(PlanStatus.NOT_STARTED)
+                            .displayOrder(template.getDisplayOrder())
+                            .recurringPlanId(template.getId())
+                            .occurrenceDate(date)
+                            .build();
+                });
+    }
+
+    /**
+     * 일정을 저장하고, 처음 저장되었거나 상태가 바뀌었으면 상태 이력을 기록합니다. 필터 인덱스에도 반영합니다.
+     * 처음 저장된 일정은 소비자가 아직 모르는 계획이므로 변경 종류와 관계없이 생성 이벤트로 기록합니다.
+     *
+     * @param previousStatus 수정 전 상태 (아직 저장되지 않은 일정이면 null)
+     * @param eventType 이미 저장된 일정일 때 기록할 변경 종류
+     */
+    private DailyPlanResponse saveOccurrence(DailyPlan plan, PlanStatus previousStatus, PlanEventType eventType) {
+        boolean created = plan.getId() == null;
+        DailyPlan saved = dailyPlanRepository.save(plan);
+        if (saved.getStatus() != previousStatus) {
+            statusHistoryService.record(PlanType.DAILY, saved.getId(), saved.getStatus());
+        }
+        planFilterIndex.put(PlanType.DAILY, saved.getId(), saved.getStatus(), saved.getPriority());
+        DailyPlanResponse response = DailyPlanResponse.from(saved);
+        outboxService.record(PlanType.DAILY, created ? PlanEventType.CREATED : eventType, saved.getId(), response);
+        return response;
+    }
+
+    private void validateOccurrence(RecurringPlan template, LocalDate date) {
+        RecurrenceRule rule = RecurrenceRule.parse(template.getRecurrenceRule());
+        if (template.getExcludedDates().contains(date) || !rule.occursOn(template.getStartDate(), date)) {
+            throw new IllegalArgumentException("Recurring plan occurrence not found: " + template.getId() + "/" + date);
+        }
+    }
+
+    private RecurringPlan getPlan(Long id) {
+        return recurringPlanRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("Recurring plan not found: " + id));
+    }
+}
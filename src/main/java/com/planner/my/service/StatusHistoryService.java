@@ -0,0 +1,154 @@
+package com.planner.my.service;
+
+import com.planner.my.dto.PlanStatusHistoryResponse;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.PlanStatusHistory;
+import com.planner.my.entity.PlanStatusSnapshot;
+import com.planner.my.entity.PlanType;
+import com.planner.my.repository.PlanStatusEntry;
+import com.planner.my.repository.PlanStatusHistoryRepository;
+import com.planner.my.repository.PlanStatusSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 계획 상태 변경 이력을 기록하고, 과거 시점의 상태를 복원합니다.
+ * <p>
+ * 과거 시점의 상태는 그 시점 이전의 가장 최근 스냅샷에서 시작해 스냅샷 이후의 이력만 순서대로 재생해 구합니다.
+ * 스냅샷이 없으면 처음부터 재생합니다.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StatusHistoryService {
+
+    private final PlanStatusHistoryRepository historyRepository;
+    private final PlanStatusSnapshotRepository snapshotRepository;
+
+    /**
+     * 계획 하나의 상태 변경을 기록합니다. 계획을 변경하는 트랜잭션 안에서만 호출할 수 있습니다.
+     *
+     * @param planType 계획 유형
+     * @param planId 계획 ID
+     * @param status 변경 후 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(PlanType planType, Long planId, PlanStatus status) {
+        historyRepository.save(entry(planType, planId, status, LocalDateTime.now()));
+    }
+
+    /**
+     * 여러 계획이 같은 상태로 바뀐 것을 기록합니다. INSERT 문은 JDBC 배치로 묶입니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAll(PlanType planType, Collection<Long> planIds, PlanStatus status) {
+        LocalDateTime changedAt = LocalDateTime.now();
+        historyRepository.saveAll(planIds.stream()
+                .map(planId -> entry(planType, planId, status, changedAt))
+                .toList());
+    }
+
+    /**
+     * 계획 삭제를 상태 없는 이력으로 기록합니다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordDeleted(PlanType planType, Long planId) {
+        record(planType, planId, null);
+    }
+
+    /**
+     * 계획 하나의 상태 변경 이력을 오래된 순서로 조회합니다.
+     *
+     * @return 상태 변경 이력 (기록이 없으면 빈 목록)
+     */
+    public List<PlanStatusHistoryResponse> findHistory(PlanType planType, Long planId) {
+        return historyRepository.findByPlanTypeAndPlanIdOrderByChangedAtAscIdAsc(planType, planId).stream()
+                .map(PlanStatusHistoryResponse::from)
+                .toList();
+    }
+
+    /**
+     * 기준 시점에 존재하던 계획의 ID별 상태를 복원합니다.
+     *
+     * @param planType 계획 유형
+     * @param asOf 기준 시점
+     * @return 계획 ID별 상태 (그 시점에 없었거나 삭제된 계획은 제외)
+     */
+    public Map<Long, PlanStatus> statusesAsOf(PlanType planType, LocalDateTime asOf) {
+        LocalDateTime snapshotAt = snapshotRepository.findLatestSnapshotAt(planType, asOf);
+        Map<Long, PlanStatus> statuses = new HashMap<>();
+        if (snapshotAt == null) {
+            apply(statuses, historyRepository.findChangesUntil(planType, asOf));
+        } else {
+            apply(statuses, snapshotRepository.findStatuses(planType, snapshotAt));
+            apply(statuses, historyRepository.findChangesBetween(planType, snapshotAt, asOf));
+        }
+        return statuses;
+    }
+
+    /**
+     * 기준 시점의 상태를 스냅샷으로 저장합니다. 같은 시점의 스냅샷이 이미 있으면 저장하지 않습니다.
+     *
+     * @return 저장한 스냅샷 행 수
+     */
+    @Transactional
+    public int takeSnapshot(PlanType planType, LocalDateTime snapshotAt) {
+        if (snapshotRepository.existsByPlanTypeAndSnapshotAt(planType, snapshotAt)) {
+            return 0;
+        }
+        List<PlanStatusSnapshot> rows = statusesAsOf(planType, snapshotAt).entrySet().stream()
+                .map(entry -> PlanStatusSnapshot.builder()
+                        .planType(planType)
+                        .snapshotAt(snapshotAt)
+                        .planId(entry.getKey())
+                        .status(entry.getValue())
+                        .build())
+                .toList();
+        snapshotRepository.saveAll(rows);
+        return rows.size();
+    }
+
+    /**
+     * 최근 스냅샷만 남기고 오래된 스냅샷을 삭제합니다. 삭제된 구간의 상태는 이전 스냅샷이나 처음부터 재생해 구합니다.
+     *
+     * @param retained 남길 스냅샷 수
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    public int pruneSnapshots(PlanType planType, int retained) {
+        int keep = Math.max(1, retained);
+        List<LocalDateTime> kept = snapshotRepository.findSnapshotTimes(planType, PageRequest.of(0, keep));
+        if (kept.size() < keep) {
+            return 0;
+        }
+        return snapshotRepository.deleteOlderThan(planType, kept.getLast());
+    }
+
+    private static void apply(Map<Long, PlanStatus> statuses, List<PlanStatusEntry> changes) {
+        for (PlanStatusEntry change : changes) {
+            if (change.getStatus() == null) {
+                statuses.remove(change.getPlanId());
+            } else {
+                statuses.put(change.getPlanId(), change.getStatus());
+            }
+        }
+    }
+
+    private static PlanStatusHistory entry(PlanType planType, Long planId, PlanStatus status, LocalDateTime changedAt) {
+        return PlanStatusHistory.builder()
+                .planType(planType)
+                .planId(planId)
+                .status(status)
+                .changedAt(changedAt)
+                .build();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,388 @@
+package com.planner.my.snapshot;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * H2 PUBLIC 스키마의 모든 테이블 데이터와 시퀀스 값을 바이너리로 저장하고 복원합니다.
+ * <p>
+ * 스키마는 저장하지 않습니다. 복원은 Hibernate가 현재 엔티티로 만든 테이블에 같은 이름의 컬럼만 넣으므로,
+ * 저장한 뒤 엔티티에 컬럼이 추가되거나 빠져도 복원할 수 있습니다.
+ * <p>
+ * 형식: 매직 넘버와 버전, 테이블 수, 테이블마다 이름과 컬럼(이름, 값 종류) 목록과 행들(행마다 1, 끝은 0),
+ * 마지막으로 시퀀스 수와 시퀀스마다 이름과 다시 시작할 값. 값은 null 여부 바이트 뒤에 종류별 고정 길이 또는 길이 접두 바이트로 씁니다.
+ */
+public final class DatabaseSnapshot {
+
+    private static final int MAGIC = 0x504C4E53;
+    private static final int VERSION = 1;
+
+    private DatabaseSnapshot() {
+    }
+
+    /**
+     * 저장 또는 복원한 행 수입니다.
+     *
+     * @param tables 테이블 수
+     * @param rows 행 수
+     */
+    public record Stats(int tables, long rows) {
+    }
+
+    /**
+     * 모든 테이블의 행을 저장합니다. 하나의 REPEATABLE READ 트랜잭션에서 읽으므로 테이블 사이의 데이터가 서로 일치하며,
+     * 시퀀스는 테이블을 다 읽은 뒤에 저장해 저장된 어떤 ID보다 큰 값에서 다시 시작합니다.
+     *
+     * @param connection 자동 커밋을 끈 커넥션
+     * @param out 저장할 스트림
+     */
+    public static Stats write(Connection connection, DataOutputStream out) throws SQLException, IOException {
+        connection.setTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        List<String> tables = tableNames(connection);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(tables.size());
+        long rows = 0;
+        try (Statement statement = connection.createStatement()) {
+            statement.setFetchSize(1000);
+            for (String table : tables) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT * FROM " + quote(table))) {
+                    rows += writeTable(table, resultSet, out);
+                }
+            }
+        }
+        Map<String, Long> sequences = sequenceRestartValues(connection);
+        out.writeInt(sequences.size());
+        for (Map.Entry<String, Long> sequence : sequences.entrySet()) {
+            out.writeUTF(sequence.getKey());
+            out.writeLong(sequence.getValue());
+        }
+        return new Stats(tables.size(), rows);
+    }
+
+    /**
+     * 저장된 행을 현재 테이블에 JDBC 배치 INSERT로 넣고 시퀀스를 다시 시작합니다.
+     * 배치마다 커밋하며, 복원하는 동안 외래 키 검사를 끕니다. 현재 데이터베이스에 없는 테이블과 컬럼은 건너뜁니다.
+     *
+     * @param connection 자동 커밋을 끈 커넥션
+     * @param in 저장된 스트림
+     * @param batchSize 한 번에 INSERT 할 행 수
+     */
+    public static Stats restore(Connection connection, DataInputStream in, int batchSize) throws SQLException, IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not a planner database snapshot");
+        }
+        Set<String> existingTables = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        existingTables.addAll(tableNames(connection));
+        execute(connection, "SET REFERENTIAL_INTEGRITY FALSE");
+        try {
+            int tableCount = in.readInt();
+            long rows = 0;
+            for (int t = 0; t < tableCount; t++) {
+                rows += restoreTable(connection, in, existingTables, Math.max(1, batchSize));
+            }
+            int sequenceCount = in.readInt();
+            Set<String> existingSequences = sequenceRestartValues(connection).keySet();
+            for (int s = 0; s < sequenceCount; s++) {
+                String name = in.readUTF();
+                long restartWith = in.readLong();
+                if (existingSequences.contains(name)) {
+                    execute(connection, "ALTER SEQUENCE " + quote(name) + " RESTART WITH " + restartWith);
+                }
+            }
+            connection.commit();
+            return new Stats(tableCount, rows);
+        } finally {
+            execute(connection, "SET REFERENTIAL_INTEGRITY TRUE");
+        }
+    }
+
+    /**
+     * 데이터가 있는 테이블이 하나라도 있는지 확인합니다.
+     */
+    public static boolean hasData(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String table : tableNames(connection)) {
+                try (ResultSet resultSet = statement.executeQuery("SELECT 1 FROM " + quote(table) + " LIMIT 1")) {
+                    if (resultSet.next()) {
+                        return true;
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private static long writeTable(String table, ResultSet resultSet, DataOutputStream out)
+            throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        ValueKind[] kinds = new ValueKind[columnCount];
+        out.writeUTF(table);
+        out.writeInt(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            kinds[i] = ValueKind.of(metaData.getColumnType(i + 1));
+            out.writeUTF(metaData.getColumnName(i + 1));
+            out.writeByte(kinds[i].ordinal());
+        }
+        long rows = 0;
+        while (resultSet.next()) {
+            out.writeBoolean(true);
+            for (int i = 0; i < columnCount; i++) {
+                kinds[i].write(resultSet, i + 1, out);
+            }
+            rows++;
+        }
+        out.writeBoolean(false);
+        return rows;
+    }
+
+    private static long restoreTable(Connection connection, DataInputStream in, Set<String> existingTables,
+                                     int batchSize) throws SQLException, IOException {
+        String table = in.readUTF();
+        int columnCount = in.readInt();
+        String[] columns = new String[columnCount];
+        ValueKind[] kinds = new ValueKind[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columns[i] = in.readUTF();
+            kinds[i] = ValueKind.values()[in.readUnsignedByte()];
+        }
+        boolean exists = existingTables.contains(table);
+        int[] parameterIndexes = exists ? parameterIndexes(connection, table, columns) : new int[columnCount];
+
+        long rows = 0;
+        try (PreparedStatement insert = exists ? connection.prepareStatement(insertSql(table, columns, parameterIndexes)) : null) {
+            int pending = 0;
+            while (in.readBoolean()) {
+                for (int i = 0; i < columnCount; i++) {
+                    Object value = kinds[i].read(in);
+                    if (insert != null && parameterIndexes[i] > 0) {
+                        kinds[i].bind(insert, parameterIndexes[i], value);
+                    }
+                }
+                if (insert != null) {
+                    insert.addBatch();
+                    if (++pending == batchSize) {
+                        insert.executeBatch();
+                        connection.commit();
+                        pending = 0;
+                    }
+                }
+                rows++;
+            }
+            if (insert != null && pending > 0) {
+                insert.executeBatch();
+                connection.commit();
+            }
+        }
+        return exists ? rows : 0;
+    }
+
+    /**
+     * 저장된 컬럼마다 INSERT 문의 파라미터 위치를 구합니다. 현재 테이블에 없는 컬럼은 0입니다.
+     */
+    private static int[] parameterIndexes(Connection connection, String table, String[] columns) throws SQLException {
+        Set<String> current = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT COLUMN_NAME FROM INFORMATION_SCHEMA.COLUMNS WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_NAME = ?")) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    current.add(resultSet.getString(1));
+                }
+            }
+        }
+        int[] indexes = new int[columns.length];
+        int next = 1;
+        for (int i = 0; i < columns.length; i++) {
+            if (current.contains(columns[i])) {
+                indexes[i] = next++;
+            }
+        }
+        return indexes;
+    }
+
+    private static String insertSql(String table, String[] columns, int[] parameterIndexes) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < columns.length; i++) {
+            if (parameterIndexes[i] > 0) {
+                names.add(quote(columns[i]));
+            }
+        }
+        return "INSERT INTO " + quote(table) + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", Collections.nCopies(names.size(), "?")) + ")";
+    }
+
+    private static List<String> tableNames(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT TABLE_NAME FROM INFORMATION_SCHEMA.TABLES "
+                     + "WHERE TABLE_SCHEMA = 'PUBLIC' AND TABLE_TYPE = 'BASE TABLE' ORDER BY TABLE_NAME")) {
+            while (resultSet.next()) {
+                tables.add(resultSet.getString(1));
+            }
+        }
+        return tables;
+    }
+
+    /**
+     * 시퀀스마다 다음 값보다 한 증가분 뒤의 값을 구합니다.
+     * Hibernate는 받은 값 앞쪽 구간을 ID로 쓰므로, 이 값에서 다시 시작하면 이미 나눠 준 구간과 겹치지 않습니다.
+     */
+    private static Map<String, Long> sequenceRestartValues(Connection connection) throws SQLException {
+        Map<String, Long> sequences = new LinkedHashMap<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT SEQUENCE_NAME, BASE_VALUE + INCREMENT "
+                     + "FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_SCHEMA = 'PUBLIC' ORDER BY SEQUENCE_NAME")) {
+            while (resultSet.next()) {
+                sequences.put(resultSet.getString(1), resultSet.getLong(2));
+            }
+        }
+        return sequences;
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static String quote(String identifier) {
+        return '"' + identifier.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * 컬럼 값의 저장 방식입니다. 여기에 없는 타입은 문자열로 저장하고 H2가 컬럼 타입으로 변환합니다.
+     */
+    private enum ValueKind {
+        LONG, INT, BOOLEAN, DOUBLE, DATE, TIME, TIMESTAMP, BYTES, STRING;
+
+        static ValueKind of(int sqlType) {
+            return switch (sqlType) {
+                case Types.BIGINT -> LONG;
+                case Types.INTEGER, Types.SMALLINT, Types.TINYINT -> INT;
+                case Types.BOOLEAN, Types.BIT -> BOOLEAN;
+                case Types.DOUBLE, Types.FLOAT, Types.REAL -> DOUBLE;
+                case Types.DATE -> DATE;
+                case Types.TIME -> TIME;
+                case Types.TIMESTAMP -> TIMESTAMP;
+                case Types.BINARY, Types.VARBINARY, Types.LONGVARBINARY, Types.BLOB -> BYTES;
+                default -> STRING;
+            };
+        }
+
+        void write(ResultSet resultSet, int column, DataOutputStream out) throws SQLException, IOException {
+            switch (this) {
+                case LONG -> {
+                    long value = resultSet.getLong(column);
+                    if (writeNull(resultSet.wasNull(), out)) {
+                        out.writeLong(value);
+                    }
+                }
+                case INT -> {
+                    int value = resultSet.getInt(column);
+                    if (writeNull(resultSet.wasNull(), out)) {
+                        out.writeInt(value);
+                    }
+                }
+                case BOOLEAN -> {
+                    boolean value = resultSet.getBoolean(column);
+                    if (writeNull(resultSet.wasNull(), out)) {
+                        out.writeBoolean(value);
+                    }
+                }
+                case DOUBLE -> {
+                    double value = resultSet.getDouble(column);
+                    if (writeNull(resultSet.wasNull(), out)) {
+                        out.writeDouble(value);
+                    }
+                }
+                case DATE -> {
+                    LocalDate value = resultSet.getObject(column, LocalDate.class);
+                    if (writeNull(value == null, out)) {
+                        out.writeLong(value.toEpochDay());
+                    }
+                }
+                case TIME -> {
+                    LocalTime value = resultSet.getObject(column, LocalTime.class);
+                    if (writeNull(value == null, out)) {
+                        out.writeLong(value.toNanoOfDay());
+                    }
+                }
+                case TIMESTAMP -> {
+                    LocalDateTime value = resultSet.getObject(column, LocalDateTime.class);
+                    if (writeNull(value == null, out)) {
+                        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+                        out.writeInt(value.getNano());
+                    }
+                }
+                case BYTES -> writeBytes(resultSet.getBytes(column), out);
+                case STRING -> {
+                    String value = resultSet.getString(column);
+                    writeBytes(value == null ? null : value.getBytes(StandardCharsets.UTF_8), out);
+                }
+            }
+        }
+
+        Object read(DataInputStream in) throws IOException {
+            if (!in.readBoolean()) {
+                return null;
+            }
+            return switch (this) {
+                case LONG -> in.readLong();
+                case INT -> in.readInt();
+                case BOOLEAN -> in.readBoolean();
+                case DOUBLE -> in.readDouble();
+                case DATE -> LocalDate.ofEpochDay(in.readLong());
+                case TIME -> LocalTime.ofNanoOfDay(in.readLong());
+                case TIMESTAMP -> LocalDateTime.ofEpochSecond(in.readLong(), in.readInt(), ZoneOffset.UTC);
+                case BYTES -> in.readNBytes(in.readInt());
+                case STRING -> new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8);
+            };
+        }
+
+        void bind(PreparedStatement statement, int index, Object value) throws SQLException {
+            if (value == null) {
+                statement.setNull(index, this == BYTES ? Types.VARBINARY : Types.NULL);
+            } else if (this == BYTES) {
+                statement.setBytes(index, (byte[]) value);
+            } else if (this == STRING) {
+                statement.setString(index, (String) value);
+            } else {
+                statement.setObject(index, value);
+            }
+        }
+
+        private static boolean writeNull(boolean isNull, DataOutputStream out) throws IOException {
+            out.writeBoolean(!isNull);
+            return !isNull;
+        }
+
+        private static void writeBytes(byte[] value, DataOutputStream out) throws IOException {
+            if (writeNull(value == null, out)) {
+                out.writeInt(value.length);
+                out.write(value);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.planner.my.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 날짜와 일시를 객체 대신 원시 타입 값으로 보관하기 위한 변환 유틸리티입니다.
+ * 날짜는 1970-01-01부터의 일 수(epoch day), 일시는 1970-01-01T00:00(UTC 기준)부터의 마이크로초로 나타냅니다.
+ * 값이 없으면 각각 {@link #NO_DATE}, {@link #NO_DATE_TIME}을 사용합니다.
+ */
+public final class EpochValues {
+
+    /**
+     * 날짜가 없음을 나타내는 epoch day 값
+     */
+    public static final int NO_DATE = Integer.MIN_VALUE;
+
+    /**
+     * 일시가 없음을 나타내는 epoch 마이크로초 값
+     */
+    public static final long NO_DATE_TIME = Long.MIN_VALUE;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int NANOS_PER_MICRO = 1_000;
+
+    private EpochValues() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    public static int epochDay(LocalDate date) {
+        return date != null ? Math.toIntExact(date.toEpochDay()) : NO_DATE;
+    }
+
+    public static LocalDate date(int epochDay) {
+        return epochDay != NO_DATE ? LocalDate.ofEpochDay(epochDay) : null;
+    }
+
+    /**
+     * 일시를 epoch 마이크로초로 바꿉니다. DB 컬럼(TIMESTAMP(6))과 같이 마이크로초 미만은 버립니다.
+     */
+    public static long epochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NO_DATE_TIME;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / NANOS_PER_MICRO;
+    }
+
+    public static LocalDateTime dateTime(long epochMicros) {
+        if (epochMicros == NO_DATE_TIME) {
+            return null;
+        }
+        long seconds = Math.floorDiv(epochMicros, MICROS_PER_SECOND);
+        int nanos = (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * NANOS_PER_MICRO;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+}
\ No newline at end of file
@@ -2,11 +2,19 @@ package com.planner.my.util;
 
 import com.planner.my.entity.PlanStatus;
 
+import java.util.Set;
+
 /**
  * 계획 상태 관련 검증 유틸리티 클래스입니다.
  */
 public final class PlanStatusValidator {
 
+    /**
+     * 더 이상 상태를 변경할 수 없는 최종 상태 목록입니다.
+     * 일괄 변경 쿼리의 WHERE 조건에 그대로 전달됩니다.
+     */
+    public static final Set<PlanStatus> FINALIZED_STATUSES = Set.of(PlanStatus.COMPLETED, PlanStatus.FAILED);
+
     private PlanStatusValidator() {
         // 유틸리티 클래스이므로 인스턴스화 방지
     }
@@ -31,6 +39,6 @@ public final class PlanStatusValidator {
      * @return 최종 상태이면 true, 아니면 false
      */
     public static boolean isFinalized(PlanStatus status) {
-        return status == PlanStatus.COMPLETED || status == PlanStatus.FAILED;
+        return FINALIZED_STATUSES.contains(status);
     }
 }
@@ -0,0 +1,39 @@
+package com.planner.my.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 계획 태그 관련 유틸리티 클래스입니다.
+ */
+public final class PlanTags {
+
+    /**
+     * 태그 하나의 최대 길이입니다.
+     */
+    public static final int MAX_LENGTH = 50;
+
+    private PlanTags() {
+        // 유틸리티 클래스이므로 인스턴스화 방지
+    }
+
+    /**
+     * 태그의 앞뒤 공백을 없애고 소문자로 바꾼 뒤, 빈 태그와 중복을 빼고 정렬합니다.
+     * 저장할 때와 조회할 때 같은 규칙을 적용하므로 대소문자와 공백이 달라도 같은 태그로 찾습니다.
+     *
+     * @param tags 입력 태그 (null이면 빈 목록)
+     * @return 정규화된 태그 목록
+     */
+    public static List<String> normalize(Collection<String> tags) {
+        if (tags == null) {
+            return List.of();
+        }
+        return tags.stream()
+                .map(tag -> tag.strip().toLowerCase(Locale.ROOT))
+                .filter(tag -> !tag.isEmpty())
+                .distinct()
+                .sorted()
+                .toList();
+    }
+}
\ No newline at end of file
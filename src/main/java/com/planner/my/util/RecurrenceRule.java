@@ -0,0 +1,316 @@
+package com.planner.my.util;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * RFC 5545 RRULE 형식의 날짜 반복 규칙입니다.
+ * 일 단위 계획에 필요한 FREQ(DAILY, WEEKLY, MONTHLY, YEARLY), INTERVAL, COUNT, UNTIL,
+ * BYDAY(서수 없는 요일), BYMONTHDAY, WKST(MO만 허용)를 지원합니다.
+ * <p>
+ * 반복은 저장하지 않고 요청된 기간에 대해서만 메모리에서 계산합니다. COUNT가 없으면
+ * 조회 시작일이 속한 주기로 바로 건너뛰므로 기간 길이에 비례하는 시간만 사용합니다.
+ */
+public final class RecurrenceRule {
+
+    private static final DateTimeFormatter UNTIL_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    /**
+     * 조건에 맞는 날짜가 없는 주기가 반복되는 규칙에서 COUNT 계산이 끝나지 않는 것을 막기 위한 주기 수 배수
+     */
+    private static final long MAX_PERIODS_PER_COUNT = 400;
+
+    private final Frequency frequency;
+    private final int interval;
+    private final Integer count;
+    private final LocalDate until;
+    private final Set<DayOfWeek> byDay;
+    private final List<Integer> byMonthDay;
+
+    private RecurrenceRule(Frequency frequency, int interval, Integer count, LocalDate until,
+                           Set<DayOfWeek> byDay, List<Integer> byMonthDay) {
+        this.frequency = frequency;
+        this.interval = interval;
+        this.count = count;
+        this.until = until;
+        this.byDay = byDay;
+        this.byMonthDay = byMonthDay;
+    }
+
+    /**
+     * RRULE 문자열을 해석합니다. "RRULE:" 접두어는 생략할 수 있습니다.
+     *
+     * @param rule 반복 규칙 (예: FREQ=WEEKLY;BYDAY=MO,TU,WE,TH,FR)
+     * @return 해석된 반복 규칙
+     * @throws IllegalArgumentException 형식이 잘못되었거나 지원하지 않는 항목이 있을 때
+     */
+    public static RecurrenceRule parse(String rule) {
+        if (rule == null || rule.isBlank()) {
+            throw new IllegalArgumentException("Recurrence rule is required");
+        }
+        String body = rule.trim().toUpperCase(Locale.ROOT);
+        if (body.startsWith("RRULE:")) {
+            body = body.substring("RRULE:".length());
+        }
+
+        Frequency frequency = null;
+        int interval = 1;
+        Integer count = null;
+        LocalDate until = null;
+        Set<DayOfWeek> byDay = EnumSet.noneOf(DayOfWeek.class);
+        List<Integer> byMonthDay = new ArrayList<>();
+
+        for (String part : body.split(";")) {
+            int separator = part.indexOf('=');
+            if (separator <= 0 || separator == part.length() - 1) {
+                throw new IllegalArgumentException("Invalid recurrence rule part: " + part);
+            }
+            String name = part.substring(0, separator);
+            String value = part.substring(separator + 1);
+            switch (name) {
+                case "FREQ" -> frequency = parseFrequency(value);
+                case "INTERVAL" -> interval = parsePositive(name, value);
+                case "COUNT" -> count = parsePositive(name, value);
+                case "UNTIL" -> until = parseUntil(value);
+                case "BYDAY" -> {
+                    for (String day : value.split(",")) {
+                        byDay.add(parseDay(day));
+                    }
+                }
+                case "BYMONTHDAY" -> {
+                    for (String day : value.split(",")) {
+                        byMonthDay.add(parseMonthDay(day));
+                    }
+                }
+                case "WKST" -> {
+                    if (!"MO".equals(value)) {
+                        throw new IllegalArgumentException("Only WKST=MO is supported");
+                    }
+                }
+                default -> throw new IllegalArgumentException("Unsupported recurrence rule part: " + name);
+            }
+        }
+
+        if (frequency == null) {
+            throw new IllegalArgumentException("FREQ is required in recurrence rule");
+        }
+        if (count != null && until != null) {
+            throw new IllegalArgumentException("COUNT and UNTIL must not be used together");
+        }
+        if (!byDay.isEmpty() && frequency != Frequency.DAILY && frequency != Frequency.WEEKLY) {
+            throw new IllegalArgumentException("BYDAY is supported only with FREQ=DAILY or FREQ=WEEKLY");
+        }
+        if (!byMonthDay.isEmpty() && frequency != Frequency.MONTHLY) {
+            throw new IllegalArgumentException("BYMONTHDAY is supported only with FREQ=MONTHLY");
+        }
+        return new RecurrenceRule(frequency, interval, count, until,
+                Collections.unmodifiableSet(byDay), List.copyOf(byMonthDay));
+    }
+
+    /**
+     * 시작일(DTSTART)부터 반복되는 날짜 중 조회 기간에 속하는 날짜를 오름차순으로 반환합니다.
+     *
+     * @param start 반복 시작일 (첫 번째 반복이 될 수 있는 날짜)
+     * @param from 조회 시작일 (포함)
+     * @param to 조회 종료일 (포함)
+     * @return 조회 기간 내 반복 날짜 목록
+     */
+    public List<LocalDate> occurrencesBetween(LocalDate start, LocalDate from, LocalDate to) {
+        LocalDate end = until != null && until.isBefore(to) ? until : to;
+        if (end.isBefore(from) || end.isBefore(start)) {
+            return List.of();
+        }
+
+        List<LocalDate> result = new ArrayList<>();
+        int emitted = 0;
+        for (long period = firstPeriod(start, from); ; period++) {
+            LocalDate periodStart = periodStart(start, period);
+            if (periodStart.isAfter(end)) {
+                return result;
+            }
+            for (LocalDate date : candidates(start, periodStart)) {
+                if (date.isBefore(start)) {
+                    continue;
+                }
+                if (date.isAfter(end) || (count != null && emitted >= count)) {
+                    return result;
+                }
+                emitted++;
+                if (!date.isBefore(from)) {
+                    result.add(date);
+                }
+            }
+        }
+    }
+
+    /**
+     * 해당 날짜가 반복 날짜 중 하나인지 확인합니다.
+     */
+    public boolean occursOn(LocalDate start, LocalDate date) {
+        return !occurrencesBetween(start, date, date).isEmpty();
+    }
+
+    /**
+     * 반복이 끝나는 마지막 날짜를 계산합니다. UNTIL과 COUNT가 모두 없으면 비어 있습니다.
+     */
+    public Optional<LocalDate> lastOccurrence(LocalDate start) {
+        if (until != null) {
+            return Optional.of(until);
+        }
+        if (count == null) {
+            return Optional.empty();
+        }
+        int emitted = 0;
+        LocalDate last = null;
+        long maxPeriods = count * MAX_PERIODS_PER_COUNT;
+        for (long period = 0; emitted < count && period < maxPeriods; period++) {
+            for (LocalDate date : candidates(start, periodStart(start, period))) {
+                if (date.isBefore(start)) {
+                    continue;
+                }
+                last = date;
+                if (++emitted >= count) {
+                    break;
+                }
+            }
+        }
+        return Optional.ofNullable(last);
+    }
+
+    /**
+     * 조회 시작일이 속한 주기의 번호를 계산합니다. COUNT가 있으면 처음부터 세어야 하므로 0을 반환합니다.
+     */
+    private long firstPeriod(LocalDate start, LocalDate from) {
+        if (count != null || !from.isAfter(start)) {
+            return 0;
+        }
+        long units = switch (frequency) {
+            case DAILY -> ChronoUnit.DAYS.between(start, from);
+            case WEEKLY -> ChronoUnit.WEEKS.between(weekStart(start), weekStart(from));
+            case MONTHLY -> ChronoUnit.MONTHS.between(YearMonth.from(start), YearMonth.from(from));
+            case YEARLY -> from.getYear() - start.getYear();
+        };
+        return units / interval;
+    }
+
+    private LocalDate periodStart(LocalDate start, long period) {
+        long units = period * interval;
+        return switch (frequency) {
+            case DAILY -> start.plusDays(units);
+            case WEEKLY -> weekStart(start).plusWeeks(units);
+            case MONTHLY -> start.withDayOfMonth(1).plusMonths(units);
+            case YEARLY -> start.withDayOfYear(1).plusYears(units);
+        };
+    }
+
+    private List<LocalDate> candidates(LocalDate start, LocalDate periodStart) {
+        return switch (frequency) {
+            case DAILY -> byDay.isEmpty() || byDay.contains(periodStart.getDayOfWeek())
+                    ? List.of(periodStart) : List.of();
+            case WEEKLY -> {
+                Set<DayOfWeek> days = byDay.isEmpty() ? Set.of(start.getDayOfWeek()) : byDay;
+                List<LocalDate> dates = new ArrayList<>(days.size());
+                for (DayOfWeek day : DayOfWeek.values()) {
+                    if (days.contains(day)) {
+                        dates.add(periodStart.plusDays(day.getValue() - 1L));
+                    }
+                }
+                yield dates;
+            }
+            case MONTHLY -> {
+                YearMonth month = YearMonth.from(periodStart);
+                List<Integer> days = byMonthDay.isEmpty() ? List.of(start.getDayOfMonth()) : byMonthDay;
+                TreeSet<LocalDate> dates = new TreeSet<>();
+                for (int day : days) {
+                    int resolved = day > 0 ? day : month.lengthOfMonth() + day + 1;
+                    if (resolved >= 1 && resolved <= month.lengthOfMonth()) {
+                        dates.add(month.atDay(resolved));
+                    }
+                }
+                yield List.copyOf(dates);
+            }
+            case YEARLY -> {
+                YearMonth month = YearMonth.of(periodStart.getYear(), start.getMonth());
+                yield start.getDayOfMonth() <= month.lengthOfMonth()
+                        ? List.of(month.atDay(start.getDayOfMonth())) : List.of();
+            }
+        };
+    }
+
+    private static LocalDate weekStart(LocalDate date) {
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    private static Frequency parseFrequency(String value) {
+        try {
+            return Frequency.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported FREQ: " + value);
+        }
+    }
+
+    private static int parsePositive(String name, String value) {
+        try {
+            int parsed = Integer.parseInt(value);
+            if (parsed > 0) {
+                return parsed;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 공통 메시지로 처리
+        }
+        throw new IllegalArgumentException(name + " must be a positive integer: " + value);
+    }
+
+    private static LocalDate parseUntil(String value) {
+        try {
+            return LocalDate.parse(value.length() > 8 ? value.substring(0, 8) : value, UNTIL_DATE);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid UNTIL: " + value);
+        }
+    }
+
+    private static DayOfWeek parseDay(String value) {
+        return switch (value) {
+            case "MO" -> DayOfWeek.MONDAY;
+            case "TU" -> DayOfWeek.TUESDAY;
+            case "WE" -> DayOfWeek.WEDNESDAY;
+            case "TH" -> DayOfWeek.THURSDAY;
+            case "FR" -> DayOfWeek.FRIDAY;
+            case "SA" -> DayOfWeek.SATURDAY;
+            case "SU" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("Unsupported BYDAY value: " + value);
+        };
+    }
+
+    private static int parseMonthDay(String value) {
+        try {
+            int day = Integer.parseInt(value);
+            if (day != 0 && day >= -31 && day <= 31) {
+                return day;
+            }
+        } catch (NumberFormatException ignored) {
+            // 아래에서 공통 메시지로 처리
+        }
+        throw new IllegalArgumentException("Invalid BYMONTHDAY value: " + value);
+    }
+
+    private enum Frequency {
+        DAILY,
+        WEEKLY,
+        MONTHLY,
+        YEARLY
+    }
+}
@@ -0,0 +1,70 @@
+package com.planner.my.util;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 이미 정렬된 스트림을 다루는 유틸리티입니다.
+ */
+public final class SortedStreams {
+
+    private SortedStreams() {
+    }
+
+    /**
+     * 같은 기준으로 정렬된 두 스트림을 원소를 모으지 않고 하나의 정렬된 스트림으로 합칩니다.
+     * 값이 같으면 첫 번째 스트림의 원소가 먼저 옵니다. 원본 스트림은 호출한 쪽에서 닫아야 합니다.
+     *
+     * @param first 첫 번째 정렬된 스트림
+     * @param second 두 번째 정렬된 스트림
+     * @param comparator 두 스트림의 정렬 기준
+     * @return 합쳐진 정렬된 스트림
+     */
+    public static <T> Stream<T> merge(Stream<T> first, Stream<T> second, Comparator<? super T> comparator) {
+        Iterator<T> merged = new MergingIterator<>(first.iterator(), second.iterator(), comparator);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(merged, Spliterator.ORDERED), false);
+    }
+
+    private static final class MergingIterator<T> implements Iterator<T> {
+
+        private final Iterator<T> first;
+        private final Iterator<T> second;
+        private final Comparator<? super T> comparator;
+        private T nextFirst;
+        private T nextSecond;
+
+        private MergingIterator(Iterator<T> first, Iterator<T> second, Comparator<? super T> comparator) {
+            this.first = first;
+            this.second = second;
+            this.comparator = comparator;
+            this.nextFirst = first.hasNext() ? first.next() : null;
+            this.nextSecond = second.hasNext() ? second.next() : null;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextFirst != null || nextSecond != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T result;
+            if (nextSecond == null || (nextFirst != null && comparator.compare(nextFirst, nextSecond) <= 0)) {
+                result = nextFirst;
+                nextFirst = first.hasNext() ? first.next() : null;
+            } else {
+                result = nextSecond;
+                nextSecond = second.hasNext() ? second.next() : null;
+            }
+            return result;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,138 @@
+-- fast-startup 프로필에서 Hibernate가 스키마를 갱신하지 않고 검증만 하도록 미리 만드는 스키마입니다.
+-- 엔티티를 변경하면 이 파일도 함께 변경해야 합니다.
+
+CREATE SEQUENCE IF NOT EXISTS daily_plan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS weekly_plan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS monthly_plan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS yearly_plan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS recurring_plan_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS plan_status_history_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS plan_status_snapshot_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS checklist_item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS plan_tag_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS daily_plans (
+    id                BIGINT NOT NULL PRIMARY KEY,
+    status            ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL,
+    display_order     INTEGER NOT NULL,
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    title             VARCHAR(255) NOT NULL,
+    description       BLOB,
+    plan_date         DATE NOT NULL,
+    priority          ENUM ('HIGH', 'MEDIUM', 'LOW') NOT NULL,
+    recurring_plan_id BIGINT,
+    occurrence_date   DATE
+);
+CREATE INDEX IF NOT EXISTS idx_daily_plans_plan_date ON daily_plans (plan_date);
+CREATE INDEX IF NOT EXISTS idx_daily_plans_occurrence ON daily_plans (recurring_plan_id, occurrence_date);
+
+CREATE TABLE IF NOT EXISTS weekly_plans (
+    id              BIGINT NOT NULL PRIMARY KEY,
+    status          ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL,
+    display_order   INTEGER NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    title           VARCHAR(255) NOT NULL,
+    description     BLOB,
+    week_start_date DATE NOT NULL,
+    week_end_date   DATE NOT NULL,
+    priority        ENUM ('HIGH', 'MEDIUM', 'LOW') NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_weekly_plans_week_end_date ON weekly_plans (week_end_date);
+
+CREATE TABLE IF NOT EXISTS monthly_plans (
+    id            BIGINT NOT NULL PRIMARY KEY,
+    status        ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL,
+    display_order INTEGER NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    title         VARCHAR(255) NOT NULL,
+    description   BLOB,
+    plan_year     INTEGER NOT NULL,
+    plan_month    INTEGER NOT NULL,
+    priority      ENUM ('HIGH', 'MEDIUM', 'LOW') NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_monthly_plans_year_month ON monthly_plans (plan_year, plan_month);
+
+CREATE TABLE IF NOT EXISTS yearly_plans (
+    id            BIGINT NOT NULL PRIMARY KEY,
+    status        ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL,
+    display_order INTEGER NOT NULL,
+    created_at    TIMESTAMP(6),
+    updated_at    TIMESTAMP(6),
+    title         VARCHAR(255) NOT NULL,
+    description   BLOB,
+    plan_year     INTEGER NOT NULL,
+    priority      ENUM ('HIGH', 'MEDIUM', 'LOW') NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_yearly_plans_year ON yearly_plans (plan_year);
+
+CREATE TABLE IF NOT EXISTS recurring_plans (
+    id              BIGINT NOT NULL PRIMARY KEY,
+    status          ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL,
+    display_order   INTEGER NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    title           VARCHAR(255) NOT NULL,
+    description     VARCHAR(255),
+    priority        ENUM ('HIGH', 'MEDIUM', 'LOW') NOT NULL,
+    recurrence_rule VARCHAR(255) NOT NULL,
+    start_date      DATE NOT NULL,
+    end_date        DATE
+);
+CREATE INDEX IF NOT EXISTS idx_recurring_plans_period ON recurring_plans (start_date, end_date);
+
+CREATE TABLE IF NOT EXISTS recurring_plan_excluded_dates (
+    recurring_plan_id BIGINT NOT NULL,
+    excluded_date     DATE NOT NULL,
+    PRIMARY KEY (recurring_plan_id, excluded_date),
+    CONSTRAINT fk_excluded_dates_recurring_plan FOREIGN KEY (recurring_plan_id) REFERENCES recurring_plans (id)
+);
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id          BIGINT NOT NULL PRIMARY KEY,
+    plan_type   ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY') NOT NULL,
+    plan_id     BIGINT,
+    event_type  ENUM ('CREATED', 'UPDATED', 'STATUS_CHANGED', 'DELETED', 'REORDERED') NOT NULL,
+    payload     CLOB NOT NULL,
+    occurred_at TIMESTAMP(6) NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS plan_status_history (
+    id         BIGINT NOT NULL PRIMARY KEY,
+    plan_type  ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY') NOT NULL,
+    plan_id    BIGINT NOT NULL,
+    status     ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED'),
+    changed_at TIMESTAMP(6) NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_plan_status_history_plan ON plan_status_history (plan_type, plan_id, changed_at);
+CREATE INDEX IF NOT EXISTS idx_plan_status_history_changed ON plan_status_history (plan_type, changed_at);
+
+CREATE TABLE IF NOT EXISTS plan_status_snapshots (
+    id          BIGINT NOT NULL PRIMARY KEY,
+    plan_type   ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY') NOT NULL,
+    snapshot_at TIMESTAMP(6) NOT NULL,
+    plan_id     BIGINT NOT NULL,
+    status      ENUM ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED', 'FAILED') NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_plan_status_snapshots_at ON plan_status_snapshots (plan_type, snapshot_at);
+
+CREATE TABLE IF NOT EXISTS checklist_items (
+    id            BIGINT NOT NULL PRIMARY KEY,
+    plan_type     ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY') NOT NULL,
+    plan_id       BIGINT NOT NULL,
+    content       VARCHAR(255) NOT NULL,
+    done          BOOLEAN NOT NULL,
+    display_order INTEGER NOT NULL
+);
+CREATE INDEX IF NOT EXISTS idx_checklist_items_plan ON checklist_items (plan_type, plan_id, display_order);
+
+CREATE TABLE IF NOT EXISTS plan_tags (
+    id        BIGINT NOT NULL PRIMARY KEY,
+    plan_type ENUM ('DAILY', 'WEEKLY', 'MONTHLY', 'YEARLY') NOT NULL,
+    plan_id   BIGINT NOT NULL,
+    tag       VARCHAR(50) NOT NULL,
+    CONSTRAINT uk_plan_tags_plan_tag UNIQUE (plan_type, plan_id, tag)
+);
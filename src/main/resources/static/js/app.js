@@ -22,6 +22,23 @@ const PRIORITY_LABELS = {
     'LOW': '낮음'
 };
 
+// 목록과 사이드바에 필요한 필드만 요청 (생성/수정 일시 등은 조회하지 않음)
+const LIST_FIELDS = {
+    daily: 'id,title,description,status,priority,planDate,recurringPlanId,occurrenceDate',
+    weekly: 'id,title,description,status,priority,weekStartDate,weekEndDate',
+    monthly: 'id,title,description,status,priority,year,month',
+    yearly: 'id,title,description,status,priority,year'
+};
+
+const SIDEBAR_FIELDS = {
+    daily: 'id,title,status,priority,planDate',
+    weekly: 'id,title,status,priority,weekStartDate,weekEndDate',
+    monthly: 'id,title,status,priority,year,month'
+};
+
+// 복합 조건 조회의 페이지 크기 (서버가 허용하는 최대값)
+const FILTER_PAGE_SIZE = 100;
+
 // Store plan data for progress calculation
 let planData = {
     daily: [],
@@ -197,7 +214,7 @@ async function apiCall(endpoint, method = 'GET', body = null) {
  */
 async function loadPlanData(type) {
     try {
-        const data = await apiCall(`/${type}`);
+        const data = await apiCall(`/${type}?fields=${LIST_FIELDS[type]}`);
         planData[type] = data;
         renderPlanList(`${type}-list`, data, type);
         updateProgressBadges();
@@ -210,6 +227,23 @@ async function loadPlanData(type) {
     }
 }
 
+/**
+ * 상태, 우선순위, 태그 조건을 함께 거는 복합 조건 조회 경로를 만듭니다.
+ * 조회는 페이지 단위이므로 한 번에 받을 수 있는 최대 개수의 첫 페이지를 요청합니다.
+ * @param {string} type - 계획 타입 (daily, weekly, monthly, yearly)
+ * @param {Object} conditions - 상태, 우선순위, 태그(쉼표로 구분) 조건
+ * @returns {string|null} 조회 경로 (조건이 하나도 없으면 null)
+ */
+function filterPath(type, { status, priority, tags }) {
+    const params = new URLSearchParams();
+    if (status) params.set('status', status);
+    if (priority) params.set('priority', priority);
+    if (tags) params.set('tags', tags);
+    if (!params.toString()) return null;
+    params.set('size', FILTER_PAGE_SIZE);
+    return `/${type}/filter?${params}`;
+}
+
 // Daily
 const loadDaily = () => loadPlanData('daily');
 
@@ -217,17 +251,17 @@ async function filterDaily() {
     const date = document.getElementById('daily-filter-date').value;
     const status = document.getElementById('daily-filter-status').value;
     const priority = document.getElementById('daily-filter-priority').value;
+    const tags = document.getElementById('daily-filter-tags').value.trim();
+    const path = filterPath('daily', { status, priority, tags });
 
     try {
         let data;
         if (date) {
             data = await apiCall(`/daily/date/${date}`);
-        } else if (status) {
-            data = await apiCall(`/daily/status/${status}`);
-        } else if (priority) {
-            data = await apiCall(`/daily/priority/${priority}`);
+        } else if (path) {
+            data = (await apiCall(path)).content;
         } else {
-            data = await apiCall('/daily');
+            data = await apiCall(`/daily?fields=${LIST_FIELDS.daily}`);
         }
         renderPlanList('daily-list', data, 'daily');
     } catch (error) {
@@ -242,17 +276,17 @@ async function filterWeekly() {
     const date = document.getElementById('weekly-filter-date').value;
     const status = document.getElementById('weekly-filter-status').value;
     const priority = document.getElementById('weekly-filter-priority').value;
+    const tags = document.getElementById('weekly-filter-tags').value.trim();
+    const path = filterPath('weekly', { status, priority, tags });
 
     try {
         let data;
         if (date) {
             data = await apiCall(`/weekly/week/${date}`);
-        } else if (status) {
-            data = await apiCall(`/weekly/status/${status}`);
-        } else if (priority) {
-            data = await apiCall(`/weekly/priority/${priority}`);
+        } else if (path) {
+            data = (await apiCall(path)).content;
         } else {
-            data = await apiCall('/weekly');
+            data = await apiCall(`/weekly?fields=${LIST_FIELDS.weekly}`);
         }
         renderPlanList('weekly-list', data, 'weekly');
     } catch (error) {
@@ -267,6 +301,8 @@ async function filterMonthly() {
     const year = document.getElementById('monthly-filter-year').value;
     const month = document.getElementById('monthly-filter-month').value;
     const status = document.getElementById('monthly-filter-status').value;
+    const tags = document.getElementById('monthly-filter-tags').value.trim();
+    const path = filterPath('monthly', { status, tags });
 
     try {
         let data;
@@ -274,10 +310,10 @@ async function filterMonthly() {
             data = await apiCall(`/monthly/year/${year}/month/${month}`);
         } else if (year) {
             data = await apiCall(`/monthly/year/${year}`);
-        } else if (status) {
-            data = await apiCall(`/monthly/status/${status}`);
+        } else if (path) {
+            data = (await apiCall(path)).content;
         } else {
-            data = await apiCall('/monthly');
+            data = await apiCall(`/monthly?fields=${LIST_FIELDS.monthly}`);
         }
         renderPlanList('monthly-list', data, 'monthly');
     } catch (error) {
@@ -292,17 +328,17 @@ async function filterYearly() {
     const year = document.getElementById('yearly-filter-year').value;
     const status = document.getElementById('yearly-filter-status').value;
     const priority = document.getElementById('yearly-filter-priority').value;
+    const tags = document.getElementById('yearly-filter-tags').value.trim();
+    const path = filterPath('yearly', { status, priority, tags });
 
     try {
         let data;
         if (year) {
             data = await apiCall(`/yearly/year/${year}`);
-        } else if (status) {
-            data = await apiCall(`/yearly/status/${status}`);
-        } else if (priority) {
-            data = await apiCall(`/yearly/priority/${priority}`);
+        } else if (path) {
+            data = (await apiCall(path)).content;
         } else {
-            data = await apiCall('/yearly');
+            data = await apiCall(`/yearly?fields=${LIST_FIELDS.yearly}`);
         }
         renderPlanList('yearly-list', data, 'yearly');
     } catch (error) {
@@ -315,21 +351,25 @@ function resetFilters(type) {
     if (type === 'daily') {
         document.getElementById('daily-filter-date').value = '';
         document.getElementById('daily-filter-status').value = '';
+        document.getElementById('daily-filter-tags').value = '';
         document.getElementById('daily-filter-priority').value = '';
         loadDaily();
     } else if (type === 'weekly') {
         document.getElementById('weekly-filter-date').value = '';
         document.getElementById('weekly-filter-status').value = '';
+        document.getElementById('weekly-filter-tags').value = '';
         document.getElementById('weekly-filter-priority').value = '';
         loadWeekly();
     } else if (type === 'monthly') {
         document.getElementById('monthly-filter-year').value = '';
         document.getElementById('monthly-filter-month').value = '';
         document.getElementById('monthly-filter-status').value = '';
+        document.getElementById('monthly-filter-tags').value = '';
         loadMonthly();
     } else if (type === 'yearly') {
         document.getElementById('yearly-filter-year').value = '';
         document.getElementById('yearly-filter-status').value = '';
+        document.getElementById('yearly-filter-tags').value = '';
         document.getElementById('yearly-filter-priority').value = '';
         loadYearly();
     }
@@ -372,8 +412,18 @@ function createPlanCard(plan, type) {
     const isFinalized = plan.status === 'COMPLETED' || plan.status === 'FAILED';
     const statusSelectDisabled = isFinalized ? 'disabled title="완료 또는 실패 상태는 변경할 수 없습니다."' : '';
 
+    // 아직 저장되지 않은 반복 일정은 ID가 없으므로 반복 계획 API로 처리
+    const isOccurrence = plan.id === null && plan.recurringPlanId;
+    const statusChange = isOccurrence
+        ? `updateOccurrenceStatus(${plan.recurringPlanId}, '${plan.occurrenceDate}', this.value)`
+        : `updateStatus('${type}', ${plan.id}, this.value)`;
+    const actions = isOccurrence
+        ? `<button class="btn btn-danger btn-sm" onclick="deleteOccurrence(${plan.recurringPlanId}, '${plan.occurrenceDate}')">삭제</button>`
+        : `<button class="btn btn-secondary btn-sm" onclick="editPlan('${type}', ${plan.id})">수정</button>
+                        <button class="btn btn-danger btn-sm" onclick="deletePlanWithAnimation('${type}', ${plan.id}, this)">삭제</button>`;
+
     return `
-        <div class="plan-card status-${plan.status}" draggable="true" data-id="${plan.id}" data-type="${type}">
+        <div class="plan-card status-${plan.status}" draggable="${!isOccurrence}" data-id="${plan.id}" data-type="${type}">
             <div class="priority-bar priority-${plan.priority}"></div>
             <div class="drag-handle">⋮⋮</div>
             <div class="plan-card-content">
@@ -385,7 +435,7 @@ function createPlanCard(plan, type) {
                             <span class="badge badge-status-${plan.status}">${STATUS_LABELS[plan.status]}</span>
                         </div>
                     </div>
-                    <select class="status-select" onchange="updateStatus('${type}', ${plan.id}, this.value)" ${statusSelectDisabled}>
+                    <select class="status-select" onchange="${statusChange}" ${statusSelectDisabled}>
                         <option value="NOT_STARTED" ${plan.status === 'NOT_STARTED' ? 'selected' : ''}>시작 전</option>
                         <option value="IN_PROGRESS" ${plan.status === 'IN_PROGRESS' ? 'selected' : ''}>진행 중</option>
                         <option value="COMPLETED" ${plan.status === 'COMPLETED' ? 'selected' : ''}>완료</option>
@@ -396,8 +446,7 @@ function createPlanCard(plan, type) {
                 <div class="plan-card-footer">
                     <div class="plan-card-date">${dateInfo}</div>
                     <div class="plan-card-actions">
-                        <button class="btn btn-secondary btn-sm" onclick="editPlan('${type}', ${plan.id})">수정</button>
-                        <button class="btn btn-danger btn-sm" onclick="deletePlanWithAnimation('${type}', ${plan.id}, this)">삭제</button>
+                        ${actions}
                     </div>
                 </div>
             </div>
@@ -546,6 +595,32 @@ async function updateStatus(type, id, status) {
     }
 }
 
+// Update recurring plan occurrence status
+async function updateOccurrenceStatus(recurringPlanId, occurrenceDate, status) {
+    try {
+        await apiCall(`/recurring/${recurringPlanId}/occurrences/${occurrenceDate}/status`, 'PATCH', { status });
+        showToast('상태가 변경되었습니다.', 'success');
+        reloadCurrentTab();
+    } catch (error) {
+        showToast(error.message, 'error');
+    }
+}
+
+// Delete recurring plan occurrence
+async function deleteOccurrence(recurringPlanId, occurrenceDate) {
+    if (!confirm('이 날짜의 반복 일정을 삭제하시겠습니까?')) {
+        return;
+    }
+
+    try {
+        await apiCall(`/recurring/${recurringPlanId}/occurrences/${occurrenceDate}`, 'DELETE');
+        showToast('반복 일정이 삭제되었습니다.', 'success');
+        reloadCurrentTab();
+    } catch (error) {
+        showToast(error.message, 'error');
+    }
+}
+
 // Reload current tab data
 function reloadCurrentTab() {
     if (currentTab === 'calendar') {
@@ -853,15 +928,15 @@ async function loadCalendarSidebar() {
 
     try {
         // Load daily plans for this month
-        const dailyPlans = await apiCall(`/daily/date-range?startDate=${startDate}&endDate=${endDate}`);
+        const dailyPlans = await apiCall(`/daily/date-range?startDate=${startDate}&endDate=${endDate}&fields=${SIDEBAR_FIELDS.daily}`);
         renderSidebarPlanList('sidebar-daily-list', dailyPlans, 'daily');
 
         // Load weekly plans (filter by week start date in this month range)
-        const weeklyPlans = await apiCall(`/weekly/date-range?startDate=${startDate}&endDate=${endDate}`);
+        const weeklyPlans = await apiCall(`/weekly/date-range?startDate=${startDate}&endDate=${endDate}&fields=${SIDEBAR_FIELDS.weekly}`);
         renderSidebarPlanList('sidebar-weekly-list', weeklyPlans, 'weekly');
 
         // Load monthly plans for this month
-        const monthlyPlans = await apiCall(`/monthly/year/${year}/month/${month}`);
+        const monthlyPlans = await apiCall(`/monthly/year/${year}/month/${month}?fields=${SIDEBAR_FIELDS.monthly}`);
         renderSidebarPlanList('sidebar-monthly-list', monthlyPlans, 'monthly');
 
     } catch (error) {
@@ -0,0 +1,91 @@
+package com.planner.my.dto;
+
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.MonthlyPlan;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.entity.YearlyPlan;
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 응답 DTO 하나가 차지하는 메모리를 JOL로 측정해 예산을 넘지 않는지 확인합니다.
+ * 다른 객체와 공유되는 제목/설명 문자열과 enum 상수는 빼고, DTO와 DTO만 참조하는 값 객체(ID 등)를 셉니다.
+ * 예산은 압축 참조(compressed oops)를 쓰는 64비트 JVM 기준입니다.
+ */
+class PlanResponseFootprintTest {
+
+    private static final long DAILY_BUDGET = 96;
+    private static final long WEEKLY_BUDGET = 88;
+    private static final long MONTHLY_BUDGET = 88;
+    private static final long YEARLY_BUDGET = 80;
+
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 21);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 21, 10, 30, 15, 123_456_000);
+    private static final LocalDateTime UPDATED_AT = CREATED_AT.plusHours(2);
+
+    @Test
+    void dailyResponseStaysWithinBudget() {
+        DailyPlanResponse response = DailyPlanResponse.from(DailyPlan.builder()
+                .id(1_000L).title("Daily plan").description("Daily description")
+                .planDate(DATE).priority(Priority.HIGH).status(PlanStatus.IN_PROGRESS)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(UPDATED_AT)
+                .build());
+
+        assertWithinBudget(DAILY_BUDGET, response,
+                response.title(), response.description(), response.priority(), response.status());
+    }
+
+    @Test
+    void weeklyResponseStaysWithinBudget() {
+        WeeklyPlanResponse response = WeeklyPlanResponse.from(WeeklyPlan.builder()
+                .id(1_000L).title("Weekly plan").description("Weekly description")
+                .weekStartDate(DATE.minusDays(6)).weekEndDate(DATE)
+                .priority(Priority.MEDIUM).status(PlanStatus.NOT_STARTED)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(UPDATED_AT)
+                .build());
+
+        assertWithinBudget(WEEKLY_BUDGET, response,
+                response.title(), response.description(), response.priority(), response.status());
+    }
+
+    @Test
+    void monthlyResponseStaysWithinBudget() {
+        MonthlyPlanResponse response = MonthlyPlanResponse.from(MonthlyPlan.builder()
+                .id(1_000L).title("Monthly plan").description("Monthly description")
+                .year(2025).month(12).priority(Priority.LOW).status(PlanStatus.COMPLETED)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(UPDATED_AT)
+                .build());
+
+        assertWithinBudget(MONTHLY_BUDGET, response,
+                response.title(), response.description(), response.priority(), response.status());
+    }
+
+    @Test
+    void yearlyResponseStaysWithinBudget() {
+        YearlyPlanResponse response = YearlyPlanResponse.from(YearlyPlan.builder()
+                .id(1_000L).title("Yearly plan").description("Yearly description")
+                .year(2025).priority(Priority.HIGH).status(PlanStatus.FAILED)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(UPDATED_AT)
+                .build());
+
+        assertWithinBudget(YEARLY_BUDGET, response,
+                response.title(), response.description(), response.priority(), response.status());
+    }
+
+    private static void assertWithinBudget(long budget, Object response, Object... shared) {
+        GraphLayout layout = GraphLayout.parseInstance(response);
+        for (Object value : shared) {
+            layout = layout.subtract(GraphLayout.parseInstance(value));
+        }
+        long size = layout.totalSize();
+        assertTrue(size <= budget, () -> response.getClass().getSimpleName() + " uses " + size
+                + " bytes, budget is " + budget + " bytes\n" + GraphLayout.parseInstance(response).toFootprint());
+    }
+}
@@ -0,0 +1,65 @@
+package com.planner.my.entity;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jol.info.ClassLayout;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 영속성 컨텍스트에 올라가는 계획 엔티티 하나의 메모리를 JOL로 측정해 예산을 넘지 않는지 확인합니다.
+ * 엔티티는 바이트코드 향상으로 추가된 필드와 날짜/일시 값 객체를 포함하며, 공유되는 문자열과 enum 상수는 제외합니다.
+ * 예산은 압축 참조(compressed oops)를 쓰는 64비트 JVM 기준입니다.
+ */
+class PlanEntityFootprintTest {
+
+    private static final long DAILY_BUDGET = 320;
+    private static final long MONTHLY_BUDGET = 272;
+    private static final long MONTHLY_SHALLOW_BUDGET = 96;
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 12, 21, 10, 30, 15, 123_456_000);
+
+    @Test
+    void dailyPlanStaysWithinBudget() {
+        DailyPlan plan = DailyPlan.builder()
+                .id(1_000L).title("Daily plan").description("Daily description")
+                .planDate(LocalDate.of(2025, 12, 21)).priority(Priority.HIGH).status(PlanStatus.IN_PROGRESS)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(CREATED_AT.plusHours(2))
+                .build();
+
+        assertWithinBudget(DAILY_BUDGET, plan,
+                plan.getTitle(), plan.getDescription(), plan.getPriority(), plan.getStatus());
+    }
+
+    @Test
+    void monthlyPlanStaysWithinBudget() {
+        MonthlyPlan plan = MonthlyPlan.builder()
+                .id(1_000L).title("Monthly plan").description("Monthly description")
+                .year(2025).month(12).priority(Priority.LOW).status(PlanStatus.COMPLETED)
+                .displayOrder(3).createdAt(CREATED_AT).updatedAt(CREATED_AT.plusHours(2))
+                .build();
+
+        assertWithinBudget(MONTHLY_BUDGET, plan,
+                plan.getTitle(), plan.getDescription(), plan.getPriority(), plan.getStatus());
+    }
+
+    @Test
+    void monthlyPlanKeepsYearMonthAndOrderInline() {
+        long size = ClassLayout.parseClass(MonthlyPlan.class).instanceSize();
+        assertTrue(size <= MONTHLY_SHALLOW_BUDGET, () -> "MonthlyPlan instance is " + size + " bytes, budget is "
+                + MONTHLY_SHALLOW_BUDGET + " bytes\n" + ClassLayout.parseClass(MonthlyPlan.class).toPrintable());
+    }
+
+    private static void assertWithinBudget(long budget, Object plan, Object... shared) {
+        GraphLayout layout = GraphLayout.parseInstance(plan);
+        for (Object value : shared) {
+            layout = layout.subtract(GraphLayout.parseInstance(value));
+        }
+        long size = layout.totalSize();
+        assertTrue(size <= budget, () -> plan.getClass().getSimpleName() + " uses " + size
+                + " bytes, budget is " + budget + " bytes\n" + GraphLayout.parseInstance(plan).toFootprint());
+    }
+}
@@ -0,0 +1,53 @@
+package com.planner.my.index;
+
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * int 범위를 넘는 계획 ID도 비트맵 인덱스에 넣고 찾고 지울 수 있는지 확인합니다.
+ */
+class PlanBitmapsTest {
+
+    private static final long BEYOND_INT = Integer.MAX_VALUE + 10L;
+
+    @Test
+    void findsIdsBeyondIntRangeInAscendingOrder() {
+        PlanBitmaps bitmaps = new PlanBitmaps();
+        bitmaps.put(BEYOND_INT, PlanStatus.NOT_STARTED, Priority.HIGH);
+        bitmaps.put(7, PlanStatus.NOT_STARTED, Priority.HIGH);
+        bitmaps.put(Long.MAX_VALUE, PlanStatus.NOT_STARTED, Priority.LOW);
+        bitmaps.put(Integer.MAX_VALUE, PlanStatus.COMPLETED, Priority.HIGH);
+        bitmaps.addTag(BEYOND_INT, "work");
+        bitmaps.addTag(7, "work");
+
+        assertEquals(List.of(7L, BEYOND_INT, Long.MAX_VALUE),
+                bitmaps.find(List.of(), Set.of(PlanStatus.NOT_STARTED), Set.of()).stream().boxed().toList());
+        assertEquals(List.of(7L, BEYOND_INT),
+                bitmaps.find(List.of("work"), Set.of(), Set.of(Priority.HIGH)).stream().boxed().toList());
+        assertEquals(4, bitmaps.size());
+    }
+
+    @Test
+    void updatesAndRemovesIdsBeyondIntRange() {
+        PlanBitmaps bitmaps = new PlanBitmaps();
+        bitmaps.put(BEYOND_INT, PlanStatus.NOT_STARTED, Priority.MEDIUM);
+        bitmaps.setTags(BEYOND_INT, List.of("home"));
+
+        bitmaps.setStatus(BEYOND_INT, PlanStatus.IN_PROGRESS);
+        assertEquals(List.of(BEYOND_INT),
+                bitmaps.find(List.of("home"), Set.of(PlanStatus.IN_PROGRESS), Set.of()).stream().boxed().toList());
+        assertEquals(List.of(),
+                bitmaps.find(List.of(), Set.of(PlanStatus.NOT_STARTED), Set.of()).stream().boxed().toList());
+
+        bitmaps.remove(BEYOND_INT);
+        assertEquals(0, bitmaps.size());
+        assertEquals(0, bitmaps.tagCount());
+        assertEquals(List.of(), bitmaps.find(List.of(), Set.of(), Set.of()).stream().boxed().toList());
+    }
+}
@@ -0,0 +1,128 @@
+package com.planner.my.metrics;
+
+import com.planner.my.controller.DailyController;
+import com.planner.my.controller.WeeklyController;
+import com.planner.my.dto.ChecklistResponse;
+import com.planner.my.entity.ChecklistItem;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.PlanType;
+import com.planner.my.entity.Priority;
+import com.planner.my.entity.WeeklyPlan;
+import com.planner.my.repository.ChecklistItemRepository;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.repository.WeeklyPlanRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static com.planner.my.metrics.StatementAssertions.assertWithinBudget;
+import static com.planner.my.metrics.StatementAssertions.countStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 계획 목록의 체크리스트 항목을 계획마다 따로 읽지 않고, 계획 수와 관계없이 같은 수의 SQL 문으로 읽는지 확인합니다.
+ */
+@SpringBootTest
+class ChecklistStatementCountTest {
+
+    private static final LocalDate DATE = LocalDate.of(2033, 5, 2);
+    private static final int FEW_PLANS = 10;
+    private static final int PLAN_COUNT = 1_000;
+    private static final int ITEMS_PER_PLAN = 3;
+
+    @Autowired
+    private DailyController dailyController;
+
+    @Autowired
+    private WeeklyController weeklyController;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    @Autowired
+    private WeeklyPlanRepository weeklyPlanRepository;
+
+    @Autowired
+    private ChecklistItemRepository checklistItemRepository;
+
+    @Test
+    void dailyChecklistsLoadInConstantStatements() {
+        Set<Long> ids = new HashSet<>(saveDailyPlans(FEW_PLANS));
+        int fewPlanStatements = countStatements(dailyController::findAllChecklists);
+
+        ids.addAll(saveDailyPlans(PLAN_COUNT - FEW_PLANS));
+        List<ChecklistResponse> checklists = assertWithinBudget(DailyController.class, "findAllChecklists",
+                () -> dailyController.findAllChecklists().getBody());
+
+        assertEquals(fewPlanStatements, countStatements(dailyController::findAllChecklists));
+        assertLoaded(ids, checklists);
+    }
+
+    @Test
+    void weeklyChecklistsLoadInConstantStatements() {
+        Set<Long> ids = new HashSet<>(saveWeeklyPlans(FEW_PLANS));
+        int fewPlanStatements = countStatements(weeklyController::findAllChecklists);
+
+        ids.addAll(saveWeeklyPlans(PLAN_COUNT - FEW_PLANS));
+        List<ChecklistResponse> checklists = assertWithinBudget(WeeklyController.class, "findAllChecklists",
+                () -> weeklyController.findAllChecklists().getBody());
+
+        assertEquals(fewPlanStatements, countStatements(weeklyController::findAllChecklists));
+        assertLoaded(ids, checklists);
+    }
+
+    private static void assertLoaded(Set<Long> ids, List<ChecklistResponse> checklists) {
+        List<ChecklistResponse> saved = checklists.stream()
+                .filter(checklist -> ids.contains(checklist.planId()))
+                .toList();
+        assertEquals(PLAN_COUNT, saved.size());
+        saved.forEach(checklist -> {
+            assertEquals(ITEMS_PER_PLAN, checklist.totalCount());
+            assertEquals(1, checklist.doneCount());
+            assertEquals(100 / ITEMS_PER_PLAN, checklist.progress());
+        });
+    }
+
+    private List<Long> saveDailyPlans(int count) {
+        List<DailyPlan> plans = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            plans.add(DailyPlan.builder()
+                    .title("Checklist plan " + i).planDate(DATE).priority(Priority.LOW).displayOrder(i)
+                    .build());
+        }
+        List<Long> ids = dailyPlanRepository.saveAll(plans).stream().map(DailyPlan::getId).toList();
+        saveItems(PlanType.DAILY, ids);
+        return ids;
+    }
+
+    private List<Long> saveWeeklyPlans(int count) {
+        List<WeeklyPlan> plans = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            plans.add(WeeklyPlan.builder()
+                    .title("Checklist plan " + i).weekStartDate(DATE).weekEndDate(DATE.plusDays(6))
+                    .priority(Priority.LOW).displayOrder(i)
+                    .build());
+        }
+        List<Long> ids = weeklyPlanRepository.saveAll(plans).stream().map(WeeklyPlan::getId).toList();
+        saveItems(PlanType.WEEKLY, ids);
+        return ids;
+    }
+
+    private void saveItems(PlanType planType, List<Long> planIds) {
+        List<ChecklistItem> items = new ArrayList<>();
+        for (Long planId : planIds) {
+            for (int i = 0; i < ITEMS_PER_PLAN; i++) {
+                items.add(ChecklistItem.builder()
+                        .planType(planType).planId(planId).content("Item " + i).done(i == 0).displayOrder(i)
+                        .build());
+            }
+        }
+        checklistItemRepository.saveAll(items);
+    }
+}
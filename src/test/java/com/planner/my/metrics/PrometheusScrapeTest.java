@@ -0,0 +1,57 @@
+package com.planner.my.metrics;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "management.prometheus.metrics.export.enabled=true")
+class PrometheusScrapeTest {
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @Value("${local.server.port}")
+    private int port;
+
+    @Test
+    void exposesPlanMetricsOnPrometheusEndpoint() throws Exception {
+        HttpResponse<String> created = send(HttpRequest.newBuilder(uri("/api/daily"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"title\":\"Scrape\",\"planDate\":\"2025-12-21\",\"priority\":\"HIGH\"}")));
+        assertEquals(201, created.statusCode());
+        assertEquals(200, send(HttpRequest.newBuilder(uri("/api/daily/date/2025-12-21")).GET()).statusCode());
+
+        HttpResponse<String> scrape = send(HttpRequest.newBuilder(uri("/actuator/prometheus")).GET());
+        assertEquals(200, scrape.statusCode());
+        String body = scrape.body();
+
+        assertTrue(body.contains("planner_controller_requests_seconds_count{"), "controller timer");
+        assertTrue(body.contains("controller=\"DailyController\""), "controller tag");
+        assertTrue(body.contains("method=\"findByDate\""), "method tag");
+        assertTrue(body.contains("planner_request_queries_statements_count{"), "queries per request");
+        assertTrue(body.contains("planner_request_allocated_bytes"), "allocation per request");
+        assertTrue(body.contains("hibernate_entities_loads"), "hibernate entity loads");
+        assertTrue(body.contains("hibernate_flushes"), "hibernate flushes");
+        assertTrue(body.contains("hikaricp_connections_active"), "connection pool gauges");
+        assertTrue(body.contains("jvm_gc_memory_allocated_bytes"), "jvm allocation");
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+}
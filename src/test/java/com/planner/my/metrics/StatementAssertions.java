@@ -0,0 +1,92 @@
+package com.planner.my.metrics;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * 테스트에서 한 동작이 실행하는 JDBC 문 수를 검증합니다.
+ * 동작은 현재 스레드에서 실행되어야 하므로 컨트롤러나 서비스 빈을 직접 호출합니다.
+ */
+public final class StatementAssertions {
+
+    private static final int MAX_CAPTURED = 200;
+
+    private StatementAssertions() {
+    }
+
+    /**
+     * 동작이 실행한 JDBC 문 수가 max 이하인지 검증하고 동작의 결과를 반환합니다.
+     * 초과하면 실행된 SQL 문 목록과 함께 실패합니다.
+     */
+    public static <T> T assertMaxStatements(int max, Supplier<T> action) {
+        StatementCounter.start(MAX_CAPTURED);
+        T result;
+        StatementCounter.Recording recording;
+        try {
+            result = action.get();
+        } finally {
+            recording = StatementCounter.stop();
+        }
+        if (recording.getCount() > max) {
+            StringBuilder message = new StringBuilder()
+                    .append("Expected at most ").append(max).append(" statements but ")
+                    .append(recording.getCount()).append(" were executed:");
+            recording.getStatements().forEach(sql -> message.append(System.lineSeparator()).append("  ").append(sql));
+            fail(message.toString());
+        }
+        return result;
+    }
+
+    /**
+     * 동작이 실행한 JDBC 문 수를 반환합니다.
+     */
+    public static int countStatements(Runnable action) {
+        StatementCounter.start(MAX_CAPTURED);
+        StatementCounter.Recording recording;
+        try {
+            action.run();
+        } finally {
+            recording = StatementCounter.stop();
+        }
+        return recording.getCount();
+    }
+
+    /**
+     * 동작이 실행한 SQL 문을 실행 순서대로 반환합니다.
+     */
+    public static List<String> captureStatements(Runnable action) {
+        StatementCounter.start(MAX_CAPTURED);
+        StatementCounter.Recording recording;
+        try {
+            action.run();
+        } finally {
+            recording = StatementCounter.stop();
+        }
+        return recording.getStatements();
+    }
+
+    /**
+     * 컨트롤러 메서드에 {@link StatementBudget}으로 선언된 예산 안에서 동작이 실행되는지 검증합니다.
+     */
+    public static <T> T assertWithinBudget(Class<?> controller, String methodName, Supplier<T> action) {
+        return assertMaxStatements(declaredBudget(controller, methodName), action);
+    }
+
+    private static int declaredBudget(Class<?> controller, String methodName) {
+        Method method = Arrays.stream(controller.getMethods())
+                .filter(candidate -> candidate.getName().equals(methodName))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "No method " + methodName + " on " + controller.getSimpleName()));
+        StatementBudget budget = method.getAnnotation(StatementBudget.class);
+        if (budget == null) {
+            throw new IllegalArgumentException(
+                    controller.getSimpleName() + "#" + methodName + " has no @StatementBudget");
+        }
+        return budget.value();
+    }
+}
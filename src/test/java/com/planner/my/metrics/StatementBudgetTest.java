@@ -0,0 +1,200 @@
+package com.planner.my.metrics;
+
+import com.planner.my.config.StatementBudgetProperties;
+import com.planner.my.controller.DailyController;
+import com.planner.my.controller.WeeklyController;
+import com.planner.my.dto.BulkStatusUpdateRequest;
+import com.planner.my.dto.BulkStatusUpdateResponse;
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.PageResponse;
+import com.planner.my.dto.ReorderRequest;
+import com.planner.my.dto.WeeklyPlanRequest;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.service.DailyService;
+import com.planner.my.service.WeeklyService;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import static com.planner.my.metrics.StatementAssertions.assertMaxStatements;
+import static com.planner.my.metrics.StatementAssertions.assertWithinBudget;
+import static com.planner.my.metrics.StatementAssertions.captureStatements;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class StatementBudgetTest {
+
+    private static final LocalDate DATE = LocalDate.of(2031, 3, 3);
+    private static final int PLAN_COUNT = 40;
+
+    @Autowired
+    private DailyController dailyController;
+
+    @Autowired
+    private WeeklyController weeklyController;
+
+    @Autowired
+    private DailyService dailyService;
+
+    @Autowired
+    private WeeklyService weeklyService;
+
+    @Autowired
+    private StatementBudgetProperties properties;
+
+    @Autowired
+    private Validator validator;
+
+    @Test
+    void dailyReorderStaysWithinDeclaredBudget() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            ids.add(dailyService.create(DailyPlanRequest.builder()
+                    .title("Plan " + i).planDate(DATE).priority(Priority.LOW).build()).id());
+        }
+        Collections.reverse(ids);
+
+        assertWithinBudget(DailyController.class, "reorder",
+                () -> dailyController.reorder(new ReorderRequest(ids)));
+    }
+
+    @Test
+    void weeklyReorderStaysWithinDeclaredBudget() {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            ids.add(weeklyService.create(WeeklyPlanRequest.builder()
+                    .title("Plan " + i).weekStartDate(DATE).weekEndDate(DATE.plusDays(6))
+                    .priority(Priority.LOW).build()).id());
+        }
+        Collections.reverse(ids);
+
+        assertWithinBudget(WeeklyController.class, "reorder",
+                () -> weeklyController.reorder(new ReorderRequest(ids)));
+    }
+
+    @Test
+    void dailyCreateAndLookupStayWithinDefaultBudget() {
+        int budget = properties.getDefaultBudget();
+        assertMaxStatements(budget, () -> dailyController.create(DailyPlanRequest.builder()
+                .title("Budget").planDate(DATE.plusDays(1)).priority(Priority.HIGH).build()));
+        assertMaxStatements(budget, () -> dailyController.findByDate(DATE.plusDays(1)));
+        assertMaxStatements(budget, () -> dailyController.findByDateRange(DATE, DATE.plusMonths(1)));
+    }
+
+    @Test
+    void dailyQueryFiltersAndPagesWithinDeclaredBudget() {
+        LocalDate date = DATE.plusDays(2);
+        for (int i = 0; i < PLAN_COUNT; i++) {
+            dailyService.create(DailyPlanRequest.builder()
+                    .title("Query " + i).planDate(date).priority(i % 2 == 0 ? Priority.HIGH : Priority.LOW).build());
+        }
+
+        PageResponse<DailyPlanResponse> page = assertWithinBudget(DailyController.class, "query",
+                () -> dailyController.query(List.of(PlanStatus.NOT_STARTED), List.of(Priority.HIGH),
+                        date, date, 1, 5).getBody());
+
+        assertEquals(PLAN_COUNT / 2, page.totalElements());
+        assertEquals(5, page.content().size());
+        assertTrue(page.content().stream()
+                .allMatch(plan -> plan.priority() == Priority.HIGH && plan.planDate() == date.toEpochDay()));
+    }
+
+    @Test
+    void dailyFilterReadsOnlyTheRequestedPage() {
+        LocalDate date = DATE.plusDays(7);
+        List<Long> tagged = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            Long id = createDaily(date, "Filter " + i);
+            dailyService.replaceTags(id, List.of("paged-filter"));
+            tagged.add(id);
+        }
+        dailyService.findByFilter(List.of("paged-filter"), List.of(), List.of(), 0, 1);
+
+        List<PageResponse<DailyPlanResponse>> pages = new ArrayList<>();
+        List<String> statements = captureStatements(() -> pages.add(dailyController.findByFilter(
+                List.of("paged-filter"), List.of(), List.of(), 1, 5).getBody()));
+
+        PageResponse<DailyPlanResponse> page = pages.getFirst();
+        assertEquals(12, page.totalElements());
+        assertEquals(3, page.totalPages());
+        assertEquals(tagged.subList(5, 10), page.content().stream().map(DailyPlanResponse::id).toList());
+        assertEquals(1, statements.size(), () -> "Expected a single SELECT for the page but got " + statements);
+    }
+
+    @Test
+    void dailyBulkStatusRejectsFinalizedAndMissingIdsWithSingleUpdate() {
+        LocalDate date = DATE.plusDays(3);
+        Long open = createDaily(date, "Bulk open");
+        Long completed = createDaily(date, "Bulk completed");
+        Long alreadyInProgress = createDaily(date, "Bulk in progress");
+        Long missing = Long.MAX_VALUE;
+        dailyService.updateStatus(completed, PlanStatus.COMPLETED);
+        dailyService.updateStatus(alreadyInProgress, PlanStatus.IN_PROGRESS);
+
+        List<BulkStatusUpdateResponse> responses = new ArrayList<>();
+        List<String> statements = captureStatements(() -> responses.add(dailyController.bulkUpdateStatus(
+                new BulkStatusUpdateRequest(List.of(open, completed, missing, alreadyInProgress, open),
+                        PlanStatus.IN_PROGRESS)).getBody()));
+
+        BulkStatusUpdateResponse response = responses.getFirst();
+        assertEquals(List.of(completed, missing), response.getRejectedIds());
+        assertEquals(List.of(open, alreadyInProgress), response.getUpdatedIds());
+        assertEquals(1, response.getUpdatedCount());
+        assertEquals(1, statements.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("update daily_plans"))
+                .count(), () -> "Expected a single UPDATE but got " + statements);
+        assertEquals(PlanStatus.IN_PROGRESS, dailyService.findById(open).status());
+        assertEquals(PlanStatus.COMPLETED, dailyService.findById(completed).status());
+    }
+
+    @Test
+    void dailyRolloverPlacesPlansAfterTargetDateWithOneLockedSelectAndOneUpdate() {
+        LocalDate from = DATE.plusDays(4);
+        LocalDate to = DATE.plusDays(5);
+        Long first = createDaily(from, "Rollover first");
+        Long finished = createDaily(from, "Rollover finished");
+        Long second = createDaily(from, "Rollover second");
+        Long existing = createDaily(to, "Rollover existing");
+        createDaily(DATE.plusDays(6), "Rollover later date");
+        dailyService.updateStatus(finished, PlanStatus.COMPLETED);
+        int existingOrder = dailyService.findById(existing).displayOrder();
+
+        List<String> statements = captureStatements(() -> dailyService.rollover(from, to));
+
+        List<String> beforeUpdate = statements.subList(0, statements.indexOf(statements.stream()
+                .filter(sql -> sql.stripLeading().toLowerCase(Locale.ROOT).startsWith("update daily_plans"))
+                .findFirst().orElseThrow()));
+        assertEquals(1, beforeUpdate.size(), () -> "Expected only the locked id SELECT but got " + beforeUpdate);
+        assertEquals(existingOrder + 1, dailyService.findById(first).displayOrder());
+        assertEquals(existingOrder + 3, dailyService.findById(second).displayOrder());
+        assertEquals(from.toEpochDay(), dailyService.findById(finished).planDate());
+    }
+
+    @Test
+    void bulkStatusRequestRejectsNullAndTooManyIds() {
+        BulkStatusUpdateRequest withNull = new BulkStatusUpdateRequest(Arrays.asList(1L, null), PlanStatus.COMPLETED);
+        Long[] tooMany = new Long[BulkStatusUpdateRequest.MAX_IDS + 1];
+        Arrays.fill(tooMany, 1L);
+        BulkStatusUpdateRequest oversized = new BulkStatusUpdateRequest(List.of(tooMany), PlanStatus.COMPLETED);
+
+        assertEquals(1, validator.validate(withNull).size());
+        assertEquals(1, validator.validate(oversized).size());
+        assertTrue(validator.validate(new BulkStatusUpdateRequest(List.of(1L), PlanStatus.COMPLETED)).isEmpty());
+    }
+
+    private Long createDaily(LocalDate date, String title) {
+        return dailyService.create(DailyPlanRequest.builder()
+                .title(title).planDate(date).priority(Priority.MEDIUM).build()).id();
+    }
+}
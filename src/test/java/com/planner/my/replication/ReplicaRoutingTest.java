@@ -0,0 +1,166 @@
+package com.planner.my.replication;
+
+import com.planner.my.config.StatusHistoryInitializer;
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.YearlyPlanRequest;
+import com.planner.my.dto.YearlyPlanResponse;
+import com.planner.my.entity.DailyPlan;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.repository.DailyPlanRepository;
+import com.planner.my.service.DailyService;
+import com.planner.my.service.YearlyService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 복제본 라우팅을 켜고 자신이 쓴 내용을 바로 읽을 수 있는지, 복제본이 기본 데이터베이스와 같은 행과 시퀀스 값에 도달하는지 확인합니다.
+ */
+@SpringBootTest(properties = {
+        "planner.replica.enabled=true",
+        "spring.datasource.url=jdbc:h2:mem:replica-routing-primary;DB_CLOSE_ON_EXIT=FALSE",
+        "planner.replica.url=jdbc:h2:mem:replica-routing-replica"})
+class ReplicaRoutingTest {
+
+    private static final LocalDate DATE = LocalDate.of(2034, 7, 3);
+    private static final long APPLY_TIMEOUT_MILLIS = 10_000;
+
+    @Autowired
+    private DailyService dailyService;
+
+    @Autowired
+    private YearlyService yearlyService;
+
+    @Autowired
+    private DailyPlanRepository dailyPlanRepository;
+
+    @Autowired
+    private StatusHistoryInitializer statusHistoryInitializer;
+
+    @Autowired
+    private ReplicationLog replicationLog;
+
+    @Autowired
+    private ReadConsistency readConsistency;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void endClient() {
+        readConsistency.end();
+    }
+
+    @Test
+    void clientReadsItsOwnWritesImmediately() {
+        readConsistency.begin("replica-routing-client");
+        for (int i = 0; i < 50; i++) {
+            Long id = dailyService.create(DailyPlanRequest.builder()
+                    .title("Read your writes " + i).planDate(DATE).priority(Priority.LOW).build()).id();
+
+            assertEquals("Read your writes " + i, dailyService.findById(id).title());
+        }
+    }
+
+    @Test
+    void replicaAppliesWritesAndSequenceAdvances() throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ids.add(dailyService.create(DailyPlanRequest.builder()
+                    .title("Replicated " + i).planDate(DATE.plusDays(1)).priority(Priority.HIGH).build()).id());
+        }
+        awaitReplica();
+
+        double replicaReads = replicaReads();
+        readConsistency.begin("replica-apply-client");
+        assertEquals("Replicated 0", dailyService.findById(ids.getFirst()).title());
+        assertTrue(replicaReads() > replicaReads, "read after the replica caught up should use the replica");
+
+        JdbcTemplate replica = new JdbcTemplate(replicationLog.replica());
+        String plans = "SELECT id, title, status, display_order FROM daily_plans ORDER BY id";
+        String sequences = "SELECT sequence_name, base_value FROM information_schema.sequences "
+                + "WHERE sequence_schema = 'PUBLIC' ORDER BY sequence_name";
+        assertEquals(jdbcTemplate.queryForList(plans), replica.queryForList(plans));
+        assertEquals(jdbcTemplate.queryForList(sequences), replica.queryForList(sequences));
+    }
+
+    @Test
+    void backfilledHistoryMatchesOnReplica() throws InterruptedException {
+        List<DailyPlan> plans = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            plans.add(DailyPlan.builder()
+                    .title("Without history " + i).planDate(DATE.plusDays(2)).priority(Priority.MEDIUM).displayOrder(i)
+                    .build());
+        }
+        dailyPlanRepository.saveAll(plans);
+
+        statusHistoryInitializer.backfillHistory();
+        awaitReplica();
+
+        JdbcTemplate replica = new JdbcTemplate(replicationLog.replica());
+        String history = "SELECT id, plan_type, plan_id, status, changed_at FROM plan_status_history ORDER BY id";
+        List<Map<String, Object>> primaryHistory = jdbcTemplate.queryForList(history);
+        assertFalse(primaryHistory.isEmpty());
+        assertEquals(primaryHistory, replica.queryForList(history));
+    }
+
+    @Test
+    void rejectsWritesThatDifferWhenReplayed() {
+        assertThrows(IllegalStateException.class,
+                () -> jdbcTemplate.update("UPDATE daily_plans SET updated_at = CURRENT_TIMESTAMP WHERE id = -1"));
+        assertThrows(IllegalStateException.class, () -> jdbcTemplate.update(
+                "INSERT INTO plan_status_history (id, plan_type, plan_id, status, changed_at) "
+                        + "SELECT NEXT VALUE FOR plan_status_history_seq, 'DAILY', id, status, created_at "
+                        + "FROM daily_plans WHERE id = -1"));
+    }
+
+    @Test
+    void filterIndexIsBuiltFromPrimaryEvenWhenReplicaServesTheRead() throws InterruptedException {
+        Long id = yearlyService.create(YearlyPlanRequest.builder()
+                .title("Indexed from primary").year(2034).priority(Priority.HIGH).build()).id();
+        awaitReplica();
+        JdbcTemplate replica = new JdbcTemplate(replicationLog.replica());
+        replica.update("UPDATE yearly_plans SET status = 'COMPLETED' WHERE id = ?", id);
+        try {
+            double replicaReads = replicaReads();
+            readConsistency.begin("filter-index-client");
+
+            List<Long> found = yearlyService.findByFilter(List.of(), List.of(PlanStatus.NOT_STARTED),
+                    List.of(Priority.HIGH), 0, 100).content().stream().map(YearlyPlanResponse::id).toList();
+
+            assertTrue(replicaReads() > replicaReads, "the filter read itself should use the replica");
+            assertTrue(found.contains(id), "index must reflect the primary, not the replica");
+        } finally {
+            replica.update("UPDATE yearly_plans SET status = 'NOT_STARTED' WHERE id = ?", id);
+        }
+    }
+
+    private void awaitReplica() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + APPLY_TIMEOUT_MILLIS;
+        while (!replicationLog.isAppliedUpTo(replicationLog.committedPosition())) {
+            assertTrue(System.currentTimeMillis() < deadline, "replica did not catch up");
+            Thread.sleep(10);
+        }
+    }
+
+    private double replicaReads() {
+        return meterRegistry.get("planner.replica.reads").tag("target", "replica").functionCounter().count();
+    }
+}
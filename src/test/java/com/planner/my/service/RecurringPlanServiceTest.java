@@ -0,0 +1,69 @@
+package com.planner.my.service;
+
+import com.planner.my.dto.DailyPlanRequest;
+import com.planner.my.dto.DailyPlanResponse;
+import com.planner.my.dto.RecurringPlanRequest;
+import com.planner.my.entity.PlanStatus;
+import com.planner.my.entity.Priority;
+import com.planner.my.util.EpochValues;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 저장된 반복 일정을 어느 API로 삭제하든 다시 펼쳐지지 않는지 확인합니다.
+ */
+@SpringBootTest
+class RecurringPlanServiceTest {
+
+    private static final LocalDate START = LocalDate.of(2035, 4, 2);
+
+    @Autowired
+    private RecurringPlanService recurringPlanService;
+
+    @Autowired
+    private DailyService dailyService;
+
+    @Test
+    void deletingSavedOccurrenceAsDailyPlanExcludesItsDate() {
+        Long recurringPlanId = createDailyRecurringPlan("Deleted as daily plan");
+        LocalDate date = START.plusDays(1);
+        DailyPlanResponse saved = recurringPlanService.updateOccurrenceStatus(recurringPlanId, date, PlanStatus.IN_PROGRESS);
+        assertNotNull(saved.id());
+
+        dailyService.delete(saved.id());
+
+        assertTrue(occurrencesOf(recurringPlanId, dailyService.findByDate(date)).isEmpty());
+        List<DailyPlanResponse> range = occurrencesOf(recurringPlanId, dailyService.findByDateRange(START, START.plusDays(2)));
+        assertEquals(List.of(EpochValues.epochDay(START), EpochValues.epochDay(START.plusDays(2))),
+                range.stream().map(DailyPlanResponse::occurrenceDate).toList());
+    }
+
+    @Test
+    void deletingOccurrenceThroughRecurringApiExcludesItsDate() {
+        Long recurringPlanId = createDailyRecurringPlan("Deleted as occurrence");
+        LocalDate date = START.plusDays(1);
+        recurringPlanService.updateOccurrence(recurringPlanId, date, DailyPlanRequest.builder()
+                .title("Edited occurrence").planDate(date).priority(Priority.HIGH).build());
+
+        recurringPlanService.deleteOccurrence(recurringPlanId, date);
+
+        assertTrue(occurrencesOf(recurringPlanId, dailyService.findByDate(date)).isEmpty());
+    }
+
+    private Long createDailyRecurringPlan(String title) {
+        return recurringPlanService.create(RecurringPlanRequest.builder()
+                .title(title).priority(Priority.MEDIUM).recurrenceRule("FREQ=DAILY").startDate(START).build()).getId();
+    }
+
+    private static List<DailyPlanResponse> occurrencesOf(Long recurringPlanId, List<DailyPlanResponse> plans) {
+        return plans.stream().filter(plan -> recurringPlanId.equals(plan.recurringPlanId())).toList();
+    }
+}
@@ -0,0 +1,268 @@
+package com.planner.my.snapshot;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Blob;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 채워진 데이터베이스를 저장한 뒤 빈 데이터베이스에 복원해 행, 시퀀스, 바뀐 스키마를 확인합니다.
+ */
+class DatabaseSnapshotTest {
+
+    private static final String PLAN_TABLE = "CREATE TABLE daily_plan (id BIGINT PRIMARY KEY, title VARCHAR(100) NOT NULL, "
+            + "description BLOB, plan_date DATE, priority INTEGER, completed BOOLEAN, created_at TIMESTAMP(9)%s)";
+    private static final String HISTORY_TABLE = "CREATE TABLE plan_history (id BIGINT PRIMARY KEY, "
+            + "plan_id BIGINT REFERENCES daily_plan(id), status VARCHAR(20))";
+    private static final String SEQUENCE = "CREATE SEQUENCE daily_plan_seq START WITH 1 INCREMENT BY 50";
+
+    private Connection source;
+    private Connection target;
+
+    @BeforeEach
+    void openDatabases() throws SQLException {
+        source = open();
+        target = open();
+    }
+
+    @AfterEach
+    void closeDatabases() throws SQLException {
+        source.close();
+        target.close();
+    }
+
+    @Test
+    void restoresRowsBlobsAndNullsIntoEmptyDatabase() throws Exception {
+        createSchema(source, "");
+        createSchema(target, "");
+        populate(source);
+
+        Written written = write(source);
+        DatabaseSnapshot.Stats restored = restore(target, written.bytes(), 2);
+
+        assertEquals(2, written.stats().tables());
+        assertEquals(5, written.stats().rows());
+        assertEquals(5, restored.rows());
+        assertEquals(rows(source, "daily_plan"), rows(target, "daily_plan"));
+        assertEquals(rows(source, "plan_history"), rows(target, "plan_history"));
+        assertArrayEquals(largeDescription(), descriptionOf(target, 1));
+        assertNull(descriptionOf(target, 2));
+    }
+
+    @Test
+    void newIdsAfterRestoreDoNotCollide() throws Exception {
+        createSchema(source, "");
+        createSchema(target, "");
+        populate(source);
+        long sourceNext = nextValue(source);
+
+        restore(target, write(source).bytes(), 1000);
+
+        long restoredNext = nextValue(target);
+        assertTrue(restoredNext > sourceNext, "restored sequence must start after every value already handed out");
+        assertTrue(restoredNext > maxId(target), "restored sequence must start after every stored id");
+        insertPlan(target, restoredNext, "after restore", null);
+        assertEquals(4, count(target, "daily_plan"));
+    }
+
+    @Test
+    void toleratesDroppedAndAddedColumns() throws Exception {
+        createSchema(source, ", legacy_note VARCHAR(50)");
+        createSchema(target, ", tag VARCHAR(20) DEFAULT 'none'");
+        populate(source);
+        try (Statement statement = source.createStatement()) {
+            statement.execute("UPDATE daily_plan SET legacy_note = 'dropped later'");
+        }
+        source.commit();
+
+        restore(target, write(source).bytes(), 1000);
+
+        List<List<Object>> sourceRows = rows(source, "daily_plan");
+        List<List<Object>> targetRows = rows(target, "daily_plan");
+        assertEquals(sourceRows.size(), targetRows.size());
+        for (int i = 0; i < sourceRows.size(); i++) {
+            List<Object> sourceRow = sourceRows.get(i);
+            List<Object> targetRow = targetRows.get(i);
+            assertEquals(sourceRow.subList(0, 7), targetRow.subList(0, 7));
+            assertEquals("none", targetRow.get(7));
+        }
+    }
+
+    @Test
+    void skipsTablesMissingFromCurrentSchema() throws Exception {
+        createSchema(source, "");
+        populate(source);
+        try (Statement statement = target.createStatement()) {
+            statement.execute(PLAN_TABLE.formatted(""));
+            statement.execute(SEQUENCE);
+        }
+        target.commit();
+
+        DatabaseSnapshot.Stats restored = restore(target, write(source).bytes(), 1000);
+
+        assertEquals(3, restored.rows());
+        assertEquals(rows(source, "daily_plan"), rows(target, "daily_plan"));
+        assertTrue(DatabaseSnapshot.hasData(target));
+    }
+
+    private record Written(DatabaseSnapshot.Stats stats, byte[] bytes) {
+    }
+
+    private static Connection open() throws SQLException {
+        Connection connection = DriverManager.getConnection(
+                "jdbc:h2:mem:snapshot-" + UUID.randomUUID(), "sa", "");
+        connection.setAutoCommit(false);
+        return connection;
+    }
+
+    private static void createSchema(Connection connection, String extraColumns) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(PLAN_TABLE.formatted(extraColumns));
+            statement.execute(HISTORY_TABLE);
+            statement.execute(SEQUENCE);
+        }
+        connection.commit();
+    }
+
+    /**
+     * 시퀀스를 두 번 진행시키고, 큰 설명과 null 값을 섞은 계획 세 개와 이력 두 개를 넣습니다.
+     */
+    private static void populate(Connection connection) throws SQLException {
+        long first = nextValue(connection);
+        long second = nextValue(connection);
+        insertPlan(connection, first, "with description", largeDescription());
+        insertPlan(connection, first + 1, "no description", null);
+        insertPlan(connection, second + 49, "last of block", "짧은 설명".getBytes(StandardCharsets.UTF_8));
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO plan_history (id, plan_id, status) VALUES (?, ?, ?)")) {
+            insert.setLong(1, 1);
+            insert.setLong(2, first);
+            insert.setString(3, "COMPLETED");
+            insert.addBatch();
+            insert.setLong(1, 2);
+            insert.setLong(2, first + 1);
+            insert.setNull(3, Types.VARCHAR);
+            insert.addBatch();
+            insert.executeBatch();
+        }
+        connection.commit();
+    }
+
+    private static void insertPlan(Connection connection, long id, String title, byte[] description)
+            throws SQLException {
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO daily_plan "
+                + "(id, title, description, plan_date, priority, completed, created_at) VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            insert.setLong(1, id);
+            insert.setString(2, title);
+            insert.setBytes(3, description);
+            boolean withValues = description != null;
+            insert.setObject(4, withValues ? LocalDate.of(2024, 2, 29) : null);
+            insert.setObject(5, withValues ? (int) id : null);
+            insert.setObject(6, withValues ? Boolean.TRUE : null);
+            insert.setObject(7, withValues ? LocalDateTime.of(2024, 2, 29, 23, 59, 59, 123_456_789) : null);
+            insert.executeUpdate();
+        }
+        connection.commit();
+    }
+
+    /**
+     * 배치 크기보다 큰 설명입니다.
+     */
+    private static byte[] largeDescription() {
+        byte[] description = new byte[256 * 1024];
+        for (int i = 0; i < description.length; i++) {
+            description[i] = (byte) (i * 31);
+        }
+        return description;
+    }
+
+    private static Written write(Connection connection) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        DatabaseSnapshot.Stats stats = DatabaseSnapshot.write(connection, out);
+        out.flush();
+        connection.rollback();
+        return new Written(stats, bytes.toByteArray());
+    }
+
+    private static DatabaseSnapshot.Stats restore(Connection connection, byte[] bytes, int batchSize)
+            throws Exception {
+        return DatabaseSnapshot.restore(connection, new DataInputStream(new ByteArrayInputStream(bytes)), batchSize);
+    }
+
+    /**
+     * 테이블의 모든 행을 ID 순으로 읽습니다. BLOB은 비교할 수 있도록 리스트로 바꿉니다.
+     */
+    private static List<List<Object>> rows(Connection connection, String table) throws SQLException {
+        List<List<Object>> rows = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT * FROM " + table + " ORDER BY id")) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            while (resultSet.next()) {
+                List<Object> row = new ArrayList<>();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    Object value = resultSet.getObject(i);
+                    row.add(value instanceof Blob ? Arrays.toString(resultSet.getBytes(i)) : value);
+                }
+                rows.add(row);
+            }
+        }
+        return rows;
+    }
+
+    private static byte[] descriptionOf(Connection connection, long id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT description FROM daily_plan WHERE id = ?")) {
+            statement.setLong(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                assertTrue(resultSet.next());
+                return resultSet.getBytes(1);
+            }
+        }
+    }
+
+    private static long nextValue(Connection connection) throws SQLException {
+        return single(connection, "SELECT NEXT VALUE FOR daily_plan_seq");
+    }
+
+    private static long maxId(Connection connection) throws SQLException {
+        return single(connection, "SELECT MAX(id) FROM daily_plan");
+    }
+
+    private static long count(Connection connection, String table) throws SQLException {
+        return single(connection, "SELECT COUNT(*) FROM " + table);
+    }
+
+    private static long single(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+}
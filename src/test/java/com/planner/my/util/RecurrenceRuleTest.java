@@ -0,0 +1,158 @@
+package com.planner.my.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 반복 규칙이 조회 기간으로 건너뛴 결과와 COUNT, UNTIL, 월/연 경계 처리를 확인합니다.
+ */
+class RecurrenceRuleTest {
+
+    @Test
+    void dailyIntervalSkipsAheadToWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;INTERVAL=3");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        List<LocalDate> dates = assertSkipAheadMatchesFullScan(rule, start,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 10));
+
+        assertEquals(List.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 4),
+                LocalDate.of(2024, 3, 7), LocalDate.of(2024, 3, 10)), dates);
+    }
+
+    @Test
+    void weeklyIntervalSkipsAheadToWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;INTERVAL=2;BYDAY=MO,FR");
+        LocalDate start = LocalDate.of(2024, 1, 3);
+
+        List<LocalDate> dates = assertSkipAheadMatchesFullScan(rule, start,
+                LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31));
+
+        assertEquals(List.of(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 11), LocalDate.of(2024, 3, 15),
+                LocalDate.of(2024, 3, 25), LocalDate.of(2024, 3, 29)), dates);
+    }
+
+    @Test
+    void monthlyIntervalSkipsAheadToWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=MONTHLY;INTERVAL=5");
+        LocalDate start = LocalDate.of(2024, 1, 15);
+
+        List<LocalDate> dates = assertSkipAheadMatchesFullScan(rule, start,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31));
+
+        assertEquals(List.of(LocalDate.of(2025, 4, 15), LocalDate.of(2025, 9, 15)), dates);
+    }
+
+    @Test
+    void yearlyIntervalSkipsAheadToWindow() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY;INTERVAL=4");
+        LocalDate start = LocalDate.of(2024, 2, 29);
+
+        List<LocalDate> dates = assertSkipAheadMatchesFullScan(rule, start,
+                LocalDate.of(2030, 1, 1), LocalDate.of(2040, 12, 31));
+
+        assertEquals(List.of(LocalDate.of(2032, 2, 29), LocalDate.of(2036, 2, 29), LocalDate.of(2040, 2, 29)), dates);
+    }
+
+    @Test
+    void yearlyRuleFromLeapDaySkipsNonLeapYears() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=YEARLY");
+        LocalDate start = LocalDate.of(2024, 2, 29);
+
+        assertEquals(List.of(LocalDate.of(2024, 2, 29), LocalDate.of(2028, 2, 29)),
+                rule.occurrencesBetween(start, start, LocalDate.of(2031, 12, 31)));
+        assertFalse(rule.occursOn(start, LocalDate.of(2025, 2, 28)));
+        assertFalse(rule.occursOn(start, LocalDate.of(2025, 3, 1)));
+        assertEquals(Optional.of(LocalDate.of(2032, 2, 29)),
+                RecurrenceRule.parse("FREQ=YEARLY;COUNT=3").lastOccurrence(start));
+    }
+
+    @Test
+    void countIsCountedFromStartWhenWindowStartsLater() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=DAILY;COUNT=5");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 5)),
+                rule.occurrencesBetween(start, LocalDate.of(2024, 1, 4), LocalDate.of(2024, 1, 31)));
+        assertEquals(List.of(), rule.occurrencesBetween(start, LocalDate.of(2024, 1, 6), LocalDate.of(2024, 1, 31)));
+    }
+
+    @Test
+    void weeklyCountSkipsDaysBeforeStart() {
+        RecurrenceRule rule = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO,TH;COUNT=4");
+        LocalDate start = LocalDate.of(2024, 1, 3);
+
+        assertEquals(List.of(LocalDate.of(2024, 1, 11), LocalDate.of(2024, 1, 15)),
+                rule.occurrencesBetween(start, LocalDate.of(2024, 1, 10), LocalDate.of(2024, 2, 29)));
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 15)), rule.lastOccurrence(start));
+    }
+
+    @Test
+    void untilAcceptsUtcDateTime() {
+        RecurrenceRule rule = RecurrenceRule.parse("rrule:freq=daily;until=20240105t235959z");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        assertEquals(5, rule.occurrencesBetween(start, start, LocalDate.of(2024, 1, 31)).size());
+        assertTrue(rule.occursOn(start, LocalDate.of(2024, 1, 5)));
+        assertFalse(rule.occursOn(start, LocalDate.of(2024, 1, 6)));
+        assertEquals(Optional.of(LocalDate.of(2024, 1, 5)), rule.lastOccurrence(start));
+    }
+
+    @Test
+    void negativeMonthDayResolvesFromEndOfShortMonths() {
+        RecurrenceRule lastDay = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31,-1");
+        LocalDate start = LocalDate.of(2023, 1, 1);
+
+        assertEquals(List.of(LocalDate.of(2023, 1, 31), LocalDate.of(2023, 2, 28), LocalDate.of(2023, 3, 31),
+                        LocalDate.of(2023, 4, 30)),
+                lastDay.occurrencesBetween(start, start, LocalDate.of(2023, 4, 30)));
+        assertTrue(lastDay.occursOn(start, LocalDate.of(2024, 2, 29)));
+
+        RecurrenceRule firstOfLongMonths = RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=-31");
+        assertEquals(List.of(LocalDate.of(2024, 1, 1), LocalDate.of(2024, 3, 1)),
+                firstOfLongMonths.occurrencesBetween(start, LocalDate.of(2024, 1, 1), LocalDate.of(2024, 4, 30)));
+    }
+
+    @Test
+    void occursOnAndLastOccurrence() {
+        RecurrenceRule weekly = RecurrenceRule.parse("FREQ=WEEKLY;BYDAY=MO");
+        LocalDate start = LocalDate.of(2024, 1, 1);
+
+        assertTrue(weekly.occursOn(start, LocalDate.of(2024, 1, 8)));
+        assertFalse(weekly.occursOn(start, LocalDate.of(2024, 1, 9)));
+        assertFalse(weekly.occursOn(start, LocalDate.of(2023, 12, 25)));
+        assertEquals(Optional.empty(), weekly.lastOccurrence(start));
+        assertEquals(Optional.of(LocalDate.of(2024, 5, 31)),
+                RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=31;COUNT=3").lastOccurrence(start));
+    }
+
+    @Test
+    void rejectsUnsupportedCombinations() {
+        assertThrows(IllegalArgumentException.class,
+                () -> RecurrenceRule.parse("FREQ=DAILY;COUNT=3;UNTIL=20240105"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYDAY=MO"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=DAILY;UNTIL=2024-01-05"));
+        assertThrows(IllegalArgumentException.class, () -> RecurrenceRule.parse("FREQ=MONTHLY;BYMONTHDAY=0"));
+    }
+
+    /**
+     * 조회 시작일의 주기로 건너뛴 결과가 시작일부터 모두 계산한 결과와 같은지 확인하고 반환합니다.
+     */
+    private static List<LocalDate> assertSkipAheadMatchesFullScan(RecurrenceRule rule, LocalDate start,
+                                                                  LocalDate from, LocalDate to) {
+        List<LocalDate> skipped = rule.occurrencesBetween(start, from, to);
+        List<LocalDate> scanned = rule.occurrencesBetween(start, start, to).stream()
+                .filter(date -> !date.isBefore(from))
+                .toList();
+        assertEquals(scanned, skipped);
+        return skipped;
+    }
+}